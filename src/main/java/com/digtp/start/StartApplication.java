@@ -4,24 +4,40 @@
  */
 package com.digtp.start;
 
+import com.digtp.start.config.CancellableDataSource;
+import com.digtp.start.config.RoutingDataSource;
+import com.digtp.start.config.RoutingDataSourceProperties;
 import com.vaadin.flow.component.page.AppShellConfigurator;
 import com.vaadin.flow.component.page.Push;
 import com.vaadin.flow.server.PWA;
 import com.vaadin.flow.theme.Theme;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.SQLException;
+import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
 import javax.sql.DataSource;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.actuate.autoconfigure.health.ConditionalOnEnabledHealthIndicator;
+import org.springframework.boot.actuate.health.CompositeHealthContributor;
+import org.springframework.boot.actuate.health.HealthContributor;
+import org.springframework.boot.actuate.jdbc.DataSourceHealthIndicator;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.info.ProjectInfoAutoConfiguration;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 import org.springframework.boot.context.event.ApplicationStartedEvent;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.event.EventListener;
 import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
 
 /**
  * Main Spring Boot application class.
@@ -33,6 +49,7 @@ import org.springframework.core.env.Environment;
 @Theme("start")
 @PWA(name = "Start", shortName = "Start", offline = false)
 @SpringBootApplication(exclude = ProjectInfoAutoConfiguration.class)
+@EnableConfigurationProperties(RoutingDataSourceProperties.class)
 @Slf4j
 @RequiredArgsConstructor
 @SuppressWarnings({
@@ -74,14 +91,56 @@ public class StartApplication implements AppShellConfigurator {
     /**
      * Creates primary data source bean.
      *
+     * <p>The primary pool is configured from {@code main.datasource.hikari} and serves
+     * interactive work. When {@code main.datasource.workloads.*} pools or
+     * {@code main.datasource.replicas[*]} are configured, it is wrapped in a
+     * {@link RoutingDataSource} that sends batch/system work to their own pools and
+     * read-only work to the replicas. Connections are handed out through a
+     * {@link CancellableDataSource}, which applies statement timeouts and cancellation.
+     *
      * @param dataSourceProperties data source properties
+     * @param routingDataSourceProperties workload pool and read replica settings
+     * @param meterRegistry registry for pool and routing metrics
      * @return data source
      */
     @Bean
     @Primary
-    @ConfigurationProperties("main.datasource.hikari")
-    DataSource dataSource(final DataSourceProperties dataSourceProperties) {
-        return dataSourceProperties.initializeDataSourceBuilder().build();
+    DataSource dataSource(
+            final DataSourceProperties dataSourceProperties,
+            final RoutingDataSourceProperties routingDataSourceProperties,
+            final MeterRegistry meterRegistry) {
+        final HikariDataSource primary = dataSourceProperties
+                .initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("main.datasource.hikari", Bindable.ofInstance(primary));
+        return new CancellableDataSource(
+                RoutingDataSource.create(primary, routingDataSourceProperties, meterRegistry), meterRegistry);
+    }
+
+    /**
+     * Creates the {@code db} health contributor.
+     *
+     * <p>Boot reports every pool of an {@link AbstractRoutingDataSource} bean, but only when the
+     * bean is the routing data source itself; behind {@link CancellableDataSource} it would
+     * check the current pool only. The pools are unwrapped and reported one by one.
+     *
+     * @param dataSource primary data source
+     * @return health of every pool, or of the data source if it does not route
+     * @throws SQLException if the data source cannot be unwrapped
+     */
+    @Bean
+    @ConditionalOnEnabledHealthIndicator("db")
+    HealthContributor dbHealthContributor(final DataSource dataSource) throws SQLException {
+        if (!dataSource.isWrapperFor(AbstractRoutingDataSource.class)) {
+            return new DataSourceHealthIndicator(dataSource);
+        }
+        final Map<String, HealthContributor> pools = new TreeMap<>();
+        dataSource
+                .unwrap(AbstractRoutingDataSource.class)
+                .getResolvedDataSources()
+                .forEach((pool, target) -> pools.put(pool.toString(), new DataSourceHealthIndicator(target)));
+        return CompositeHealthContributor.fromMap(pools);
     }
 
     /**
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.cache;
+
+import com.digtp.start.entity.User;
+import io.jmix.core.event.EntityChangedEvent;
+import io.jmix.core.event.EntitySavingEvent;
+import io.jmix.securitydata.entity.RoleAssignmentEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Forwards committed User and role assignment changes to {@link PostgresCacheInvalidationBus}.
+ *
+ * <p>User changes are published by user ID, role assignment changes by the assignee's
+ * username. Both are queued only after the transaction commits, so other pods never
+ * reload uncommitted state.
+ */
+@Component
+@ConditionalOnProperty(name = "start.cache.invalidation.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public final class CacheInvalidationEntityListener {
+
+    private final PostgresCacheInvalidationBus invalidationBus;
+
+    /**
+     * Queues a user invalidation after commit.
+     *
+     * @param event user changed event
+     */
+    @TransactionalEventListener
+    public void onUserChangedAfterCommit(final EntityChangedEvent<User> event) {
+        invalidationBus.publish(CacheRegion.USER, event.getEntityId().getValue().toString());
+    }
+
+    /**
+     * Queues a role assignment invalidation after commit.
+     *
+     * @param event role assignment saving event
+     */
+    @EventListener
+    public void onRoleAssignmentSaving(final EntitySavingEvent<RoleAssignmentEntity> event) {
+        final String username = event.getEntity().getUsername();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidationBus.publish(CacheRegion.ROLE_ASSIGNMENT, username);
+                }
+            });
+        } else {
+            invalidationBus.publish(CacheRegion.ROLE_ASSIGNMENT, username);
+        }
+        log.debug("Role assignment invalidation queued: username={}", username);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.cache;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Application event asking local caches to drop entries changed on another pod.
+ *
+ * <p>Published by {@link PostgresCacheInvalidationBus} for every notification received
+ * from other pods. Changes made on the local pod are not re-published, as local caches
+ * already invalidate themselves after commit.
+ *
+ * @param keys invalidated keys per cache region
+ * @param flushAll whether all entries of all regions must be dropped (e.g. after reconnect,
+ *     when notifications may have been missed)
+ */
+public record CacheInvalidationEvent(Map<CacheRegion, Set<String>> keys, boolean flushAll) {
+
+    /**
+     * Creates an event from a set of keys.
+     *
+     * @param keys invalidated keys per cache region
+     */
+    public CacheInvalidationEvent {
+        keys = Map.copyOf(keys);
+    }
+
+    /**
+     * Creates an event that drops all entries of all regions.
+     *
+     * @return full flush event
+     */
+    public static CacheInvalidationEvent flushAllEvent() {
+        return new CacheInvalidationEvent(Map.of(), true);
+    }
+
+    /**
+     * Returns invalidated keys of the given region.
+     *
+     * @param region cache region
+     * @return keys, empty if the region is not affected
+     */
+    public Set<String> keysOf(final CacheRegion region) {
+        return keys.getOrDefault(region, Set.of());
+    }
+}
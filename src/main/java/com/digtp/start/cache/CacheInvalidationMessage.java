@@ -0,0 +1,146 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.cache;
+
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compact wire format of cache invalidation notifications.
+ *
+ * <p>Payload layout: {@code 1|<nodeId>|<sentAtMillis>|<body>}, where body is either
+ * {@code *} (flush all) or region groups such as {@code U:id1,id2;R:alice}. Keys are
+ * URL-encoded, so payloads are plain ASCII and one character equals one byte.
+ *
+ * <p>A message with many keys is split into several payloads that each fit into the
+ * PostgreSQL NOTIFY limit (8000 bytes by default).
+ *
+ * @param nodeId ID of the pod that sent the message
+ * @param sentAtMillis send time in epoch milliseconds, used for lag metrics
+ * @param flushAll whether receivers must drop all entries
+ * @param keys invalidated keys per cache region
+ */
+public record CacheInvalidationMessage(
+        String nodeId, long sentAtMillis, boolean flushAll, Map<CacheRegion, Set<String>> keys) {
+
+    private static final String VERSION = "1";
+    private static final String FIELD_SEPARATOR = "|";
+    private static final String FLUSH_ALL_BODY = "*";
+    private static final char REGION_SEPARATOR = ';';
+    private static final char REGION_KEYS_SEPARATOR = ':';
+    private static final char KEY_SEPARATOR = ',';
+    private static final int HEADER_FIELDS = 4;
+
+    /**
+     * Creates a message.
+     *
+     * @param nodeId ID of the pod that sent the message
+     * @param sentAtMillis send time in epoch milliseconds
+     * @param flushAll whether receivers must drop all entries
+     * @param keys invalidated keys per cache region
+     */
+    public CacheInvalidationMessage {
+        keys = Map.copyOf(keys);
+    }
+
+    /**
+     * Encodes the message into one or more payloads of at most {@code maxPayloadBytes}.
+     *
+     * @param maxPayloadBytes maximum payload size in bytes
+     * @return payloads, never empty unless there is nothing to invalidate
+     */
+    public List<String> encode(final int maxPayloadBytes) {
+        final String header = VERSION + FIELD_SEPARATOR + nodeId + FIELD_SEPARATOR + sentAtMillis + FIELD_SEPARATOR;
+        if (flushAll) {
+            return List.of(header + FLUSH_ALL_BODY);
+        }
+
+        final List<String> payloads = new ArrayList<>();
+        final StringBuilder body = new StringBuilder();
+        for (final Map.Entry<CacheRegion, Set<String>> entry : keys.entrySet()) {
+            boolean regionOpen = false;
+            for (final String key : entry.getValue()) {
+                final String encodedKey = URLEncoder.encode(key, StandardCharsets.UTF_8);
+                final String segment = regionOpen
+                        ? KEY_SEPARATOR + encodedKey
+                        : regionPrefix(body, entry.getKey()) + encodedKey;
+                if (!body.isEmpty() && header.length() + body.length() + segment.length() > maxPayloadBytes) {
+                    payloads.add(header + body);
+                    body.setLength(0);
+                    body.append(regionPrefix(body, entry.getKey())).append(encodedKey);
+                } else {
+                    body.append(segment);
+                }
+                regionOpen = true;
+            }
+        }
+        if (!body.isEmpty()) {
+            payloads.add(header + body);
+        }
+        return payloads;
+    }
+
+    /**
+     * Decodes a payload produced by {@link #encode(int)}.
+     *
+     * @param payload notification payload
+     * @return decoded message
+     * @throws SafeIllegalArgumentException if the payload is malformed or of an unknown version
+     */
+    public static CacheInvalidationMessage decode(final String payload) {
+        final String[] fields = payload.split("\\|", HEADER_FIELDS);
+        if (fields.length != HEADER_FIELDS || !VERSION.equals(fields[0])) {
+            throw new SafeIllegalArgumentException("Malformed cache invalidation payload");
+        }
+        final String nodeId = fields[1];
+        final long sentAtMillis;
+        try {
+            sentAtMillis = Long.parseLong(fields[2]);
+        } catch (final NumberFormatException exception) {
+            throw new SafeIllegalArgumentException("Malformed cache invalidation timestamp", exception);
+        }
+        final String body = fields[3];
+        if (FLUSH_ALL_BODY.equals(body)) {
+            return new CacheInvalidationMessage(nodeId, sentAtMillis, true, Map.of());
+        }
+
+        final Map<CacheRegion, Set<String>> keys = new EnumMap<>(CacheRegion.class);
+        for (final String group : body.split(String.valueOf(REGION_SEPARATOR))) {
+            if (group.length() < 2 || group.charAt(1) != REGION_KEYS_SEPARATOR) {
+                throw new SafeIllegalArgumentException("Malformed cache invalidation region group");
+            }
+            final Set<String> regionKeys = keys.computeIfAbsent(
+                    CacheRegion.fromCode(group.charAt(0)), _region -> new LinkedHashSet<>());
+            for (final String encodedKey : group.substring(2).split(String.valueOf(KEY_SEPARATOR))) {
+                if (!encodedKey.isEmpty()) {
+                    regionKeys.add(URLDecoder.decode(encodedKey, StandardCharsets.UTF_8));
+                }
+            }
+        }
+        return new CacheInvalidationMessage(nodeId, sentAtMillis, false, keys);
+    }
+
+    /**
+     * Converts the message into a local application event.
+     *
+     * @return cache invalidation event
+     */
+    public CacheInvalidationEvent toEvent() {
+        return flushAll ? CacheInvalidationEvent.flushAllEvent() : new CacheInvalidationEvent(keys, false);
+    }
+
+    private static String regionPrefix(final CharSequence body, final CacheRegion region) {
+        final String prefix = String.valueOf(region.code()) + REGION_KEYS_SEPARATOR;
+        return body.isEmpty() ? prefix : REGION_SEPARATOR + prefix;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.cache;
+
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+
+/**
+ * Logical cache regions that can be invalidated across pods.
+ *
+ * <p>Each region defines what its invalidation keys mean and has a one-character
+ * code used in compact notification payloads.
+ */
+public enum CacheRegion {
+
+    /**
+     * User entity state. Keys are user IDs.
+     */
+    USER('U'),
+
+    /**
+     * Role assignments of a user. Keys are usernames.
+     */
+    ROLE_ASSIGNMENT('R'),
+
+    /**
+     * Users deleted by a bulk operation. Keys are user IDs, also published in {@link #USER},
+     * so only caches that would otherwise re-read the users need to handle this region.
+     */
+    DELETED_USER('D');
+
+    private final char code;
+
+    CacheRegion(final char code) {
+        this.code = code;
+    }
+
+    /**
+     * Returns the payload code of this region.
+     *
+     * @return one-character code
+     */
+    public char code() {
+        return code;
+    }
+
+    /**
+     * Resolves a region by its payload code.
+     *
+     * @param code one-character code
+     * @return cache region
+     * @throws SafeIllegalArgumentException if the code is unknown
+     */
+    public static CacheRegion fromCode(final char code) {
+        for (final CacheRegion region : values()) {
+            if (region.code == code) {
+                return region;
+            }
+        }
+        throw new SafeIllegalArgumentException("Unknown cache region code");
+    }
+}
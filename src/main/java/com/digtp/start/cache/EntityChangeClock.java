@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.cache;
+
+import com.digtp.start.entity.User;
+import io.jmix.core.event.EntityChangedEvent;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Counts committed changes per entity class, so caches of query results can tell whether
+ * an entry may be stale.
+ *
+ * <p>A cache reads {@link #current} before it loads and stores the value with the result;
+ * the result is stale once the clock has moved on. The clock of an entity advances:
+ * <ul>
+ *   <li>after commit of a transaction that published an {@link EntityChangedEvent} for it</li>
+ *   <li>on {@link CacheInvalidationEvent}s of its region, for bulk changes and changes on
+ *       other pods</li>
+ * </ul>
+ * Role assignment invalidations and full flushes advance the clocks of all entities, as
+ * changed roles can change which rows a user sees.
+ */
+@Component
+@Slf4j
+public final class EntityChangeClock {
+
+    private final Map<Class<?>, AtomicLong> clocks = new ConcurrentHashMap<>();
+    private final AtomicLong global = new AtomicLong();
+
+    /**
+     * Returns the current value of an entity's clock.
+     *
+     * @param entityClass entity class
+     * @return value that changes with every committed change of the entity
+     */
+    public long current(final Class<?> entityClass) {
+        return global.get() + clock(entityClass).get();
+    }
+
+    /**
+     * Advances the clock of the changed entity after commit.
+     *
+     * @param event entity changed event
+     */
+    @EventListener
+    public void onEntityChanged(final EntityChangedEvent<?> event) {
+        final Class<?> entityClass = event.getEntityId().getEntityClass();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clock(entityClass).incrementAndGet();
+                }
+            });
+        } else {
+            clock(entityClass).incrementAndGet();
+        }
+    }
+
+    /**
+     * Advances clocks of the invalidated regions.
+     *
+     * @param event cache invalidation event
+     */
+    @EventListener
+    public void onCacheInvalidation(final CacheInvalidationEvent event) {
+        if (event.flushAll() || !event.keysOf(CacheRegion.ROLE_ASSIGNMENT).isEmpty()) {
+            global.incrementAndGet();
+        } else if (!event.keysOf(CacheRegion.USER).isEmpty()) {
+            clock(User.class).incrementAndGet();
+        }
+        log.debug("Entity change clocks advanced: flushAll={}, regions={}", event.flushAll(), event.keys().keySet());
+    }
+
+    private AtomicLong clock(final Class<?> entityClass) {
+        return clocks.computeIfAbsent(entityClass, _class -> new AtomicLong());
+    }
+}
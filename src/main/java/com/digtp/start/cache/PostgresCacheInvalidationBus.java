@@ -0,0 +1,329 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.cache;
+
+import com.digtp.start.config.DataSourceRouting;
+import com.digtp.start.config.WorkloadClass;
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cross-pod cache invalidation bus based on PostgreSQL LISTEN/NOTIFY.
+ *
+ * <p>Invalidations published on this pod are coalesced in memory and flushed every
+ * {@code start.cache.invalidation.flush-interval} as compact batched payloads
+ * ({@link CacheInvalidationMessage}) via {@code pg_notify}. A dedicated connection,
+ * opened outside of the Hikari pool, {@code LISTEN}s on the channel and republishes
+ * notifications from other pods as local {@link CacheInvalidationEvent}s.
+ *
+ * <p>Notifications sent while the listener connection is down are lost, so after every
+ * reconnect a full flush event is published locally. A batch that fails to send is merged
+ * back into the pending invalidations and retried with the next flush; when more than
+ * {@code start.cache.invalidation.max-pending-keys} keys pile up, they are replaced by a
+ * single flush-all notification.
+ *
+ * <p>Metrics:
+ * <ul>
+ *   <li>{@code start.cache.invalidation.lag} - time from NOTIFY on the sender to receipt</li>
+ *   <li>{@code start.cache.invalidation.sent} / {@code .received} - payload counters</li>
+ *   <li>{@code start.cache.invalidation.reconnects} - listener reconnects (full flushes)</li>
+ *   <li>{@code start.cache.invalidation.send-failures} - flushes requeued after a failed send</li>
+ * </ul>
+ */
+@Component
+@ConditionalOnProperty(name = "start.cache.invalidation.enabled", havingValue = "true")
+@Slf4j
+public final class PostgresCacheInvalidationBus implements ApplicationListener<ApplicationReadyEvent>, DisposableBean {
+
+    /**
+     * PostgreSQL limits NOTIFY payloads to 8000 bytes; keep a margin for safety.
+     */
+    private static final int MAX_PAYLOAD_BYTES = 7900;
+
+    private static final Pattern CHANNEL_PATTERN = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+    private static final int NODE_ID_LENGTH = 8;
+
+    private final DataSource dataSource;
+    private final DataSourceProperties dataSourceProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String channel;
+    private final Duration flushInterval;
+    private final Duration pollTimeout;
+    private final Duration reconnectDelay;
+    private final int maxPendingKeys;
+
+    private final String nodeId = UUID.randomUUID().toString().substring(0, NODE_ID_LENGTH);
+    private final Map<CacheRegion, Set<String>> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean pendingFlushAll = new AtomicBoolean();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(
+            runnable -> newDaemonThread(runnable, "cache-invalidation-flusher"));
+    private final Thread listenerThread = newDaemonThread(this::listenLoop, "cache-invalidation-listener");
+
+    private final Timer lagTimer;
+    private final Counter sentCounter;
+    private final Counter receivedCounter;
+    private final Counter reconnectCounter;
+    private final Counter sendFailureCounter;
+
+    private volatile boolean running;
+
+    /**
+     * Creates the invalidation bus.
+     *
+     * @param dataSource primary data source used to send notifications
+     * @param dataSourceProperties primary data source properties used to open the listener connection
+     * @param eventPublisher publisher for local invalidation events
+     * @param meterRegistry registry for bus metrics
+     * @param channel notification channel name
+     * @param flushInterval interval between batched sends
+     * @param pollTimeout listener poll timeout
+     * @param reconnectDelay delay before reconnecting after a listener failure
+     * @param maxPendingKeys pending keys kept for retry before they are replaced by a flush-all
+     */
+    public PostgresCacheInvalidationBus(
+            final DataSource dataSource,
+            final DataSourceProperties dataSourceProperties,
+            final ApplicationEventPublisher eventPublisher,
+            final MeterRegistry meterRegistry,
+            @Value("${start.cache.invalidation.channel:start_cache_invalidation}") final String channel,
+            @Value("${start.cache.invalidation.flush-interval:100ms}") final Duration flushInterval,
+            @Value("${start.cache.invalidation.poll-timeout:1s}") final Duration pollTimeout,
+            @Value("${start.cache.invalidation.reconnect-delay:5s}") final Duration reconnectDelay,
+            @Value("${start.cache.invalidation.max-pending-keys:10000}") final int maxPendingKeys) {
+        if (!CHANNEL_PATTERN.matcher(channel).matches()) {
+            throw new SafeIllegalArgumentException("Invalid cache invalidation channel name");
+        }
+        this.dataSource = dataSource;
+        this.dataSourceProperties = dataSourceProperties;
+        this.eventPublisher = eventPublisher;
+        this.channel = channel;
+        this.flushInterval = flushInterval;
+        this.pollTimeout = pollTimeout;
+        this.reconnectDelay = reconnectDelay;
+        this.maxPendingKeys = maxPendingKeys;
+        this.lagTimer = Timer.builder("start.cache.invalidation.lag")
+                .description("Time from NOTIFY on the sending pod to receipt on this pod")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.sentCounter = meterRegistry.counter("start.cache.invalidation.sent");
+        this.receivedCounter = meterRegistry.counter("start.cache.invalidation.received");
+        this.reconnectCounter = meterRegistry.counter("start.cache.invalidation.reconnects");
+        this.sendFailureCounter = meterRegistry.counter("start.cache.invalidation.send-failures");
+    }
+
+    /**
+     * Queues an invalidation for other pods.
+     *
+     * <p>Must be called after commit. Repeated invalidations of the same key within one
+     * flush interval are coalesced into a single entry.
+     *
+     * @param region cache region
+     * @param key invalidated key
+     */
+    public void publish(final CacheRegion region, final String key) {
+        // compute() is atomic with remove() in drainPending(), so no key is lost during a flush
+        pending.compute(region, (_region, keys) -> {
+            final Set<String> regionKeys = keys != null ? keys : new LinkedHashSet<>();
+            regionKeys.add(key);
+            return regionKeys;
+        });
+    }
+
+    /**
+     * Starts the listener and the flusher once the application is ready.
+     *
+     * @param _event application ready event (unused, required by interface)
+     */
+    @Override
+    public void onApplicationEvent(final ApplicationReadyEvent _event) {
+        running = true;
+        listenerThread.start();
+        flusher.scheduleWithFixedDelay(
+                this::flushPending, flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Cache invalidation bus started: channel={}, nodeId={}", channel, nodeId);
+    }
+
+    @Override
+    public void destroy() {
+        running = false;
+        flusher.shutdown();
+        flushPending();
+        listenerThread.interrupt();
+        log.info("Cache invalidation bus stopped: channel={}, nodeId={}", channel, nodeId);
+    }
+
+    /**
+     * Sends all pending invalidations as batched NOTIFY payloads.
+     */
+    void flushPending() {
+        final boolean flushAll = pendingFlushAll.getAndSet(false);
+        final Map<CacheRegion, Set<String>> batch = drainPending();
+        if (!flushAll && batch.isEmpty()) {
+            return;
+        }
+        // A flush-all covers the keys queued with it
+        final CacheInvalidationMessage message = new CacheInvalidationMessage(
+                nodeId, System.currentTimeMillis(), flushAll, flushAll ? Map.of() : batch);
+        DataSourceRouting.runWithWorkload(WorkloadClass.SYSTEM, () -> send(message));
+    }
+
+    private void send(final CacheInvalidationMessage message) {
+        final List<String> payloads = message.encode(MAX_PAYLOAD_BYTES);
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement("select pg_notify(?, ?)")) {
+            for (final String payload : payloads) {
+                statement.setString(1, channel);
+                statement.setString(2, payload);
+                statement.execute();
+                sentCounter.increment();
+            }
+            log.debug(
+                    "Cache invalidations sent: payloads={}, regions={}, flushAll={}",
+                    payloads.size(),
+                    message.keys().keySet(),
+                    message.flushAll());
+        } catch (final SQLException exception) {
+            // Payloads sent before the failure are sent again: invalidations are idempotent
+            sendFailureCounter.increment();
+            requeue(message);
+            log.warn(
+                    "Failed to send cache invalidations, retrying with next flush: {}",
+                    exception.getMessage(),
+                    exception);
+        }
+    }
+
+    private void requeue(final CacheInvalidationMessage message) {
+        if (message.flushAll()) {
+            pendingFlushAll.set(true);
+            return;
+        }
+        message.keys().forEach((region, keys) -> keys.forEach(key -> publish(region, key)));
+        final int pendingKeys = pending.values().stream().mapToInt(Set::size).sum();
+        if (pendingKeys > maxPendingKeys) {
+            pendingFlushAll.set(true);
+            drainPending();
+            log.warn("Too many pending cache invalidations, replaced by flush-all: keys={}", pendingKeys);
+        }
+    }
+
+    private Map<CacheRegion, Set<String>> drainPending() {
+        final Map<CacheRegion, Set<String>> batch = new EnumMap<>(CacheRegion.class);
+        for (final CacheRegion region : CacheRegion.values()) {
+            final Set<String> keys = pending.remove(region);
+            if (keys != null && !keys.isEmpty()) {
+                batch.put(region, keys);
+            }
+        }
+        return batch;
+    }
+
+    private void listenLoop() {
+        boolean firstConnect = true;
+        while (running) {
+            try (Connection connection = openListenerConnection()) {
+                if (!firstConnect) {
+                    reconnectCounter.increment();
+                    eventPublisher.publishEvent(CacheInvalidationEvent.flushAllEvent());
+                    log.info("Cache invalidation listener reconnected, local caches flushed: channel={}", channel);
+                }
+                firstConnect = false;
+                receiveNotifications(connection.unwrap(PGConnection.class));
+            } catch (final SQLException exception) {
+                log.warn("Cache invalidation listener connection failed: {}", exception.getMessage(), exception);
+                firstConnect = false;
+                sleepBeforeReconnect();
+            }
+        }
+    }
+
+    private Connection openListenerConnection() throws SQLException {
+        final Connection connection = DriverManager.getConnection(
+                dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword());
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            // Channel name is validated against CHANNEL_PATTERN in the constructor
+            statement.execute("LISTEN " + channel);
+        }
+        return connection;
+    }
+
+    private void receiveNotifications(final PGConnection connection) throws SQLException {
+        while (running) {
+            final PGNotification[] notifications = connection.getNotifications((int) pollTimeout.toMillis());
+            if (notifications == null) {
+                continue;
+            }
+            for (final PGNotification notification : notifications) {
+                handleNotification(notification.getParameter());
+            }
+        }
+    }
+
+    private void handleNotification(final String payload) {
+        final CacheInvalidationMessage message;
+        try {
+            message = CacheInvalidationMessage.decode(payload);
+        } catch (final IllegalArgumentException exception) {
+            log.warn("Ignoring malformed cache invalidation payload: {}", exception.getMessage());
+            return;
+        }
+        if (nodeId.equals(message.nodeId())) {
+            return;
+        }
+        receivedCounter.increment();
+        lagTimer.record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - message.sentAtMillis())));
+        eventPublisher.publishEvent(message.toEvent());
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(reconnectDelay.toMillis());
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private static Thread newDaemonThread(final Runnable runnable, final String name) {
+        final Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+}
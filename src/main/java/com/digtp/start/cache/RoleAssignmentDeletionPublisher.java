@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.cache;
+
+import io.jmix.securitydata.entity.RoleAssignmentEntity;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.persistence.descriptors.DescriptorEvent;
+import org.eclipse.persistence.descriptors.DescriptorEventAdapter;
+import org.eclipse.persistence.jpa.JpaEntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Publishes a {@link CacheRegion#ROLE_ASSIGNMENT} invalidation when a role assignment is
+ * deleted.
+ *
+ * <p>Jmix sends {@code EntitySavingEvent}s for saved role assignments only, and
+ * {@link RoleAssignmentEntity} does not publish {@code EntityChangedEvent}s, so deletions are
+ * observed through an EclipseLink descriptor listener. After commit, the assignee's username
+ * is published as a local {@link CacheInvalidationEvent} (user details cache) and, when
+ * enabled, through {@link PostgresCacheInvalidationBus} to other pods.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public final class RoleAssignmentDeletionPublisher extends DescriptorEventAdapter {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<PostgresCacheInvalidationBus> invalidationBus;
+
+    /**
+     * Registers the listener on the role assignment descriptor.
+     */
+    @PostConstruct
+    public void register() {
+        entityManagerFactory
+                .unwrap(JpaEntityManagerFactory.class)
+                .getServerSession()
+                .getDescriptor(RoleAssignmentEntity.class)
+                .getEventManager()
+                .addListener(this);
+    }
+
+    @Override
+    public void postDelete(final DescriptorEvent event) {
+        final String username = ((RoleAssignmentEntity) event.getSource()).getUsername();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(username);
+                }
+            });
+        } else {
+            publish(username);
+        }
+    }
+
+    private void publish(final String username) {
+        eventPublisher.publishEvent(
+                new CacheInvalidationEvent(Map.of(CacheRegion.ROLE_ASSIGNMENT, Set.of(username)), false));
+        invalidationBus.ifAvailable(bus -> bus.publish(CacheRegion.ROLE_ASSIGNMENT, username));
+        log.debug("Role assignment deletion published: username={}", username);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.cache;
+
+import com.digtp.start.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.persistence.jpa.JpaEntityManagerFactory;
+import org.eclipse.persistence.sessions.IdentityMapAccessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the EclipseLink shared (L2) entity cache coherent across pods.
+ *
+ * <p>EclipseLink updates the shared cache of the pod that commits a change, but other
+ * pods keep serving the old state. This coordinator uses {@link PostgresCacheInvalidationBus}
+ * as the coordination transport: user IDs committed on other pods arrive as
+ * {@link CacheInvalidationEvent}s and are invalidated in the local shared cache one by one.
+ * A full flush event (listener reconnect) invalidates all cached users.
+ *
+ * <p>Enabled by the {@code shared-cache} profile, which also turns on the shared cache
+ * for read-mostly entities and the invalidation bus.
+ */
+@Component
+@ConditionalOnProperty(name = "start.cache.shared-entity.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public final class SharedEntityCacheCoordinator {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Invalidates shared cache entries changed on another pod.
+     *
+     * @param event cross-pod cache invalidation event
+     */
+    @EventListener
+    public void onCacheInvalidation(final CacheInvalidationEvent event) {
+        final IdentityMapAccessor identityMapAccessor = getIdentityMapAccessor();
+        if (event.flushAll()) {
+            identityMapAccessor.invalidateClass(User.class);
+            log.debug("Shared entity cache flushed by invalidation bus: entity=User");
+            return;
+        }
+        final Set<String> userIds = event.keysOf(CacheRegion.USER);
+        for (final String userId : userIds) {
+            identityMapAccessor.invalidateObject(UUID.fromString(userId), User.class);
+        }
+        if (!userIds.isEmpty()) {
+            log.debug("Shared entity cache entries invalidated: entity=User, count={}", userIds.size());
+        }
+    }
+
+    /**
+     * Returns the identity map accessor of the EclipseLink server session.
+     *
+     * @return shared cache accessor
+     */
+    IdentityMapAccessor getIdentityMapAccessor() {
+        return entityManagerFactory
+                .unwrap(JpaEntityManagerFactory.class)
+                .getServerSession()
+                .getIdentityMapAccessor();
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.cache;
+
+import com.digtp.start.config.DataSourceRouting;
+import com.digtp.start.config.WorkloadClass;
+import com.digtp.start.entity.User;
+import io.jmix.core.MessageTools;
+import io.jmix.core.Messages;
+import io.jmix.core.Resources;
+import io.jmix.core.UnconstrainedDataManager;
+import io.jmix.core.entity.KeyValueEntity;
+import io.jmix.core.security.SystemAuthenticator;
+import io.jmix.core.security.UserRepository;
+import io.jmix.flowui.view.ViewInfo;
+import io.jmix.flowui.view.ViewRegistry;
+import io.jmix.security.role.ResourceRoleRepository;
+import io.jmix.security.role.RoleAssignmentRepository;
+import io.jmix.security.role.RowLevelRoleRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Warms up hot caches after startup and gates Kubernetes readiness on it.
+ *
+ * <p>Runs after {@link ApplicationReadyEvent} and loads the configured hot sets in parallel:
+ * <ul>
+ *   <li>{@code users} - up to {@code start.cache.warmup.users.limit} active users through the
+ *       {@link UserRepository} (fills the user details cache) and the user list query
+ *       (fills the JPQL parse cache)</li>
+ *   <li>{@code role-assignments} - role assignments and resource/row-level role caches</li>
+ *   <li>{@code messages} - configured message keys for every available locale</li>
+ *   <li>{@code views} - view controllers and XML descriptors of the configured views</li>
+ * </ul>
+ *
+ * <p>Exposed as the {@code cacheWarmup} health indicator, which is part of the readiness
+ * group: it reports {@code OUT_OF_SERVICE} until all phases finish or
+ * {@code start.cache.warmup.timeout} expires. Per-phase durations are exported as
+ * {@code start.cache.warmup.duration} timers tagged with {@code phase} and listed in the
+ * health details.
+ *
+ * <p>Phases run as {@link WorkloadClass#BATCH} work, so warm-up queries use the batch pool
+ * and leave interactive connections to logins.
+ */
+@Component("cacheWarmup")
+@ConditionalOnProperty(name = "start.cache.warmup.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public final class StartupCacheWarmup implements ApplicationListener<ApplicationReadyEvent>, HealthIndicator {
+
+    private final UnconstrainedDataManager dataManager;
+    private final UserRepository userRepository;
+    private final RoleAssignmentRepository roleAssignmentRepository;
+    private final ResourceRoleRepository resourceRoleRepository;
+    private final RowLevelRoleRepository rowLevelRoleRepository;
+    private final Messages messages;
+    private final MessageTools messageTools;
+    private final ViewRegistry viewRegistry;
+    private final Resources resources;
+    private final SystemAuthenticator systemAuthenticator;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${start.cache.warmup.timeout:60s}")
+    private Duration timeout;
+
+    @Value("${start.cache.warmup.users.limit:500}")
+    private int usersLimit;
+
+    @Value("${start.cache.warmup.messages:}")
+    private List<String> messageKeys;
+
+    @Value("${start.cache.warmup.views:}")
+    private List<String> viewIds;
+
+    private final Map<String, Long> phaseDurationsMs = new ConcurrentHashMap<>();
+
+    private volatile boolean finished;
+    private volatile boolean timedOut;
+
+    /**
+     * Starts the warm-up phases in the background.
+     *
+     * @param _event application ready event (unused, required by interface)
+     */
+    @Override
+    public void onApplicationEvent(final ApplicationReadyEvent _event) {
+        final Map<String, Runnable> phases = new LinkedHashMap<>();
+        phases.put("users", this::warmUpUsers);
+        phases.put("role-assignments", this::warmUpRoleAssignments);
+        phases.put("messages", this::warmUpMessages);
+        phases.put("views", this::warmUpViews);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(phases.size(), runnable -> {
+            final Thread thread = new Thread(runnable, "cache-warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final long startNanos = System.nanoTime();
+        final CompletableFuture<?>[] futures = phases.entrySet().stream()
+                .map(phase -> CompletableFuture.runAsync(() -> runPhase(phase.getKey(), phase.getValue()), executor))
+                .toArray(CompletableFuture[]::new);
+
+        CompletableFuture.allOf(futures)
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((_result, failure) -> {
+                    timedOut = failure != null;
+                    finished = true;
+                    executor.shutdownNow();
+                    final long totalMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+                    if (timedOut) {
+                        log.warn(
+                                "Cache warm-up timed out after {}ms, reporting ready: phases={}",
+                                totalMs,
+                                phaseDurationsMs);
+                    } else {
+                        log.info("Cache warm-up finished in {}ms: phases={}", totalMs, phaseDurationsMs);
+                    }
+                });
+    }
+
+    @Override
+    public Health health() {
+        final Health.Builder builder = finished ? Health.up() : Health.outOfService();
+        return builder.withDetail("timedOut", timedOut)
+                .withDetail("phaseDurationsMs", Map.copyOf(phaseDurationsMs))
+                .build();
+    }
+
+    /**
+     * Returns whether warm-up has finished or timed out.
+     *
+     * @return true once readiness is no longer gated
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    private void runPhase(final String name, final Runnable phase) {
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            DataSourceRouting.runWithWorkload(WorkloadClass.BATCH, () -> systemAuthenticator.runWithSystem(phase));
+        } catch (final RuntimeException exception) {
+            // Warm-up is best effort: a failed phase only means colder caches
+            log.warn("Cache warm-up phase failed: phase={}, error={}", name, exception.getMessage(), exception);
+        } finally {
+            final long durationNanos = sample.stop(Timer.builder("start.cache.warmup.duration")
+                    .description("Duration of a startup cache warm-up phase")
+                    .tag("phase", name)
+                    .register(meterRegistry));
+            phaseDurationsMs.put(name, TimeUnit.NANOSECONDS.toMillis(durationNanos));
+        }
+    }
+
+    private void warmUpUsers() {
+        final List<KeyValueEntity> usernames = dataManager
+                .loadValues("select e.username from User e where e.active = true order by e.username")
+                .properties("username")
+                .maxResults(usersLimit)
+                .list();
+        for (final KeyValueEntity row : usernames) {
+            userRepository.loadUserByUsername(row.getValue("username"));
+        }
+        dataManager
+                .load(User.class)
+                .query("select e from User e order by e.username")
+                .maxResults(1)
+                .list();
+        log.debug("Warm-up loaded {} active users", usernames.size());
+    }
+
+    private void warmUpRoleAssignments() {
+        final int assignments = roleAssignmentRepository.getAllAssignments().size();
+        final int resourceRoles = resourceRoleRepository.getAllRoles().size();
+        final int rowLevelRoles = rowLevelRoleRepository.getAllRoles().size();
+        log.debug(
+                "Warm-up loaded roles: assignments={}, resourceRoles={}, rowLevelRoles={}",
+                assignments,
+                resourceRoles,
+                rowLevelRoles);
+    }
+
+    private void warmUpMessages() {
+        final List<Locale> locales = messageTools.getAvailableLocales();
+        for (final Locale locale : locales) {
+            for (final String messageKey : messageKeys) {
+                messages.getMessage(messageKey, locale);
+            }
+        }
+        log.debug("Warm-up loaded {} message keys for locales {}", messageKeys.size(), locales);
+    }
+
+    private void warmUpViews() {
+        for (final String viewId : viewIds) {
+            final ViewInfo viewInfo = viewRegistry.getViewInfo(viewId);
+            viewInfo.getTemplatePath().ifPresent(resources::getResourceAsString);
+        }
+        log.debug("Warm-up loaded {} view descriptors", viewIds.size());
+    }
+}
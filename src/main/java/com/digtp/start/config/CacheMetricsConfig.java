@@ -7,6 +7,8 @@ package com.digtp.start.config;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
@@ -26,6 +28,9 @@ import org.springframework.lang.Nullable;
  * <p>Note: Jmix creates caches internally using Caffeine. This configuration
  * attempts to register metrics for these caches. If caches are not available
  * or already registered, warnings may appear but are non-critical.
+ *
+ * <p>Application caches that are not managed by the CacheManager (e.g. the user
+ * details cache) register themselves via {@link #registerCache}.
  */
 @Configuration
 @RequiredArgsConstructor
@@ -37,6 +42,12 @@ public class CacheMetricsConfig implements ApplicationListener<ApplicationReadyE
     @Nullable
     private final CacheManager cacheManager;
 
+    // FQN required to resolve name conflict with org.springframework.cache.Cache
+    // CHECKSTYLE:OFF: AvoidFullyQualifiedNames
+    private final Map<String, com.github.benmanes.caffeine.cache.Cache<?, ?>> applicationCaches =
+            new ConcurrentHashMap<>();
+    // CHECKSTYLE:ON: AvoidFullyQualifiedNames
+
     /**
      * Registers cache metrics after application is ready.
      *
@@ -54,6 +65,37 @@ public class CacheMetricsConfig implements ApplicationListener<ApplicationReadyE
         }
     }
 
+    /**
+     * Registers metrics for a Caffeine cache that is not managed by the CacheManager.
+     *
+     * <p>The cache must be built with {@code recordStats()} for hit/miss metrics
+     * to be reported.
+     *
+     * @param cacheName cache name used as the {@code cache} metric tag
+     * @param cache Caffeine cache to monitor
+     */
+    public void registerCache(
+            final String cacheName,
+            // FQN required to resolve name conflict with org.springframework.cache.Cache
+            // CHECKSTYLE:OFF: AvoidFullyQualifiedNames
+            final com.github.benmanes.caffeine.cache.Cache<?, ?> cache) {
+        // CHECKSTYLE:ON: AvoidFullyQualifiedNames
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, cacheName);
+        applicationCaches.put(cacheName, cache);
+        log.debug("Registered metrics for application cache: {}", cacheName);
+    }
+
+    /**
+     * Returns application caches registered via {@link #registerCache}.
+     *
+     * @return unmodifiable view of application caches by name
+     */
+    // CHECKSTYLE:OFF: AvoidFullyQualifiedNames
+    public Map<String, com.github.benmanes.caffeine.cache.Cache<?, ?>> getApplicationCaches() {
+        // CHECKSTYLE:ON: AvoidFullyQualifiedNames
+        return Map.copyOf(applicationCaches);
+    }
+
     /**
      * Registers metrics for all caches in the CacheManager.
      *
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sizing and expiry specification of a single Caffeine cache.
+ *
+ * <p>Bound from {@code start.cache.<name>.*}. All properties are optional; unset
+ * properties leave the corresponding Caffeine feature disabled. Statistics are
+ * recorded unless {@code record-stats=false}, so cache metrics report hits and misses.
+ *
+ * <p>{@code maximum-weight} weighs collection and map values by their size and any
+ * other value as 1, which bounds query caches by the number of cached IDs rather than
+ * by the number of queries.
+ *
+ * @param maximumSize maximum number of entries
+ * @param maximumWeight maximum total weight of entries, exclusive with {@code maximumSize}
+ * @param expireAfterWrite time after which an entry expires once written
+ * @param expireAfterAccess time after which an entry expires once last accessed
+ * @param refreshAfterWrite time after which an entry is refreshed, loading caches only
+ * @param softValues whether values are softly referenced and may be reclaimed by GC
+ * @param recordStats whether hit/miss statistics are recorded (default true)
+ */
+public record CacheSpec(
+        Long maximumSize,
+        Long maximumWeight,
+        Duration expireAfterWrite,
+        Duration expireAfterAccess,
+        Duration refreshAfterWrite,
+        Boolean softValues,
+        Boolean recordStats) {
+
+    /**
+     * Validates that size and weight bounds are not combined.
+     */
+    public CacheSpec {
+        if (maximumSize != null && maximumWeight != null) {
+            throw new SafeIllegalArgumentException("Cache maximum-size and maximum-weight are mutually exclusive");
+        }
+    }
+
+    /**
+     * Returns whether no property is set.
+     *
+     * <p>Other {@code start.cache.*} groups (e.g. {@code start.cache.warmup}) bind to
+     * empty specs and are not treated as caches.
+     *
+     * @return true if the spec sets nothing
+     */
+    public boolean isEmpty() {
+        return maximumSize == null
+                && maximumWeight == null
+                && expireAfterWrite == null
+                && expireAfterAccess == null
+                && refreshAfterWrite == null
+                && softValues == null
+                && recordStats == null;
+    }
+
+    /**
+     * Returns a spec where unset properties are taken from the given defaults.
+     *
+     * @param defaults spec supplying values for unset properties
+     * @return merged spec
+     */
+    public CacheSpec withDefaults(final CacheSpec defaults) {
+        return new CacheSpec(
+                maximumSize != null || maximumWeight != null ? maximumSize : defaults.maximumSize(),
+                maximumSize != null || maximumWeight != null ? maximumWeight : defaults.maximumWeight(),
+                expireAfterWrite != null ? expireAfterWrite : defaults.expireAfterWrite(),
+                expireAfterAccess != null ? expireAfterAccess : defaults.expireAfterAccess(),
+                refreshAfterWrite != null ? refreshAfterWrite : defaults.refreshAfterWrite(),
+                softValues != null ? softValues : defaults.softValues(),
+                recordStats != null ? recordStats : defaults.recordStats());
+    }
+
+    /**
+     * Creates a Caffeine builder configured by this spec.
+     *
+     * @return configured builder
+     */
+    public Caffeine<Object, Object> toCaffeine() {
+        final Caffeine<Object, Object> builder = Caffeine.newBuilder();
+        if (maximumSize != null) {
+            builder.maximumSize(maximumSize);
+        }
+        if (maximumWeight != null) {
+            builder.maximumWeight(maximumWeight).weigher(CacheSpec::weigh);
+        }
+        if (expireAfterWrite != null) {
+            builder.expireAfterWrite(expireAfterWrite);
+        }
+        if (expireAfterAccess != null) {
+            builder.expireAfterAccess(expireAfterAccess);
+        }
+        if (refreshAfterWrite != null) {
+            builder.refreshAfterWrite(refreshAfterWrite);
+        }
+        if (Boolean.TRUE.equals(softValues)) {
+            builder.softValues();
+        }
+        if (!Boolean.FALSE.equals(recordStats)) {
+            builder.recordStats();
+        }
+        return builder;
+    }
+
+    /**
+     * Describes the spec in {@code spring.cache.caffeine.spec} syntax.
+     *
+     * @return spec description, e.g. {@code maximumSize=1000,expireAfterWrite=10m,recordStats}
+     */
+    public String describe() {
+        final List<String> parts = new ArrayList<>();
+        if (maximumSize != null) {
+            parts.add("maximumSize=" + maximumSize);
+        }
+        if (maximumWeight != null) {
+            parts.add("maximumWeight=" + maximumWeight);
+        }
+        if (expireAfterWrite != null) {
+            parts.add("expireAfterWrite=" + format(expireAfterWrite));
+        }
+        if (expireAfterAccess != null) {
+            parts.add("expireAfterAccess=" + format(expireAfterAccess));
+        }
+        if (refreshAfterWrite != null) {
+            parts.add("refreshAfterWrite=" + format(refreshAfterWrite));
+        }
+        if (Boolean.TRUE.equals(softValues)) {
+            parts.add("softValues");
+        }
+        if (!Boolean.FALSE.equals(recordStats)) {
+            parts.add("recordStats");
+        }
+        return String.join(",", parts);
+    }
+
+    private static int weigh(final Object _key, final Object value) {
+        if (value instanceof Collection<?> collection) {
+            return Math.max(1, collection.size());
+        }
+        if (value instanceof Map<?, ?> map) {
+            return Math.max(1, map.size());
+        }
+        return 1;
+    }
+
+    private static String format(final Duration duration) {
+        return duration.getSeconds() + "s";
+    }
+}
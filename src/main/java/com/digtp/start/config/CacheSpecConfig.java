@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+/**
+ * Cache manager configuration with per-cache specifications.
+ *
+ * <p>Replaces the auto-configured Caffeine cache manager with one that builds every
+ * cache it creates from {@code start.cache.<name>.*} ({@link CacheSpecProperties}).
+ * This covers Jmix internal caches such as {@code row-level-roles-cache},
+ * {@code resource-roles-cache} and {@code jmix-eclipselink-query-cache}, which are
+ * created on demand and cannot be customized otherwise. Caches without a spec use
+ * {@code spring.cache.caffeine.spec} if set, or an unbounded cache with statistics.
+ *
+ * <p>Application caches outside the cache manager (e.g. the user details cache) read
+ * their spec via {@link CacheSpecProperties#specOf}. {@link CacheSpecReport} logs the
+ * effective spec of every cache on startup.
+ */
+@Configuration
+@EnableConfigurationProperties({CacheSpecProperties.class, CacheProperties.class})
+@Slf4j
+public class CacheSpecConfig {
+
+    /**
+     * Creates the Caffeine cache manager applying configured specs.
+     *
+     * @param cacheSpecProperties per-cache specs
+     * @param cacheProperties Spring Boot cache properties (default spec and static cache names)
+     * @return cache manager
+     */
+    @Bean
+    public CaffeineCacheManager cacheManager(
+            final CacheSpecProperties cacheSpecProperties, final CacheProperties cacheProperties) {
+        final Map<String, CacheSpec> specs = cacheSpecProperties.configuredSpecs();
+        final SpecCaffeineCacheManager cacheManager = new SpecCaffeineCacheManager(specs);
+        final String defaultSpec = cacheProperties.getCaffeine().getSpec();
+        if (StringUtils.hasText(defaultSpec)) {
+            cacheManager.setCacheSpecification(defaultSpec);
+        } else {
+            cacheManager.setCaffeine(Caffeine.newBuilder().recordStats());
+        }
+        if (!cacheProperties.getCacheNames().isEmpty()) {
+            cacheManager.setCacheNames(cacheProperties.getCacheNames());
+        }
+        log.info("Cache manager configured: specs={}, defaultSpec={}", specs.keySet(), defaultSpec);
+        return cacheManager;
+    }
+
+    /**
+     * Caffeine cache manager that builds named caches from their configured spec.
+     */
+    static final class SpecCaffeineCacheManager extends CaffeineCacheManager {
+
+        private final Map<String, CacheSpec> specs;
+
+        SpecCaffeineCacheManager(final Map<String, CacheSpec> specs) {
+            this.specs = Map.copyOf(specs);
+        }
+
+        /**
+         * Returns whether the given cache is built from a {@code start.cache} spec.
+         *
+         * @param cacheName cache name
+         * @return true if a spec is configured
+         */
+        boolean hasSpec(final String cacheName) {
+            return specs.containsKey(cacheName);
+        }
+
+        @Override
+        protected Cache<Object, Object> createNativeCaffeineCache(final String name) {
+            final CacheSpec spec = specs.get(name);
+            if (spec == null) {
+                return super.createNativeCaffeineCache(name);
+            }
+            if (spec.refreshAfterWrite() != null) {
+                // Cache manager caches are not loading caches, Caffeine rejects refresh for them
+                throw new SafeIllegalArgumentException("Cache refresh-after-write requires a loading cache");
+            }
+            log.debug("Creating cache from spec: name={}, spec={}", name, spec.describe());
+            return spec.toCaffeine().build();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Per-cache specifications bound from {@code start.cache.<name>.*}.
+ *
+ * <p>Example:
+ * <pre>
+ * start.cache.row-level-roles-cache.maximum-size=1000
+ * start.cache.row-level-roles-cache.expire-after-write=10m
+ * start.cache.jmix-eclipselink-query-cache.maximum-size=10000
+ * start.cache.jmix-eclipselink-query-cache.soft-values=true
+ * </pre>
+ *
+ * @param cache specs by cache name; groups without spec properties bind to empty specs
+ */
+@ConfigurationProperties("start")
+public record CacheSpecProperties(Map<String, CacheSpec> cache) {
+
+    /**
+     * Normalizes a missing map to an empty one.
+     */
+    public CacheSpecProperties {
+        cache = cache != null ? Map.copyOf(cache) : Map.of();
+    }
+
+    /**
+     * Returns the configured specs, skipping groups that set no spec property.
+     *
+     * @return non-empty specs by cache name, sorted by name
+     */
+    public Map<String, CacheSpec> configuredSpecs() {
+        final Map<String, CacheSpec> specs = new LinkedHashMap<>();
+        cache.entrySet().stream()
+                .filter(entry -> entry.getValue() != null && !entry.getValue().isEmpty())
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> specs.put(entry.getKey(), entry.getValue()));
+        return specs;
+    }
+
+    /**
+     * Returns the spec of the given cache merged over defaults.
+     *
+     * @param cacheName cache name
+     * @param defaults spec used for properties that are not configured
+     * @return effective spec
+     */
+    public CacheSpec specOf(final String cacheName, final CacheSpec defaults) {
+        final CacheSpec spec = cache.get(cacheName);
+        return spec != null ? spec.withDefaults(defaults) : defaults;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Logs the effective specification of every cache on startup.
+ *
+ * <p>One line per cache with its state and the spec read back from the Caffeine policy:
+ * <ul>
+ *   <li>{@code application} - cache built by application code and registered via
+ *       {@link CacheMetricsConfig#registerCache}</li>
+ *   <li>{@code created} - cache created by the cache manager</li>
+ *   <li>{@code pending} - configured cache not created yet (created on first use), or a
+ *       manager cache not backed by Caffeine</li>
+ * </ul>
+ *
+ * <p>The {@code source} column shows whether a {@code start.cache.<name>.*} spec applies
+ * or the cache manager default is used, which is the input for per-environment sizing
+ * in the Helm values.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheSpecReport implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final String SOURCE_SPEC = "start.cache";
+    private static final String SOURCE_DEFAULT = "default";
+
+    private final CacheManager cacheManager;
+    private final CacheSpecProperties cacheSpecProperties;
+    private final CacheMetricsConfig cacheMetricsConfig;
+
+    /**
+     * Logs the cache spec report after application is ready.
+     *
+     * @param _event application ready event (unused, required by interface)
+     */
+    @Override
+    public void onApplicationEvent(final ApplicationReadyEvent _event) {
+        final Map<String, CacheSpec> configured = cacheSpecProperties.configuredSpecs();
+        final Map<String, Cache<?, ?>> applicationCaches = cacheMetricsConfig.getApplicationCaches();
+        final TreeSet<String> cacheNames = new TreeSet<>(cacheManager.getCacheNames());
+        cacheNames.addAll(configured.keySet());
+        cacheNames.addAll(applicationCaches.keySet());
+
+        log.info("Cache spec report: {} cache(s)", cacheNames.size());
+        for (final String cacheName : cacheNames) {
+            final CacheSpec spec = configured.get(cacheName);
+            final String source = spec != null ? SOURCE_SPEC : SOURCE_DEFAULT;
+            final Cache<?, ?> applicationCache = applicationCaches.get(cacheName);
+            final Optional<Cache<?, ?>> managedCache = managedCache(cacheName);
+            if (applicationCache != null) {
+                log.info(
+                        "Cache spec: name={}, state=application, source={}, spec={}",
+                        cacheName,
+                        source,
+                        describeEffective(applicationCache, spec));
+            } else if (managedCache.isPresent()) {
+                log.info(
+                        "Cache spec: name={}, state=created, source={}, spec={}",
+                        cacheName,
+                        source,
+                        describeEffective(managedCache.get(), spec));
+            } else {
+                log.info(
+                        "Cache spec: name={}, state=pending, source={}, spec={}",
+                        cacheName,
+                        source,
+                        spec != null ? spec.describe() : SOURCE_DEFAULT);
+            }
+        }
+    }
+
+    /**
+     * Describes the spec a cache actually runs with, read back from its Caffeine policy.
+     *
+     * <p>Soft values are not visible through the policy and are taken from the configured spec.
+     *
+     * @param cache Caffeine cache
+     * @param configured configured spec, or null if the default applies
+     * @return effective spec description
+     */
+    static String describeEffective(final Cache<?, ?> cache, final CacheSpec configured) {
+        final Policy<?, ?> policy = cache.policy();
+        final Long maximum = policy.eviction().map(Policy.Eviction::getMaximum).orElse(null);
+        final boolean weighted = policy.eviction().map(Policy.Eviction::isWeighted).orElse(false);
+        final CacheSpec effective = new CacheSpec(
+                weighted ? null : maximum,
+                weighted ? maximum : null,
+                policy.expireAfterWrite().map(Policy.FixedExpiration::getExpiresAfter).orElse(null),
+                policy.expireAfterAccess().map(Policy.FixedExpiration::getExpiresAfter).orElse(null),
+                policy.refreshAfterWrite().map(Policy.FixedRefresh::getRefreshesAfter).orElse(null),
+                configured != null ? configured.softValues() : null,
+                policy.isRecordingStats());
+        return effective.describe();
+    }
+
+    private Optional<Cache<?, ?>> managedCache(final String cacheName) {
+        // Only look up caches that exist: getCache() on a dynamic manager creates the cache
+        if (!cacheManager.getCacheNames().contains(cacheName)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cacheManager.getCache(cacheName))
+                .map(cache -> cache.getNativeCache())
+                .filter(Cache.class::isInstance)
+                .map(nativeCache -> (Cache<?, ?>) nativeCache);
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Set;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.lang.Nullable;
+
+/**
+ * Data source applying {@link QueryTimeouts} and {@link QueryCancellation} to the
+ * statements of its connections.
+ *
+ * <p>Statements created while a timeout is set get it as their JDBC query timeout (rounded
+ * up to whole seconds). Statements executed inside {@link QueryCancellation#call} register
+ * with the handle while they run and fail immediately once it is cancelled.
+ *
+ * <p>Statements aborted by PostgreSQL ({@code SQLSTATE 57014}) are counted in
+ * {@code start.db.query.cancelled}, tagged with the {@code reason} ({@value #REASON_TIMEOUT}
+ * or the reason given to {@link QueryCancellation#cancel}) and the calling service or view
+ * method ({@code origin}).
+ *
+ * <p>Connections and statements obtained while neither a timeout nor a cancellation is set
+ * are handed out unwrapped, so ordinary work pays no proxy overhead. EclipseLink obtains the
+ * connection on the first query of a transaction, so {@link QueryTimeoutAspect} and
+ * {@link UiQueryCancellation} enclose the transaction of the work they cover.
+ */
+@Slf4j
+public final class CancellableDataSource extends DelegatingDataSource implements Closeable {
+
+    /**
+     * Reason tag of statements cancelled by their timeout.
+     */
+    public static final String REASON_TIMEOUT = "timeout";
+
+    /**
+     * SQLSTATE of statements cancelled by the driver or the server.
+     */
+    static final String QUERY_CANCELED = "57014";
+
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("createStatement", "prepareStatement", "prepareCall");
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Wraps a data source.
+     *
+     * @param target data source providing the connections
+     * @param meterRegistry registry for cancellation metrics
+     */
+    public CancellableDataSource(final DataSource target, final MeterRegistry meterRegistry) {
+        super(target);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return cancellable(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        return cancellable(super.getConnection(username, password));
+    }
+
+    @Override
+    public void close() throws IOException {
+        // Keeps pool shutdown of the wrapped data source on context close
+        if (getTargetDataSource() instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection cancellable(final Connection connection) {
+        if (!inScope()) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(
+                CancellableDataSource.class.getClassLoader(),
+                new Class<?>[] {Connection.class},
+                (_proxy, method, args) -> {
+                    final Object result = invoke(connection, method, args);
+                    if (STATEMENT_FACTORIES.contains(method.getName())
+                            && result instanceof Statement statement
+                            && inScope()) {
+                        applyTimeout(statement);
+                        return cancellable(statement, method.getReturnType());
+                    }
+                    return result;
+                });
+    }
+
+    private Statement cancellable(final Statement statement, final Class<?> statementType) {
+        return (Statement) Proxy.newProxyInstance(
+                CancellableDataSource.class.getClassLoader(),
+                new Class<?>[] {statementType},
+                (_proxy, method, args) -> {
+                    if (!method.getName().startsWith("execute")) {
+                        return invoke(statement, method, args);
+                    }
+                    return execute(statement, method, args);
+                });
+    }
+
+    private Object execute(final Statement statement, final Method method, final Object[] args) throws Throwable {
+        final QueryCancellation cancellation = QueryCancellation.current();
+        if (cancellation == null) {
+            return executeCounted(statement, null, method, args);
+        }
+        // Registered before the check: a concurrent cancel either sees the statement or is seen here
+        cancellation.started(statement);
+        try {
+            final String reason = cancellation.reason();
+            if (reason != null) {
+                recordCancelled(reason);
+                throw new SQLException("Query cancelled: " + cancellation.name() + ", " + reason, QUERY_CANCELED);
+            }
+            return executeCounted(statement, cancellation, method, args);
+        } finally {
+            cancellation.finished(statement);
+        }
+    }
+
+    private Object executeCounted(
+            final Statement statement,
+            @Nullable final QueryCancellation cancellation,
+            final Method method,
+            final Object[] args)
+            throws Throwable {
+        try {
+            return invoke(statement, method, args);
+        } catch (final SQLException exception) {
+            if (QUERY_CANCELED.equals(exception.getSQLState())) {
+                final String reason = cancellation != null ? cancellation.reason() : null;
+                recordCancelled(reason != null ? reason : REASON_TIMEOUT);
+            }
+            throw exception;
+        }
+    }
+
+    private static boolean inScope() {
+        return QueryTimeouts.currentTimeout() != null || QueryCancellation.current() != null;
+    }
+
+    private static void applyTimeout(final Statement statement) throws SQLException {
+        final Duration timeout = QueryTimeouts.currentTimeout();
+        if (timeout == null) {
+            return;
+        }
+        final int seconds = (int) Math.max(1, (timeout.toMillis() + 999) / 1000);
+        final int current = statement.getQueryTimeout();
+        if (current == 0 || seconds < current) {
+            statement.setQueryTimeout(seconds);
+        }
+    }
+
+    private void recordCancelled(final String reason) {
+        final String origin = QueryOrigin.current();
+        log.info("Query cancelled: reason={}, origin={}", reason, origin);
+        Counter.builder("start.db.query.cancelled")
+                .description("Statements cancelled by their timeout or by the UI")
+                .tag("reason", reason)
+                .tag("origin", origin)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static Object invoke(final Object target, final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (final InvocationTargetException exception) {
+            throw exception.getCause();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.config;
+
+import java.util.function.Supplier;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routing hints for {@link RoutingDataSource}.
+ *
+ * <p>Read-only Spring transactions ({@code @Transactional(readOnly = true)}) are routed to
+ * replicas automatically. Jmix data loaders do not run in read-only transactions, so read
+ * paths that tolerate replica lag (list views, counts, search) mark themselves with
+ * {@link #readOnly(Supplier)}. Nothing inside the block may write: replicas reject writes.
+ *
+ * <p>Work outside interactive requests selects its pool with {@link Workload} on Spring
+ * beans or {@link #withWorkload(WorkloadClass, Supplier)} elsewhere; unmarked work is
+ * {@link WorkloadClass#INTERACTIVE}.
+ */
+public final class DataSourceRouting {
+
+    private static final ThreadLocal<Boolean> READ_ONLY = new ThreadLocal<>();
+    private static final ThreadLocal<WorkloadClass> WORKLOAD = new ThreadLocal<>();
+
+    private DataSourceRouting() {
+        // Utility class
+    }
+
+    /**
+     * Runs a read operation that may be served by a replica.
+     *
+     * @param operation operation to run; must not write
+     * @param <T> result type
+     * @return operation result
+     */
+    public static <T> T readOnly(final Supplier<T> operation) {
+        if (Boolean.TRUE.equals(READ_ONLY.get())) {
+            return operation.get();
+        }
+        READ_ONLY.set(Boolean.TRUE);
+        try {
+            return operation.get();
+        } finally {
+            READ_ONLY.remove();
+        }
+    }
+
+    /**
+     * Runs an operation with connections from the pool of the given workload class.
+     *
+     * @param workload workload class
+     * @param operation operation to run
+     * @param <T> result type
+     * @return operation result
+     */
+    public static <T> T withWorkload(final WorkloadClass workload, final Supplier<T> operation) {
+        final WorkloadClass previous = enterWorkload(workload);
+        try {
+            return operation.get();
+        } finally {
+            restoreWorkload(previous);
+        }
+    }
+
+    /**
+     * Runs an operation with connections from the pool of the given workload class.
+     *
+     * @param workload workload class
+     * @param operation operation to run
+     */
+    public static void runWithWorkload(final WorkloadClass workload, final Runnable operation) {
+        final WorkloadClass previous = enterWorkload(workload);
+        try {
+            operation.run();
+        } finally {
+            restoreWorkload(previous);
+        }
+    }
+
+    /**
+     * Returns whether connections requested by the current thread may come from a replica.
+     *
+     * @return true inside {@link #readOnly(Supplier)} or a read-only transaction
+     */
+    public static boolean isReadOnly() {
+        return Boolean.TRUE.equals(READ_ONLY.get()) || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    /**
+     * Returns the workload class of the current thread.
+     *
+     * @return current workload class, {@link WorkloadClass#INTERACTIVE} if none is set
+     */
+    public static WorkloadClass currentWorkload() {
+        final WorkloadClass workload = WORKLOAD.get();
+        return workload != null ? workload : WorkloadClass.INTERACTIVE;
+    }
+
+    static WorkloadClass enterWorkload(final WorkloadClass workload) {
+        final WorkloadClass previous = WORKLOAD.get();
+        WORKLOAD.set(workload);
+        return previous;
+    }
+
+    static void restoreWorkload(final WorkloadClass previous) {
+        if (previous != null) {
+            WORKLOAD.set(previous);
+        } else {
+            WORKLOAD.remove();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.config;
+
+import io.jmix.core.EntityInitializer;
+import io.jmix.core.Metadata;
+import io.jmix.core.MetadataTools;
+import io.jmix.core.entity.EntityValues;
+import io.jmix.core.entity.annotation.JmixGeneratedValue;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.metamodel.model.MetaProperty;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Assigns IDs from the configured {@link IdGenerator} to new entities.
+ *
+ * <p>Applies to every entity whose primary key is a UUID annotated with
+ * {@code @JmixGeneratedValue}, so new entities get the generator without further setup.
+ * Runs after the Jmix initializer that assigns random UUIDs and replaces that value;
+ * entities are initialized when created through {@code Metadata} or {@code DataManager}.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@RequiredArgsConstructor
+public final class GeneratedIdInitializer implements EntityInitializer {
+
+    private final Metadata metadata;
+    private final MetadataTools metadataTools;
+    private final IdGenerator idGenerator;
+
+    /**
+     * Generated UUID primary key property per entity class.
+     */
+    private final Map<Class<?>, Optional<String>> idProperties = new ConcurrentHashMap<>();
+
+    @Override
+    public void initEntity(final Object entity) {
+        final Optional<String> idProperty = idProperties.computeIfAbsent(
+                entity.getClass(), _class -> generatedUuidProperty(metadata.getClass(entity)));
+        idProperty.ifPresent(property -> EntityValues.setValue(entity, property, idGenerator.nextId()));
+    }
+
+    private Optional<String> generatedUuidProperty(final MetaClass metaClass) {
+        final MetaProperty primaryKey = metadataTools.getPrimaryKeyProperty(metaClass);
+        if (primaryKey == null
+                || !UUID.class.equals(primaryKey.getJavaType())
+                || !primaryKey.getAnnotatedElement().isAnnotationPresent(JmixGeneratedValue.class)) {
+            return Optional.empty();
+        }
+        return Optional.of(primaryKey.getName());
+    }
+}
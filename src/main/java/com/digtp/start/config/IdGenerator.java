@@ -0,0 +1,24 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.config;
+
+import java.util.UUID;
+
+/**
+ * Generates identifiers of new entities with a {@code @JmixGeneratedValue} UUID primary key.
+ *
+ * <p>The implementation is selected by {@code start.id.generator} ({@link IdGeneratorConfig})
+ * and applied by {@link GeneratedIdInitializer}.
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+    /**
+     * Returns a new unique identifier.
+     *
+     * @return identifier
+     */
+    UUID nextId();
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.config;
+
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Selects the {@link IdGenerator} of new entities by {@code start.id.generator}.
+ *
+ * <ul>
+ *   <li>{@code uuidv7} (default) - time-ordered {@link UuidV7Generator}</li>
+ *   <li>{@code random} - random version 4 UUIDs, the Jmix default</li>
+ * </ul>
+ *
+ * <p>IDs of existing rows are kept either way; both kinds can be mixed in one table.
+ */
+@Configuration
+@Slf4j
+public class IdGeneratorConfig {
+
+    /**
+     * Creates the time-ordered ID generator.
+     *
+     * @return UUIDv7 generator
+     */
+    @Bean
+    @ConditionalOnProperty(name = "start.id.generator", havingValue = "uuidv7", matchIfMissing = true)
+    public IdGenerator uuidV7Generator() {
+        log.info("Entity ID generator: uuidv7");
+        return new UuidV7Generator();
+    }
+
+    /**
+     * Creates the random ID generator.
+     *
+     * @return UUIDv4 generator
+     */
+    @Bean
+    @ConditionalOnProperty(name = "start.id.generator", havingValue = "random")
+    public IdGenerator randomIdGenerator() {
+        log.info("Entity ID generator: random");
+        return UUID::randomUUID;
+    }
+}
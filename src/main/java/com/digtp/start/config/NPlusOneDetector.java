@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Detects N+1 query patterns per HTTP request during development.
+ *
+ * <p>As a servlet filter it opens a {@link StatementScope} for each HTTP request, which for
+ * Vaadin is one UI round-trip. {@link QueryTimingListener} records every executed statement
+ * into the scopes of the executing thread, so detection needs query timing enabled. When the
+ * request completes, the detector logs a warning for:
+ * <ul>
+ *   <li>each SELECT shape executed at least {@code start.db.n-plus-one.threshold} times,
+ *       i.e. the same query repeated with only its parameters (typically an ID) changing</li>
+ *   <li>more than {@code start.db.n-plus-one.max-statements} statements in total</li>
+ * </ul>
+ * Warnings carry the request ID of {@link LoggingMdcFilter} and the service or view method
+ * that issued the repeated query ({@link QueryOrigin}).
+ *
+ * <p>Enabled with {@code start.db.n-plus-one.enabled} (dev and test profiles). Tests use
+ * the recorded scopes to enforce statement budgets of view loads.
+ */
+@Component
+@ConditionalOnProperty(name = "start.db.n-plus-one.enabled", havingValue = "true")
+@Order(2) // Right after LoggingMdcFilter, so warnings carry the request ID
+@Slf4j
+public final class NPlusOneDetector implements Filter {
+
+    @Value("${start.db.n-plus-one.threshold:5}")
+    private int threshold;
+
+    @Value("${start.db.n-plus-one.max-statements:50}")
+    private int maxStatements;
+
+    @PostConstruct
+    void logEnabled() {
+        log.info("N+1 query detection enabled: threshold={}, maxStatements={}", threshold, maxStatements);
+    }
+
+    @Override
+    public void doFilter(final ServletRequest request, final ServletResponse response, final FilterChain chain)
+            throws IOException, ServletException {
+        final String name = request instanceof HttpServletRequest httpRequest
+                ? httpRequest.getMethod() + " " + httpRequest.getRequestURI()
+                : request.getProtocol();
+        final StatementScope scope = StatementScope.open(name);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            scope.close();
+            report(scope);
+        }
+    }
+
+    private void report(final StatementScope scope) {
+        for (final Map.Entry<String, Integer> repeated : scope.repeatedSelects(threshold).entrySet()) {
+            log.warn(
+                    "Possible N+1 queries: scope={}, executions={}, origin={}, shape={}",
+                    scope.name(),
+                    repeated.getValue(),
+                    scope.origin(repeated.getKey()),
+                    repeated.getKey());
+        }
+        if (scope.statements() > maxStatements) {
+            log.warn(
+                    "Statement count over budget: scope={}, statements={}, budget={}",
+                    scope.name(),
+                    scope.statements(),
+                    maxStatements);
+        }
+    }
+}
@@ -22,6 +22,8 @@ import org.springframework.stereotype.Component;
  *
  * <p>Logs at DEBUG level with method name, duration, and parameter summary
  * for performance monitoring and optimization.
+ *
+ * <p>Also tracks the running method as the {@link QueryOrigin} of database queries.
  */
 @Aspect
 @Component
@@ -80,9 +82,11 @@ public class PerformanceLoggingAspect {
     private Object logPerformance(final ProceedingJoinPoint joinPoint, final long thresholdMs, final String layer)
             throws Throwable {
         final long startTime = System.currentTimeMillis();
+        QueryOrigin.enter(getClassName(joinPoint) + "." + getMethodName(joinPoint));
         try {
             return joinPoint.proceed();
         } finally {
+            QueryOrigin.exit();
             final long duration = System.currentTimeMillis() - startTime;
             if (duration > thresholdMs && log.isDebugEnabled()) {
                 final String methodName = getMethodName(joinPoint);
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.config;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+
+/**
+ * Handle for cancelling the statements of a unit of work from another thread.
+ *
+ * <p>Statements executed inside {@link #call} register with the handle while they run
+ * ({@link CancellableDataSource}). {@link #cancel} cancels the running statements through
+ * {@link Statement#cancel()}, which makes PostgreSQL abort them on the server, and makes
+ * every later statement of the unit of work fail right away, so the connection goes back
+ * to the pool instead of serving abandoned work. A handle bound inside another one is
+ * cancelled together with it.
+ */
+@Slf4j
+public final class QueryCancellation {
+
+    private static final ThreadLocal<QueryCancellation> CURRENT = new ThreadLocal<>();
+
+    private final String name;
+    private final Set<Statement> running = ConcurrentHashMap.newKeySet();
+
+    @Nullable
+    private volatile QueryCancellation parent;
+
+    @Nullable
+    private volatile String reason;
+
+    /**
+     * Creates a handle.
+     *
+     * @param name name of the unit of work, used in logs
+     */
+    public QueryCancellation(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns the innermost handle bound to the current thread.
+     *
+     * @return current handle, or null outside {@link #call}
+     */
+    @Nullable
+    public static QueryCancellation current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs an operation whose statements are cancelled by this handle.
+     *
+     * @param operation operation to run
+     * @param <T> result type
+     * @return operation result
+     */
+    public <T> T call(final Supplier<T> operation) {
+        final QueryCancellation previous = CURRENT.get();
+        if (previous != this) {
+            parent = previous;
+        }
+        CURRENT.set(this);
+        try {
+            return operation.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * Cancels running and later statements of the unit of work; does nothing if already
+     * cancelled.
+     *
+     * @param cancelReason reason reported in metrics, e.g. {@code detach}
+     */
+    public void cancel(final String cancelReason) {
+        if (reason != null) {
+            return;
+        }
+        reason = cancelReason;
+        log.debug("Cancelling queries: name={}, reason={}, running={}", name, cancelReason, running.size());
+        for (final Statement statement : running) {
+            try {
+                statement.cancel();
+            } catch (final SQLException exception) {
+                // The statement may just have completed and closed
+                log.debug("Statement cancel failed: name={}, error={}", name, exception.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Returns whether this handle or an enclosing one was cancelled.
+     *
+     * @return true after {@link #cancel}
+     */
+    public boolean isCancelled() {
+        return reason() != null;
+    }
+
+    /**
+     * Returns the reason of the cancellation of this handle or an enclosing one.
+     *
+     * @return cancel reason, or null if not cancelled
+     */
+    @Nullable
+    public String reason() {
+        for (QueryCancellation handle = this; handle != null; handle = handle.parent) {
+            if (handle.reason != null) {
+                return handle.reason;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the name of the unit of work.
+     *
+     * @return handle name
+     */
+    public String name() {
+        return name;
+    }
+
+    void started(final Statement statement) {
+        for (QueryCancellation handle = this; handle != null; handle = handle.parent) {
+            handle.running.add(statement);
+        }
+    }
+
+    void finished(final Statement statement) {
+        for (QueryCancellation handle = this; handle != null; handle = handle.parent) {
+            handle.running.remove(statement);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.config;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Application method on whose behalf the current thread runs database queries.
+ *
+ * <p>Maintained by {@link PerformanceLoggingAspect} for public service and view methods;
+ * the innermost method wins, so a query issued by a service called from a view is
+ * attributed to the service.
+ */
+public final class QueryOrigin {
+
+    /**
+     * Origin of queries issued outside service and view methods.
+     */
+    public static final String UNKNOWN = "unknown";
+
+    private static final ThreadLocal<Deque<String>> ORIGINS = new ThreadLocal<>();
+
+    private QueryOrigin() {
+        // Utility class
+    }
+
+    /**
+     * Returns the innermost application method of the current thread.
+     *
+     * @return {@code Class.method}, or {@value #UNKNOWN}
+     */
+    public static String current() {
+        final Deque<String> origins = ORIGINS.get();
+        return origins != null && !origins.isEmpty() ? origins.peek() : UNKNOWN;
+    }
+
+    static void enter(final String origin) {
+        Deque<String> origins = ORIGINS.get();
+        if (origins == null) {
+            origins = new ArrayDeque<>();
+            ORIGINS.set(origins);
+        }
+        origins.push(origin);
+    }
+
+    static void exit() {
+        final Deque<String> origins = ORIGINS.get();
+        if (origins != null) {
+            origins.poll();
+            if (origins.isEmpty()) {
+                ORIGINS.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.config;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Aggregated executions of one query shape.
+ */
+public final class QueryShapeStats {
+
+    private static final int MAX_ORIGINS = 20;
+    private static final int REPORTED_ORIGINS = 5;
+
+    private final String shapeId;
+    private final String shape;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final Map<String, LongAdder> origins = new ConcurrentHashMap<>();
+
+    QueryShapeStats(final String shapeId, final String shape) {
+        this.shapeId = shapeId;
+        this.shape = shape;
+    }
+
+    void record(final long durationNanos, final long rowCount, final String origin) {
+        count.increment();
+        totalNanos.add(durationNanos);
+        rows.add(rowCount);
+        maxNanos.accumulateAndGet(durationNanos, Math::max);
+        final LongAdder originCount = origins.get(origin);
+        if (originCount != null) {
+            originCount.increment();
+        } else if (origins.size() < MAX_ORIGINS) {
+            origins.computeIfAbsent(origin, _origin -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Returns the total execution time.
+     *
+     * @return total time in nanoseconds
+     */
+    long totalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * Returns a snapshot of the statistics.
+     *
+     * @return summary with the most frequent origins
+     */
+    public Summary summary() {
+        final long executions = count.sum();
+        final long total = totalNanos.sum();
+        final Map<String, Long> topOrigins = origins.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, LongAdder> entry) -> entry.getValue().sum())
+                        .reversed())
+                .limit(REPORTED_ORIGINS)
+                .collect(Collectors.toMap(
+                        Map.Entry::getKey,
+                        entry -> entry.getValue().sum(),
+                        (first, _second) -> first,
+                        LinkedHashMap::new));
+        return new Summary(
+                shapeId,
+                shape,
+                executions,
+                TimeUnit.NANOSECONDS.toMillis(total),
+                executions > 0 ? total / executions / 1_000_000.0 : 0,
+                TimeUnit.NANOSECONDS.toMillis(maxNanos.get()),
+                rows.sum(),
+                topOrigins);
+    }
+
+    /**
+     * Snapshot of a query shape.
+     *
+     * @param shapeId shape identifier, also the {@code shape} tag of metrics
+     * @param sql normalized statement
+     * @param count number of executions
+     * @param totalMs total execution time in milliseconds
+     * @param meanMs mean execution time in milliseconds
+     * @param maxMs longest execution in milliseconds
+     * @param rows rows returned (or changed) in total
+     * @param origins executions per calling method, most frequent first
+     */
+    public record Summary(
+            String shapeId,
+            String sql,
+            long count,
+            long totalMs,
+            double meanMs,
+            long maxMs,
+            long rows,
+            Map<String, Long> origins) {}
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.config;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint listing the query shapes with the highest total execution time.
+ *
+ * <p>{@code GET /actuator/queryshapes?limit=20} returns the top shapes recorded by
+ * {@link QueryTimingListener} since startup or the last {@code DELETE}, which starts a new
+ * measurement window.
+ */
+@Component
+@Endpoint(id = "queryshapes")
+@ConditionalOnProperty(name = "start.db.query-timing.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public final class QueryShapesEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final QueryTimingListener queryTimingListener;
+
+    /**
+     * Lists the top query shapes by total time.
+     *
+     * @param limit maximum number of shapes, 20 if not given
+     * @return shape summaries, highest total time first
+     */
+    @ReadOperation
+    public List<QueryShapeStats.Summary> topShapes(@Nullable final Integer limit) {
+        return queryTimingListener.topShapes(limit != null ? Math.max(limit, 0) : DEFAULT_LIMIT);
+    }
+
+    /**
+     * Clears the aggregated shapes.
+     */
+    @DeleteOperation
+    public void reset() {
+        queryTimingListener.reset();
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Limits the run time of each statement executed by the annotated bean method (or all
+ * public methods of the annotated bean).
+ *
+ * <p>Applied by {@link QueryTimeoutAspect}, so it works on calls through the Spring proxy
+ * only and the class must not be final. Elsewhere use {@link QueryTimeouts#withTimeout}.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface QueryTimeout {
+
+    /**
+     * Statement timeout, e.g. {@code 10s}; property placeholders such as
+     * {@code ${start.db.timeout.search:10s}} are resolved.
+     *
+     * @return timeout expression
+     */
+    String value();
+}
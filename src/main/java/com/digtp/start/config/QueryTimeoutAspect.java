@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.config;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies {@link QueryTimeout} annotations.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class QueryTimeoutAspect {
+
+    private final Environment environment;
+
+    private final Map<Method, Duration> timeouts = new ConcurrentHashMap<>();
+
+    /**
+     * Runs an annotated method with the statement timeout of its annotation.
+     *
+     * @param joinPoint method execution join point
+     * @return method return value
+     * @throws Throwable if method execution throws exception
+     */
+    @Around("@annotation(com.digtp.start.config.QueryTimeout) || @within(com.digtp.start.config.QueryTimeout)")
+    public Object applyTimeout(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        final Duration timeout =
+                timeouts.computeIfAbsent(method, _method -> resolveTimeout(method, joinPoint.getTarget()));
+        final Duration previous = QueryTimeouts.enterTimeout(timeout);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            QueryTimeouts.restoreTimeout(previous);
+        }
+    }
+
+    private Duration resolveTimeout(final Method method, final Object target) {
+        final QueryTimeout methodTimeout = AnnotatedElementUtils.findMergedAnnotation(method, QueryTimeout.class);
+        final QueryTimeout timeout = methodTimeout != null
+                ? methodTimeout
+                : AnnotatedElementUtils.findMergedAnnotation(target.getClass(), QueryTimeout.class);
+        return DurationStyle.detectAndParse(environment.resolveRequiredPlaceholders(timeout.value()));
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.config;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+import org.springframework.lang.Nullable;
+
+/**
+ * Statement timeouts of the current thread, applied by {@link CancellableDataSource}.
+ *
+ * <p>Every statement created inside {@link #withTimeout} gets the timeout as its JDBC query
+ * timeout; the driver cancels it on the server when it runs longer. Nested timeouts never
+ * extend an enclosing one: the shorter timeout applies. Service methods declare their
+ * timeout with {@link QueryTimeout}.
+ */
+public final class QueryTimeouts {
+
+    private static final ThreadLocal<Duration> TIMEOUT = new ThreadLocal<>();
+
+    private QueryTimeouts() {
+        // Utility class
+    }
+
+    /**
+     * Runs an operation whose statements are cancelled after the given timeout.
+     *
+     * @param timeout statement timeout; zero or negative means no additional limit
+     * @param operation operation to run
+     * @param <T> result type
+     * @return operation result
+     */
+    public static <T> T withTimeout(final Duration timeout, final Supplier<T> operation) {
+        final Duration previous = enterTimeout(timeout);
+        try {
+            return operation.get();
+        } finally {
+            restoreTimeout(previous);
+        }
+    }
+
+    /**
+     * Returns the statement timeout of the current thread.
+     *
+     * @return timeout, or null if statements are not limited
+     */
+    @Nullable
+    public static Duration currentTimeout() {
+        return TIMEOUT.get();
+    }
+
+    @Nullable
+    static Duration enterTimeout(final Duration timeout) {
+        final Duration previous = TIMEOUT.get();
+        if (timeout.isPositive() && (previous == null || timeout.compareTo(previous) < 0)) {
+            TIMEOUT.set(timeout);
+        }
+        return previous;
+    }
+
+    static void restoreTimeout(@Nullable final Duration previous) {
+        if (previous != null) {
+            TIMEOUT.set(previous);
+        } else {
+            TIMEOUT.remove();
+        }
+    }
+}
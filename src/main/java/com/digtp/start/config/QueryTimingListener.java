@@ -0,0 +1,181 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.persistence.internal.databaseaccess.DatabaseCall;
+import org.eclipse.persistence.jpa.JpaEntityManagerFactory;
+import org.eclipse.persistence.sessions.SessionEvent;
+import org.eclipse.persistence.sessions.SessionEventAdapter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every SQL statement EclipseLink executes and aggregates them by query shape.
+ *
+ * <p>Registered as a session event listener of the EclipseLink server session, so it sees
+ * each database call ({@code preExecuteCall}/{@code postExecuteCall}) of all client
+ * sessions and units of work. For each statement it records:
+ * <ul>
+ *   <li>{@code start.db.query} timer and {@code start.db.query.rows} summary, tagged with
+ *       the shape ID ({@link SqlShapes#shapeId}) and the operation</li>
+ *   <li>per-shape totals for the {@code queryshapes} actuator endpoint, including the
+ *       calling service or view methods ({@link QueryOrigin})</li>
+ *   <li>a {@code SLOW_QUERY} line in the {@code com.digtp.start.slowquery} log (slow-query.log)
+ *       when the statement took at least {@code start.db.slow-query-threshold}</li>
+ *   <li>the shape in the {@link StatementScope}s open on the executing thread, used by
+ *       {@link NPlusOneDetector} and statement budgets of tests</li>
+ * </ul>
+ * At most {@code start.db.query-shapes.max} shapes are tracked; statements of further
+ * shapes are counted under the shape ID {@value #OTHER_SHAPE}. The origin is not a metric tag:
+ * shapes times methods would multiply the number of time series.
+ */
+@Component
+@ConditionalOnProperty(name = "start.db.query-timing.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public final class QueryTimingListener extends SessionEventAdapter {
+
+    /**
+     * Shape ID of statements beyond the tracked shapes.
+     */
+    public static final String OTHER_SHAPE = "other";
+
+    /**
+     * Dedicated slow-query logger configured in logback-spring.xml.
+     */
+    @SuppressWarnings("PreferSafeLogger")
+    private static final Logger slowQueryLogger = LoggerFactory.getLogger("com.digtp.start.slowquery");
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${start.db.slow-query-threshold:500ms}")
+    private Duration slowQueryThreshold;
+
+    @Value("${start.db.query-shapes.max:1000}")
+    private int maxShapes;
+
+    private final ThreadLocal<long[]> callStartNanos = ThreadLocal.withInitial(() -> new long[1]);
+    private final Map<String, QueryShapeStats> shapes = new ConcurrentHashMap<>();
+
+    /**
+     * Registers the listener with the EclipseLink server session.
+     */
+    @PostConstruct
+    void register() {
+        entityManagerFactory
+                .unwrap(JpaEntityManagerFactory.class)
+                .getServerSession()
+                .getEventManager()
+                .addListener(this);
+        log.info("Query timing enabled: slowQueryThreshold={}, maxShapes={}", slowQueryThreshold, maxShapes);
+    }
+
+    @Override
+    public void preExecuteCall(final SessionEvent event) {
+        // Calls of one thread do not nest; a failed call is simply overwritten by the next one
+        callStartNanos.get()[0] = System.nanoTime();
+    }
+
+    @Override
+    public void postExecuteCall(final SessionEvent event) {
+        final long durationNanos = System.nanoTime() - callStartNanos.get()[0];
+        if (event.getCall() instanceof DatabaseCall call && call.getSQLString() != null) {
+            record(call.getSQLString(), rowCount(event.getResult()), durationNanos);
+        }
+    }
+
+    /**
+     * Records one executed statement.
+     *
+     * @param sql executed SQL
+     * @param rows rows returned or changed
+     * @param durationNanos execution time
+     */
+    void record(final String sql, final long rows, final long durationNanos) {
+        final String shape = SqlShapes.normalize(sql);
+        final String origin = QueryOrigin.current();
+        StatementScope.record(shape, origin);
+        final String shapeId = SqlShapes.shapeId(shape);
+        QueryShapeStats stats = shapes.get(shapeId);
+        if (stats == null && shapes.size() < maxShapes) {
+            stats = shapes.computeIfAbsent(shapeId, id -> new QueryShapeStats(id, shape));
+        }
+        final String shapeTag = stats != null ? shapeId : OTHER_SHAPE;
+        if (stats != null) {
+            stats.record(durationNanos, rows, origin);
+        }
+        final String operation = SqlShapes.operation(shape);
+        Timer.builder("start.db.query")
+                .description("Execution time of SQL statements by query shape")
+                .tag("shape", shapeTag)
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("start.db.query.rows")
+                .description("Rows returned or changed by SQL statements by query shape")
+                .tag("shape", shapeTag)
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .record(rows);
+        if (durationNanos >= slowQueryThreshold.toNanos()) {
+            slowQueryLogger.warn(
+                    "SLOW_QUERY: durationMs={}, rows={}, shape={}, origin={}, sql={}",
+                    TimeUnit.NANOSECONDS.toMillis(durationNanos),
+                    rows,
+                    shapeTag,
+                    origin,
+                    shape);
+        }
+    }
+
+    /**
+     * Returns the shapes with the highest total execution time.
+     *
+     * @param limit maximum number of shapes
+     * @return shape summaries, highest total time first
+     */
+    public List<QueryShapeStats.Summary> topShapes(final int limit) {
+        return shapes.values().stream()
+                .sorted(Comparator.comparingLong(QueryShapeStats::totalNanos).reversed())
+                .limit(limit)
+                .map(QueryShapeStats::summary)
+                .toList();
+    }
+
+    /**
+     * Drops all aggregated shapes; metrics are not affected.
+     */
+    public void reset() {
+        shapes.clear();
+    }
+
+    private static long rowCount(final Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Number number) {
+            return number.longValue();
+        }
+        return result != null ? 1 : 0;
+    }
+}
@@ -0,0 +1,324 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Data source routing work to workload pools and read replicas.
+ *
+ * <p>Each connection request is routed by the hints of {@link DataSourceRouting}:
+ * <ul>
+ *   <li>read-only work ({@link DataSourceRouting#readOnly} or a read-only transaction)
+ *       goes to the replicas in round-robin order</li>
+ *   <li>everything else goes to the pool of the current {@link WorkloadClass}: the primary
+ *       pool for {@code interactive}, {@code main.datasource.workloads.<class>} pools for
+ *       the others, so a long export cannot take the connections logins need</li>
+ * </ul>
+ * EclipseLink obtains the connection of a read-only transaction on the first query, after
+ * Spring has marked the transaction read-only, so no lazy connection proxy is needed.
+ *
+ * <p>Replay lag of every replica is checked every {@code main.datasource.replica-lag-check-interval}.
+ * Replicas lagging more than {@code main.datasource.replica-max-lag}, or failing the check,
+ * receive no reads until they catch up; with no usable replica, reads fall back to the
+ * workload pool.
+ *
+ * <p>Metrics:
+ * <ul>
+ *   <li>{@code hikaricp.*} for every pool, tagged {@code pool=interactive|batch|system|replica-N};
+ *       {@code hikaricp.connections.acquire} is the acquisition latency histogram</li>
+ *   <li>{@code start.datasource.replica.lag} - last measured replay lag in seconds
+ *       ({@code NaN} if the check failed)</li>
+ *   <li>{@code start.datasource.routed} - connections handed out, tagged {@code pool} and
+ *       {@code reason=read-write|read-only|replica-fallback}</li>
+ * </ul>
+ */
+@Slf4j
+public final class RoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    /**
+     * Replay lag of a standby; zero when everything received is replayed or on a primary.
+     */
+    private static final String LAG_SQL = """
+            select coalesce(case when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0
+                else extract(epoch from now() - pg_last_xact_replay_timestamp()) end, 0)""";
+
+    private final HikariDataSource primary;
+    private final Map<WorkloadClass, HikariDataSource> workloadPools;
+    private final List<ReplicaPool> replicas;
+    private final Duration maxLag;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final ScheduledExecutorService lagChecker;
+
+    private RoutingDataSource(
+            final HikariDataSource primary,
+            final Map<WorkloadClass, HikariDataSource> workloadPools,
+            final List<ReplicaPool> replicas,
+            final RoutingDataSourceProperties properties,
+            final MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.workloadPools = workloadPools;
+        this.replicas = List.copyOf(replicas);
+        this.maxLag = properties.replicaMaxLag();
+        this.meterRegistry = meterRegistry;
+
+        final Map<Object, Object> targets = new HashMap<>();
+        targets.put(WorkloadClass.INTERACTIVE.poolName(), primary);
+        workloadPools.forEach((workload, pool) -> targets.put(workload.poolName(), pool));
+        for (final ReplicaPool replica : this.replicas) {
+            targets.put(replica.name(), replica.dataSource());
+            Gauge.builder("start.datasource.replica.lag", replica, ReplicaPool::lagSeconds)
+                    .description("Replay lag of a read replica")
+                    .baseUnit("seconds")
+                    .tag("pool", replica.name())
+                    .register(meterRegistry);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+
+        lagChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "replica-lag-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (!this.replicas.isEmpty()) {
+            final long intervalMs = properties.replicaLagCheckInterval().toMillis();
+            lagChecker.scheduleWithFixedDelay(this::checkLag, 0, intervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Creates the main data source.
+     *
+     * @param primary primary pool, serving interactive work
+     * @param properties replica and workload pool settings
+     * @param meterRegistry registry for pool and routing metrics
+     * @return the primary pool if no other pools are configured, a routing data source otherwise
+     */
+    public static DataSource create(
+            final HikariDataSource primary,
+            final RoutingDataSourceProperties properties,
+            final MeterRegistry meterRegistry) {
+        if (!properties.hasAdditionalPools()) {
+            return primary;
+        }
+        // Pool metrics are bound to data source beans only, the routing bean hides the pools
+        final MicrometerMetricsTrackerFactory metricsTrackerFactory = new MicrometerMetricsTrackerFactory(meterRegistry);
+        primary.setPoolName(WorkloadClass.INTERACTIVE.poolName());
+        primary.setMetricsTrackerFactory(metricsTrackerFactory);
+
+        final Map<WorkloadClass, HikariDataSource> workloadPools = new EnumMap<>(WorkloadClass.class);
+        for (final WorkloadClass workload : WorkloadClass.values()) {
+            final RoutingDataSourceProperties.Pool pool = properties.workloads().get(workload.poolName());
+            if (pool != null && workload != WorkloadClass.INTERACTIVE) {
+                final HikariConfig config = poolConfig(primary, workload.poolName());
+                applyPool(config, pool);
+                config.setMetricsTrackerFactory(metricsTrackerFactory);
+                workloadPools.put(workload, new HikariDataSource(config));
+            }
+        }
+
+        final List<ReplicaPool> replicas = new ArrayList<>();
+        for (int index = 0; index < properties.replicas().size(); index++) {
+            final RoutingDataSourceProperties.Replica replica = properties.replicas().get(index);
+            final HikariConfig config = poolConfig(primary, "replica-" + index);
+            config.setJdbcUrl(replica.url());
+            if (replica.username() != null) {
+                config.setUsername(replica.username());
+            }
+            if (replica.password() != null) {
+                config.setPassword(replica.password());
+            }
+            if (replica.maximumPoolSize() != null) {
+                config.setMaximumPoolSize(replica.maximumPoolSize());
+            }
+            config.setReadOnly(true);
+            config.setMetricsTrackerFactory(metricsTrackerFactory);
+            replicas.add(new ReplicaPool(config.getPoolName(), new HikariDataSource(config)));
+        }
+        log.info(
+                "Data source routing enabled: workloadPools={}, replicas={}, maxLag={}",
+                workloadPools.keySet(),
+                replicas.size(),
+                properties.replicaMaxLag());
+        return new RoutingDataSource(primary, workloadPools, replicas, properties, meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        final WorkloadClass workload = DataSourceRouting.currentWorkload();
+        final String workloadPool =
+                workloadPools.containsKey(workload) ? workload.poolName() : WorkloadClass.INTERACTIVE.poolName();
+        if (!DataSourceRouting.isReadOnly() || replicas.isEmpty()) {
+            return route(workloadPool, "read-write");
+        }
+        final int size = replicas.size();
+        final int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+        for (int offset = 0; offset < size; offset++) {
+            final ReplicaPool replica = replicas.get((start + offset) % size);
+            if (replica.usable()) {
+                return route(replica.name(), "read-only");
+            }
+        }
+        return route(workloadPool, "replica-fallback");
+    }
+
+    @Override
+    public void close() {
+        lagChecker.shutdownNow();
+        replicas.forEach(replica -> replica.dataSource().close());
+        workloadPools.values().forEach(HikariDataSource::close);
+        primary.close();
+    }
+
+    /**
+     * Records a replica's lag measurement.
+     *
+     * @param name replica pool name
+     * @param lag measured lag, or null if the check failed
+     */
+    void updateLag(final String name, final Duration lag) {
+        for (final ReplicaPool replica : replicas) {
+            if (replica.name().equals(name)) {
+                replica.update(lag, maxLag);
+            }
+        }
+    }
+
+    private String route(final String pool, final String reason) {
+        Counter.builder("start.datasource.routed")
+                .description("Connections handed out by the routing data source")
+                .tag("pool", pool)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        return pool;
+    }
+
+    private void checkLag() {
+        for (final ReplicaPool replica : replicas) {
+            try (Connection connection = replica.dataSource().getConnection();
+                    Statement statement = connection.createStatement();
+                    ResultSet resultSet = statement.executeQuery(LAG_SQL)) {
+                resultSet.next();
+                updateLag(replica.name(), Duration.ofMillis(Math.round(resultSet.getDouble(1) * 1000)));
+            } catch (final SQLException exception) {
+                log.warn("Replica lag check failed: pool={}, error={}", replica.name(), exception.getMessage());
+                updateLag(replica.name(), null);
+            }
+        }
+    }
+
+    /**
+     * Creates a pool configuration connecting like the primary.
+     *
+     * <p>Settings are copied one by one: {@code copyStateTo} would share the primary's
+     * driver properties.
+     *
+     * @param primary primary pool
+     * @param name pool name, also the {@code application_name} of its connections
+     * @return pool configuration
+     */
+    private static HikariConfig poolConfig(final HikariDataSource primary, final String name) {
+        final HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setDriverClassName(primary.getDriverClassName());
+        config.setJdbcUrl(primary.getJdbcUrl());
+        config.setUsername(primary.getUsername());
+        config.setPassword(primary.getPassword());
+        config.setMaximumPoolSize(primary.getMaximumPoolSize());
+        config.setMinimumIdle(primary.getMinimumIdle());
+        config.setConnectionTimeout(primary.getConnectionTimeout());
+        config.setValidationTimeout(primary.getValidationTimeout());
+        config.setIdleTimeout(primary.getIdleTimeout());
+        config.setMaxLifetime(primary.getMaxLifetime());
+        // Shows the pool in pg_stat_activity
+        config.addDataSourceProperty("ApplicationName", name);
+        return config;
+    }
+
+    private static void applyPool(final HikariConfig config, final RoutingDataSourceProperties.Pool pool) {
+        if (pool.maximumPoolSize() != null) {
+            config.setMaximumPoolSize(pool.maximumPoolSize());
+        }
+        config.setMinimumIdle(Math.min(
+                pool.minimumIdle() != null ? pool.minimumIdle() : config.getMinimumIdle(), config.getMaximumPoolSize()));
+        if (pool.connectionTimeout() != null) {
+            config.setConnectionTimeout(pool.connectionTimeout().toMillis());
+        }
+        if (pool.idleTimeout() != null) {
+            config.setIdleTimeout(pool.idleTimeout().toMillis());
+        }
+        if (pool.maxLifetime() != null) {
+            config.setMaxLifetime(pool.maxLifetime().toMillis());
+        }
+    }
+
+    /**
+     * Replica pool with its last lag measurement.
+     */
+    private static final class ReplicaPool {
+
+        private final String name;
+        private final HikariDataSource dataSource;
+        private volatile double lagSeconds = Double.NaN;
+        private volatile boolean usable;
+
+        ReplicaPool(final String name, final HikariDataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        String name() {
+            return name;
+        }
+
+        HikariDataSource dataSource() {
+            return dataSource;
+        }
+
+        double lagSeconds() {
+            return lagSeconds;
+        }
+
+        boolean usable() {
+            return usable;
+        }
+
+        void update(final Duration lag, final Duration maxLag) {
+            final boolean wasUsable = usable;
+            lagSeconds = lag != null ? lag.toMillis() / 1000.0 : Double.NaN;
+            usable = lag != null && lag.compareTo(maxLag) <= 0;
+            if (wasUsable != usable) {
+                log.info("Replica {} for reads: pool={}, lagSeconds={}", usable ? "enabled" : "disabled", name, lagSeconds);
+            }
+        }
+    }
+}
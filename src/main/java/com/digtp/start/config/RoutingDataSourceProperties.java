@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Additional pools of the main data source bound from {@code main.datasource.*}.
+ *
+ * <p>Example:
+ * <pre>
+ * main.datasource.replicas[0].url=jdbc:postgresql://replica-1:5432/start
+ * main.datasource.replicas[0].maximum-pool-size=20
+ * main.datasource.replica-max-lag=5s
+ * main.datasource.workloads.batch.maximum-pool-size=4
+ * main.datasource.workloads.batch.connection-timeout=60s
+ * </pre>
+ *
+ * @param replicas replica connection settings; replicas without URL are ignored
+ * @param replicaMaxLag replay lag above which a replica stops receiving reads
+ * @param replicaLagCheckInterval interval between replay lag checks
+ * @param workloads pool settings per {@link WorkloadClass#poolName()}; workload classes
+ *     without settings use the primary (interactive) pool
+ */
+@ConfigurationProperties("main.datasource")
+public record RoutingDataSourceProperties(
+        List<Replica> replicas,
+        @DefaultValue("5s") Duration replicaMaxLag,
+        @DefaultValue("2s") Duration replicaLagCheckInterval,
+        Map<String, Pool> workloads) {
+
+    /**
+     * Drops replicas without URL, so optional environment variables can stay empty.
+     */
+    public RoutingDataSourceProperties {
+        replicas = replicas != null
+                ? replicas.stream()
+                        .filter(replica -> replica.url() != null && !replica.url().isBlank())
+                        .toList()
+                : List.of();
+        workloads = workloads != null ? Map.copyOf(workloads) : Map.of();
+    }
+
+    /**
+     * Returns whether any pool besides the primary is configured.
+     *
+     * @return true if routing is needed
+     */
+    public boolean hasAdditionalPools() {
+        return !replicas.isEmpty() || !workloads.isEmpty();
+    }
+
+    /**
+     * Connection settings of one replica.
+     *
+     * @param url JDBC URL
+     * @param username user name, the primary's if not set
+     * @param password password, the primary's if not set
+     * @param maximumPoolSize maximum pool size, the primary's if not set
+     */
+    public record Replica(String url, String username, String password, Integer maximumPoolSize) {}
+
+    /**
+     * Sizing and timeouts of a workload pool; unset values are the primary's.
+     *
+     * @param maximumPoolSize maximum pool size
+     * @param minimumIdle minimum idle connections
+     * @param connectionTimeout maximum wait for a connection
+     * @param idleTimeout idle connection lifetime
+     * @param maxLifetime connection lifetime
+     */
+    public record Pool(
+            Integer maximumPoolSize,
+            Integer minimumIdle,
+            Duration connectionTimeout,
+            Duration idleTimeout,
+            Duration maxLifetime) {}
+}
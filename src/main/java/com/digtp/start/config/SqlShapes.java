@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.config;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Reduces SQL statements to their shape.
+ *
+ * <p>Statements that differ only in literal values have the same shape: string and numeric
+ * literals become {@code ?}, IN lists of placeholders collapse to {@code (?)} and
+ * whitespace is normalized. EclipseLink binds parameters, so most statements already are
+ * shapes; literals come from JPQL constants and native SQL.
+ */
+public final class SqlShapes {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.$])\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlShapes() {
+        // Utility class
+    }
+
+    /**
+     * Returns the shape of a statement.
+     *
+     * @param sql SQL statement
+     * @return statement with literals replaced by {@code ?}
+     */
+    public static String normalize(final String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    /**
+     * Returns a short, stable identifier of a shape, usable as a metric tag.
+     *
+     * @param shape normalized statement
+     * @return 8 hex digits
+     */
+    public static String shapeId(final String shape) {
+        return String.format(Locale.ROOT, "%08x", shape.hashCode());
+    }
+
+    /**
+     * Returns the SQL operation of a shape.
+     *
+     * @param shape normalized statement
+     * @return lower-case first keyword, e.g. {@code select}
+     */
+    public static String operation(final String shape) {
+        final int end = shape.indexOf(' ');
+        return (end > 0 ? shape.substring(0, end) : shape).toLowerCase(Locale.ROOT);
+    }
+}
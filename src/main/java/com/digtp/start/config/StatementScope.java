@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.config;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * SQL statements executed by the current thread during a unit of work, such as an HTTP
+ * request, a UI round-trip or a test.
+ *
+ * <p>Scopes are opened with {@link #open} and closed with {@link #close}; statements are
+ * recorded by {@link QueryTimingListener} into every scope open on the executing thread, so
+ * nested scopes each see their own statements and the enclosing scope sees all of them.
+ * Statements are counted by shape ({@link SqlShapes}): EclipseLink binds parameters, so a
+ * lazy reference loaded row by row shows up as one shape executed once per row.
+ */
+public final class StatementScope implements AutoCloseable {
+
+    private static final ThreadLocal<Deque<StatementScope>> SCOPES = new ThreadLocal<>();
+
+    private final String name;
+    private final Map<String, Integer> executions = new LinkedHashMap<>();
+    private final Map<String, String> origins = new LinkedHashMap<>();
+    private int statements;
+
+    private StatementScope(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Opens a scope on the current thread.
+     *
+     * @param name name of the unit of work, used in reports
+     * @return open scope; must be closed on the same thread
+     */
+    public static StatementScope open(final String name) {
+        Deque<StatementScope> scopes = SCOPES.get();
+        if (scopes == null) {
+            scopes = new ArrayDeque<>();
+            SCOPES.set(scopes);
+        }
+        final StatementScope scope = new StatementScope(name);
+        scopes.push(scope);
+        return scope;
+    }
+
+    /**
+     * Records a statement in all scopes open on the current thread.
+     *
+     * @param shape normalized statement
+     * @param origin application method that issued the statement
+     */
+    static void record(final String shape, final String origin) {
+        final Deque<StatementScope> scopes = SCOPES.get();
+        if (scopes != null) {
+            for (final StatementScope scope : scopes) {
+                scope.statements++;
+                scope.executions.merge(shape, 1, Integer::sum);
+                scope.origins.putIfAbsent(shape, origin);
+            }
+        }
+    }
+
+    /**
+     * Returns the name of the unit of work.
+     *
+     * @return scope name
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Returns the number of statements executed in this scope.
+     *
+     * @return statement count
+     */
+    public int statements() {
+        return statements;
+    }
+
+    /**
+     * Returns the SELECT shapes executed at least the given number of times, the typical
+     * sign of an N+1 problem.
+     *
+     * @param minExecutions minimum number of executions
+     * @return executions by shape, in order of first execution
+     */
+    public Map<String, Integer> repeatedSelects(final int minExecutions) {
+        final Map<String, Integer> repeated = new LinkedHashMap<>();
+        executions.forEach((shape, count) -> {
+            if (count >= minExecutions && "select".equals(SqlShapes.operation(shape))) {
+                repeated.put(shape, count);
+            }
+        });
+        return repeated;
+    }
+
+    /**
+     * Returns the application method that first executed a shape in this scope.
+     *
+     * @param shape normalized statement
+     * @return {@code Class.method}, or {@value QueryOrigin#UNKNOWN}
+     */
+    public String origin(final String shape) {
+        return origins.getOrDefault(shape, QueryOrigin.UNKNOWN);
+    }
+
+    /**
+     * Closes the scope; statements executed afterwards are no longer recorded in it.
+     */
+    @Override
+    public void close() {
+        final Deque<StatementScope> scopes = SCOPES.get();
+        if (scopes != null) {
+            scopes.remove(this);
+            if (scopes.isEmpty()) {
+                SCOPES.remove();
+            }
+        }
+    }
+}
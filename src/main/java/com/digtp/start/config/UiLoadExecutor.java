@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs UI data loads in the background, off the request thread and the Vaadin session lock.
+ *
+ * <p>Loads run on a bounded pool of {@code start.ui.load-executor.threads} daemon threads
+ * with a queue of {@code start.ui.load-executor.queue-capacity} loads; when both are full,
+ * {@link #submit} fails with {@link RejectedExecutionException} and the caller decides
+ * whether to load synchronously or skip the load. Each load runs with the security context
+ * of the submitting thread, so row-level constraints of the UI user apply.
+ *
+ * <p>Results must be applied to components through {@code UI.access}: loads run without
+ * the session lock. Pool metrics are exported as {@code executor.*} tagged with
+ * {@code name=uiLoad}.
+ */
+@Component
+@Slf4j
+public final class UiLoadExecutor implements DisposableBean {
+
+    private final ExecutorService pool;
+    private final DelegatingSecurityContextExecutor executor;
+
+    /**
+     * Creates the executor.
+     *
+     * @param meterRegistry registry for pool metrics
+     * @param threads number of load threads
+     * @param queueCapacity maximum number of queued loads
+     */
+    public UiLoadExecutor(
+            final MeterRegistry meterRegistry,
+            @Value("${start.ui.load-executor.threads:4}") final int threads,
+            @Value("${start.ui.load-executor.queue-capacity:100}") final int queueCapacity) {
+        final AtomicInteger threadNumber = new AtomicInteger();
+        final ThreadPoolExecutor threadPool = new ThreadPoolExecutor(
+                threads, threads, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    final Thread thread = new Thread(runnable, "ui-load-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        pool = ExecutorServiceMetrics.monitor(meterRegistry, threadPool, "uiLoad");
+        executor = new DelegatingSecurityContextExecutor(pool);
+    }
+
+    /**
+     * Starts a load in the background.
+     *
+     * @param load load to run; must not access UI state
+     * @param <T> result type
+     * @return future completed with the load result or failure
+     * @throws RejectedExecutionException if the pool and its queue are full
+     */
+    public <T> CompletableFuture<T> submit(final Supplier<T> load) {
+        return CompletableFuture.supplyAsync(load, executor);
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdownNow();
+        log.debug("UI load executor stopped");
+    }
+}
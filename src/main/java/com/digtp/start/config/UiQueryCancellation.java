@@ -0,0 +1,195 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.config;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.server.Command;
+import com.vaadin.flow.server.VaadinRequest;
+import com.vaadin.flow.server.VaadinSession;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limits and cancels the queries of UI data loads.
+ *
+ * <p>{@link #load} runs a load of a view's data loader with the loader's statement timeout,
+ * {@code start.db.timeout.loader.<viewId>.<loaderId>} or {@code start.db.timeout.loader-default},
+ * and a {@link QueryCancellation} registered for the UI. The queries of a load are
+ * cancelled when:
+ * <ul>
+ *   <li>the UI detaches (tab closed, session expired) - reason {@value #REASON_DETACH}</li>
+ *   <li>the same loader starts a new load - reason {@value #REASON_SUPERSEDED}</li>
+ *   <li>the view is closed, e.g. on navigation, while a background load runs
+ *       ({@link #cancel}) - reason {@value #REASON_NAVIGATION}</li>
+ *   <li>another UIDL request of the UI arrives while a load holds the session lock, which
+ *       the client only sends when it gave up on the pending one (page unload beacon,
+ *       resynchronization) - reason {@value #REASON_SUPERSEDED}</li>
+ * </ul>
+ * The last case is detected by this class as a servlet filter, before the request waits
+ * for the session lock held by the running load.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public final class UiQueryCancellation implements Filter {
+
+    /**
+     * Cancel reason of loads of a detached UI.
+     */
+    public static final String REASON_DETACH = "detach";
+
+    /**
+     * Cancel reason of loads replaced by a newer load or request.
+     */
+    public static final String REASON_SUPERSEDED = "superseded";
+
+    /**
+     * Cancel reason of loads of a view the user navigated away from.
+     */
+    public static final String REASON_NAVIGATION = "navigation";
+
+    private static final String REQUEST_TYPE_PARAMETER = "v-r";
+    private static final String UI_ID_PARAMETER = "v-uiId";
+
+    private final Environment environment;
+
+    @Value("${start.db.timeout.loader-default:30s}")
+    private Duration defaultTimeout;
+
+    /**
+     * Running loads by UI key ({@code sessionId:uiId}) and loader key.
+     */
+    private final Map<String, Map<String, RunningLoad>> runningLoads = new ConcurrentHashMap<>();
+
+    /**
+     * Runs a load of a data loader of the current UI.
+     *
+     * @param loaderKey {@code viewId.loaderId}, e.g. {@code User.list.usersDl}
+     * @param load load to run
+     * @param <T> result type
+     * @return load result
+     */
+    public <T> T load(final String loaderKey, final Supplier<T> load) {
+        return load(UI.getCurrent(), loaderKey, load);
+    }
+
+    /**
+     * Runs a load of a data loader of the given UI, e.g. in a background thread.
+     *
+     * <p>Loads outside a request are cancelled on detach and by newer loads of the same
+     * loader only, never by other UIDL requests of the UI.
+     *
+     * @param ui UI the load belongs to, null to run with the timeout only
+     * @param loaderKey {@code viewId.loaderId}, e.g. {@code User.list.usersDl}
+     * @param load load to run
+     * @param <T> result type
+     * @return load result
+     */
+    public <T> T load(final UI ui, final String loaderKey, final Supplier<T> load) {
+        final Duration timeout =
+                environment.getProperty("start.db.timeout.loader." + loaderKey, Duration.class, defaultTimeout);
+        final VaadinSession session = ui != null ? ui.getSession() : null;
+        if (session == null) {
+            return QueryTimeouts.withTimeout(timeout, load);
+        }
+        final String uiKey = uiKey(session.getSession().getId(), ui.getUIId());
+        final Map<String, RunningLoad> loads = runningLoads.computeIfAbsent(uiKey, key -> {
+            final Command register = () -> ui.addDetachListener(_event -> cancelAll(key, REASON_DETACH));
+            if (session.hasLock()) {
+                register.execute();
+            } else {
+                ui.access(register);
+            }
+            return new ConcurrentHashMap<>();
+        });
+        final RunningLoad running =
+                new RunningLoad(new QueryCancellation(uiKey + "/" + loaderKey), VaadinRequest.getCurrent() != null);
+        final RunningLoad previous = loads.put(loaderKey, running);
+        if (previous != null) {
+            previous.cancellation().cancel(REASON_SUPERSEDED);
+        }
+        try {
+            return QueryTimeouts.withTimeout(timeout, () -> running.cancellation().call(load));
+        } finally {
+            loads.remove(loaderKey, running);
+        }
+    }
+
+    /**
+     * Cancels the running load of a data loader of the given UI, if any.
+     *
+     * @param ui UI the load belongs to
+     * @param loaderKey {@code viewId.loaderId}
+     * @param reason cancel reason, e.g. {@value #REASON_NAVIGATION}
+     */
+    public void cancel(final UI ui, final String loaderKey, final String reason) {
+        final VaadinSession session = ui.getSession();
+        final Map<String, RunningLoad> loads =
+                session != null ? runningLoads.get(uiKey(session.getSession().getId(), ui.getUIId())) : null;
+        final RunningLoad running = loads != null ? loads.remove(loaderKey) : null;
+        if (running != null) {
+            running.cancellation().cancel(reason);
+            log.debug("Load cancelled: loader={}, reason={}", loaderKey, reason);
+        }
+    }
+
+    @Override
+    public void doFilter(final ServletRequest request, final ServletResponse response, final FilterChain chain)
+            throws IOException, ServletException {
+        if (request instanceof HttpServletRequest httpRequest
+                && "uidl".equals(httpRequest.getParameter(REQUEST_TYPE_PARAMETER))) {
+            final HttpSession session = httpRequest.getSession(false);
+            final String uiId = httpRequest.getParameter(UI_ID_PARAMETER);
+            if (session != null && uiId != null) {
+                cancelRequestBound(uiKey(session.getId(), uiId));
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    private void cancelRequestBound(final String uiKey) {
+        final Map<String, RunningLoad> loads = runningLoads.get(uiKey);
+        if (loads != null) {
+            loads.values().stream()
+                    .filter(RunningLoad::requestBound)
+                    .forEach(running -> running.cancellation().cancel(REASON_SUPERSEDED));
+        }
+    }
+
+    private void cancelAll(final String uiKey, final String reason) {
+        final Map<String, RunningLoad> loads = runningLoads.remove(uiKey);
+        if (loads != null) {
+            loads.values().forEach(running -> running.cancellation().cancel(reason));
+            log.debug("UI detached, cancelled loads: ui={}, loads={}", uiKey, loads.keySet());
+        }
+    }
+
+    private static String uiKey(final String sessionId, final Object uiId) {
+        return sessionId + ":" + uiId;
+    }
+
+    /**
+     * Load in progress.
+     *
+     * @param cancellation cancellation handle of its queries
+     * @param requestBound whether it runs in the request thread holding the session lock
+     */
+    private record RunningLoad(QueryCancellation cancellation, boolean requestBound) {}
+}
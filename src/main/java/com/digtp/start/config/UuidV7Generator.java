@@ -0,0 +1,92 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.config;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * Time-ordered UUID version 7 generator (RFC 9562).
+ *
+ * <p>The 48 most significant bits hold the Unix timestamp in milliseconds, so new IDs are
+ * appended to the right edge of the primary key B-tree instead of landing on random pages.
+ * The 12 bits following the version are a counter (RFC 9562, method 1): it starts at a
+ * random value below 2048 in every millisecond and is incremented for each further ID of
+ * the same millisecond. IDs of one thread are therefore strictly increasing, even if the
+ * clock steps back; when the counter overflows, the timestamp is advanced by a millisecond.
+ * The remaining 62 bits are random.
+ *
+ * <p>The counter state is thread-local, so generation takes no locks. IDs of different
+ * threads are ordered by millisecond only.
+ */
+public final class UuidV7Generator implements IdGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final int COUNTER_MAX = (1 << COUNTER_BITS) - 1;
+    private static final int COUNTER_SEED_BOUND = 1 << (COUNTER_BITS - 1);
+    private static final long VERSION = 7L << COUNTER_BITS;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private final LongSupplier clock;
+    private final ThreadLocal<State> state = ThreadLocal.withInitial(State::new);
+
+    /**
+     * Creates a generator using the system clock.
+     */
+    public UuidV7Generator() {
+        this(System::currentTimeMillis);
+    }
+
+    /**
+     * Creates a generator with the given clock.
+     *
+     * @param clock current time in milliseconds since the epoch
+     */
+    UuidV7Generator(final LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public UUID nextId() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final State current = state.get();
+        final long now = clock.getAsLong();
+        if (now > current.millis) {
+            current.millis = now;
+            current.counter = random.nextInt(COUNTER_SEED_BOUND);
+        } else if (current.counter < COUNTER_MAX) {
+            current.counter++;
+        } else {
+            // Counter exhausted (or clock stepped back that far): borrow the next millisecond
+            current.millis++;
+            current.counter = random.nextInt(COUNTER_SEED_BOUND);
+        }
+        final long mostSigBits = (current.millis << 16) | VERSION | current.counter;
+        final long leastSigBits = VARIANT | (random.nextLong() & RANDOM_MASK);
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * Returns the creation time encoded in a version 7 UUID.
+     *
+     * @param uuid version 7 UUID
+     * @return timestamp with millisecond precision
+     */
+    public static Instant timestampOf(final UUID uuid) {
+        return Instant.ofEpochMilli(uuid.getMostSignificantBits() >>> 16);
+    }
+
+    /**
+     * Last generated timestamp and counter of a thread.
+     */
+    private static final class State {
+
+        private long millis = Long.MIN_VALUE;
+        private int counter;
+    }
+}
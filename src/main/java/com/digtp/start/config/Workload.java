@@ -0,0 +1,31 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs the annotated bean method (or all public methods of the annotated bean) with
+ * connections from the pool of the given workload class.
+ *
+ * <p>Applied by {@link WorkloadAspect}, so it works on calls through the Spring proxy only
+ * and the class must not be final. Elsewhere use {@link DataSourceRouting#withWorkload}.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface Workload {
+
+    /**
+     * Workload class of the method.
+     *
+     * @return workload class
+     */
+    WorkloadClass value();
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies {@link Workload} annotations.
+ *
+ * <p>Runs before transaction interceptors, so the connection of a transaction started by
+ * the annotated method already comes from the workload's pool.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class WorkloadAspect {
+
+    /**
+     * Runs an annotated method with the workload of its annotation.
+     *
+     * @param joinPoint method execution join point
+     * @return method return value
+     * @throws Throwable if method execution throws exception
+     */
+    @Around("@annotation(com.digtp.start.config.Workload) || @within(com.digtp.start.config.Workload)")
+    public Object applyWorkload(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        final Workload methodWorkload = AnnotatedElementUtils.findMergedAnnotation(signature.getMethod(), Workload.class);
+        final Workload workload = methodWorkload != null
+                ? methodWorkload
+                : AnnotatedElementUtils.findMergedAnnotation(joinPoint.getTarget().getClass(), Workload.class);
+        final WorkloadClass previous = DataSourceRouting.enterWorkload(workload.value());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            DataSourceRouting.restoreWorkload(previous);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.config;
+
+import java.util.Locale;
+
+/**
+ * Class of database work, selecting the connection pool of {@link RoutingDataSource}.
+ */
+public enum WorkloadClass {
+
+    /**
+     * UI requests and logins; served by the primary pool ({@code main.datasource.hikari}).
+     */
+    INTERACTIVE,
+
+    /**
+     * Long-running background work: warm-up, index rebuilds, imports and exports.
+     */
+    BATCH,
+
+    /**
+     * Short infrastructure work: cache invalidation, health and housekeeping queries.
+     */
+    SYSTEM;
+
+    /**
+     * Returns the pool name, also the key under {@code main.datasource.workloads}.
+     *
+     * @return lower-case pool name
+     */
+    public String poolName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -7,6 +7,7 @@ package com.digtp.start.entity;
 import io.jmix.core.HasTimeZone;
 import io.jmix.core.annotation.Secret;
 import io.jmix.core.entity.annotation.JmixGeneratedValue;
+import io.jmix.core.entity.annotation.PublishEntityChangedEvents;
 import io.jmix.core.entity.annotation.SystemLevel;
 import io.jmix.core.metamodel.annotation.DependsOnProperties;
 import io.jmix.core.metamodel.annotation.InstanceName;
@@ -38,9 +39,12 @@ import org.springframework.security.core.GrantedAuthority;
  *
  * <p>Implements JmixUserDetails for authentication and HasTimeZone for timezone support.
  * Provides user management functionality including username, password, email, and timezone.
+ *
+ * <p>Publishes EntityChangedEvent so that user caches can be invalidated on save and delete.
  */
 @JmixEntity
 @Entity
+@PublishEntityChangedEvents
 @Table(
         name = "USER_",
         indexes = {@Index(name = "IDX_USER__ON_USERNAME", columnList = "USERNAME", unique = true)})
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.rest;
+
+import com.digtp.start.service.FilterIndexPolicy;
+import io.jmix.core.Metadata;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint reporting the generic filter conditions users run.
+ *
+ * <p>{@code GET /actuator/filterusage} lists the conditions and sorts recorded by
+ * {@link FilterIndexPolicy} since startup or the last {@code DELETE}, most frequent first;
+ * frequent entries with {@code indexed=false} are the candidates for new indexes.
+ * {@code GET /actuator/filterusage/User} lists the operations indexes serve per property
+ * of an entity.
+ */
+@Component
+@Endpoint(id = "filterusage")
+@RequiredArgsConstructor
+public final class FilterUsageEndpoint {
+
+    private final FilterIndexPolicy filterIndexPolicy;
+    private final Metadata metadata;
+
+    /**
+     * Lists the recorded filter usage.
+     *
+     * @return usage records, most frequent first
+     */
+    @ReadOperation
+    public List<FilterIndexPolicy.UsageRecord> usage() {
+        return filterIndexPolicy.usage();
+    }
+
+    /**
+     * Lists the index-served operations of an entity.
+     *
+     * @param entity entity name, e.g. {@code User}
+     * @return operations by property name
+     */
+    @ReadOperation
+    public Map<String, List<String>> classification(@Selector final String entity) {
+        return filterIndexPolicy.classification(metadata.getClass(entity));
+    }
+
+    /**
+     * Clears the recorded usage.
+     */
+    @DeleteOperation
+    public void reset() {
+        filterIndexPolicy.resetUsage();
+    }
+}
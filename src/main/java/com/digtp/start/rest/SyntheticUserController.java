@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.rest;
+
+import com.digtp.start.entity.User;
+import com.digtp.start.service.SyntheticUserGenerator;
+import com.digtp.start.service.SyntheticUserService;
+import io.jmix.core.AccessManager;
+import io.jmix.core.Metadata;
+import io.jmix.core.accesscontext.CrudEntityContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Development endpoint filling the database with synthetic users.
+ *
+ * <p>{@code POST /api/dev/synthetic-users?count=1000000&seed=42&firstIndex=0} generates users
+ * with {@link SyntheticUserService}. Only registered with the {@code dev} profile; requires
+ * create permission on users.
+ */
+@RestController
+@RequestMapping("/api/dev/synthetic-users")
+@Profile("dev")
+@RequiredArgsConstructor
+public class SyntheticUserController {
+
+    private final SyntheticUserService syntheticUserService;
+    private final AccessManager accessManager;
+    private final Metadata metadata;
+
+    /**
+     * Generates synthetic users.
+     *
+     * @param count number of users
+     * @param seed seed of the dataset
+     * @param firstIndex index of the first user; use the previous end to append
+     * @return numbers of written rows and elapsed time
+     */
+    @PostMapping
+    public SyntheticUserGenerator.Result generate(
+            @RequestParam(name = "count") final int count,
+            @RequestParam(name = "seed", defaultValue = "42") final long seed,
+            @RequestParam(name = "firstIndex", defaultValue = "0") final long firstIndex) {
+        final CrudEntityContext context = new CrudEntityContext(metadata.getClass(User.class));
+        accessManager.applyRegisteredConstraints(context);
+        if (!context.isCreatePermitted()) {
+            throw new AccessDeniedException("User create permission required");
+        }
+        return syntheticUserService.generate(Math.max(count, 0), seed, Math.max(firstIndex, 0));
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.rest;
+
+import com.digtp.start.entity.User;
+import com.digtp.start.service.UserAutocompleteService;
+import com.digtp.start.service.UserSuggestion;
+import io.jmix.core.AccessManager;
+import io.jmix.core.Metadata;
+import io.jmix.core.accesscontext.CrudEntityContext;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST endpoint for user type-ahead.
+ *
+ * <p>{@code GET /api/users/autocomplete?q=jo&limit=10} returns suggestions from
+ * {@link UserAutocompleteService}. The endpoint is covered by the UI security filter chain
+ * (session authentication) and requires read access to users.
+ */
+@RestController
+@RequestMapping("/api/users")
+@RequiredArgsConstructor
+public class UserAutocompleteController {
+
+    private static final int DEFAULT_LIMIT = 10;
+
+    private final UserAutocompleteService userAutocompleteService;
+    private final AccessManager accessManager;
+    private final Metadata metadata;
+
+    /**
+     * Returns users whose username or name starts with the given text.
+     *
+     * @param prefix typed text
+     * @param limit maximum number of suggestions
+     * @return suggestions, shorter matches first
+     */
+    @GetMapping("/autocomplete")
+    public List<UserSuggestion> autocomplete(
+            @RequestParam(name = "q", defaultValue = "") final String prefix,
+            @RequestParam(name = "limit", defaultValue = "" + DEFAULT_LIMIT) final int limit) {
+        final CrudEntityContext context = new CrudEntityContext(metadata.getClass(User.class));
+        accessManager.applyRegisteredConstraints(context);
+        if (!context.isReadPermitted()) {
+            throw new AccessDeniedException("User read permission required");
+        }
+        return userAutocompleteService.suggest(prefix, Math.max(limit, 0));
+    }
+}
@@ -0,0 +1,7 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+
+@org.jspecify.annotations.NullUnmarked
+package com.digtp.start.rest;
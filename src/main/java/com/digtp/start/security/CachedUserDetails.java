@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.security;
+
+import com.digtp.start.entity.User;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * Immutable snapshot of a {@link User} and its granted authorities.
+ *
+ * <p>Stored in the user details cache of {@link DatabaseUserRepository} instead of the
+ * entity itself, so that no cached state can be modified by callers. A fresh detached
+ * {@link User} is materialized from the snapshot for every lookup.
+ *
+ * @param id user ID
+ * @param version optimistic lock version of the loaded row
+ * @param username username (cache key)
+ * @param password encoded password hash
+ * @param firstName first name
+ * @param lastName last name
+ * @param email email address
+ * @param active whether the user is active
+ * @param timeZoneId time zone ID
+ * @param authorities granted authorities resolved from role assignments
+ */
+public record CachedUserDetails(
+        UUID id,
+        Integer version,
+        String username,
+        String password,
+        String firstName,
+        String lastName,
+        String email,
+        Boolean active,
+        String timeZoneId,
+        List<GrantedAuthority> authorities) {
+
+    /**
+     * Creates a snapshot of the given user.
+     *
+     * @param user loaded user with authorities set
+     * @return immutable snapshot
+     */
+    public static CachedUserDetails of(final User user) {
+        return new CachedUserDetails(
+                user.getId(),
+                user.getVersion(),
+                user.getUsername(),
+                user.getPassword(),
+                user.getFirstName(),
+                user.getLastName(),
+                user.getEmail(),
+                user.getActive(),
+                user.getTimeZoneId(),
+                List.copyOf(user.getAuthorities()));
+    }
+
+    /**
+     * Copies the snapshot state into the given user instance.
+     *
+     * @param user target user instance, typically newly created
+     * @return the same user instance
+     */
+    public User applyTo(final User user) {
+        user.setId(id);
+        user.setVersion(version);
+        user.setUsername(username);
+        user.setPassword(password);
+        user.setFirstName(firstName);
+        user.setLastName(lastName);
+        user.setEmail(email);
+        user.setActive(active);
+        user.setTimeZoneId(timeZoneId);
+        user.setAuthorities(authorities);
+        return user;
+    }
+}
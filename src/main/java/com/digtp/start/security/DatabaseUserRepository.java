@@ -4,14 +4,36 @@
  */
 package com.digtp.start.security;
 
+import com.digtp.start.cache.CacheInvalidationEvent;
+import com.digtp.start.cache.CacheRegion;
+import com.digtp.start.config.CacheMetricsConfig;
+import com.digtp.start.config.CacheSpec;
+import com.digtp.start.config.CacheSpecProperties;
 import com.digtp.start.entity.User;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.jmix.core.EntityStates;
+import io.jmix.core.Metadata;
+import io.jmix.core.UnconstrainedDataManager;
+import io.jmix.core.event.EntityChangedEvent;
+import io.jmix.core.event.EntitySavingEvent;
+import io.jmix.securitydata.entity.RoleAssignmentEntity;
 import io.jmix.securitydata.user.AbstractDatabaseUserRepository;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
 import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * Database-backed user repository implementation.
@@ -19,6 +41,21 @@ import org.springframework.stereotype.Component;
  * <p>Extends Jmix AbstractDatabaseUserRepository to provide user authentication
  * and authorization data from the database. Initializes system and anonymous users
  * with appropriate roles.
+ *
+ * <p>Loaded users are kept in a bounded Caffeine cache of {@link CachedUserDetails}
+ * snapshots keyed by username, so authentication and session revalidation do not hit
+ * the database and resolve roles on every call. The cache is configured by
+ * {@code start.cache.user-details-cache.*} ({@link CacheSpecProperties}). Entries are refreshed
+ * in the background after {@code refresh-after-write} and invalidated
+ * explicitly after commit of {@link User} changes and role assignment saves. Deleted role
+ * assignments arrive as {@link CacheInvalidationEvent}s from
+ * {@link com.digtp.start.cache.RoleAssignmentDeletionPublisher}, and so do changes made on
+ * other pods when the cross-pod invalidation bus is enabled.
+ *
+ * <p>Usernames are matched case-insensitively among active users, through the partial
+ * {@code IDX_USER__ACTIVE_LOWER_USERNAME} index: {@code Admin} logs in as {@code admin}.
+ * An exact match wins if usernames differ in case only. Inactive users are matched
+ * exactly, so they are still reported as disabled rather than unknown.
  */
 @Primary
 @Component("userRepository")
@@ -26,11 +63,154 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class DatabaseUserRepository extends AbstractDatabaseUserRepository<User> {
 
+    /**
+     * Cache name used for metrics and configuration keys.
+     */
+    public static final String USER_CACHE_NAME = "user-details-cache";
+
+    /**
+     * Spec used for properties not set under {@code start.cache.user-details-cache}.
+     */
+    private static final CacheSpec USER_CACHE_DEFAULTS =
+            new CacheSpec(10_000L, null, Duration.ofMinutes(10), null, Duration.ofMinutes(1), null, true);
+
+    /**
+     * Case-insensitive lookup among active users, served by {@code IDX_USER__ACTIVE_LOWER_USERNAME}.
+     */
+    static final String ACTIVE_USERNAME_QUERY =
+            "select e.username from User e where lower(e.username) = :lowerUsername and e.active = true";
+
+    private final Metadata metadata;
+    private final EntityStates entityStates;
+    private final UnconstrainedDataManager unconstrainedDataManager;
+    private final CacheMetricsConfig cacheMetricsConfig;
+    private final CacheSpecProperties cacheSpecProperties;
+
+    private LoadingCache<String, CachedUserDetails> userCache;
+
+    /**
+     * Builds the user details cache and registers its metrics.
+     */
+    @PostConstruct
+    void initUserCache() {
+        final CacheSpec spec = cacheSpecProperties.specOf(USER_CACHE_NAME, USER_CACHE_DEFAULTS);
+        userCache = spec.toCaffeine().build(this::loadSnapshot);
+        cacheMetricsConfig.registerCache(USER_CACHE_NAME, userCache);
+        log.info("User details cache initialized: spec={}", spec.describe());
+    }
+
     @Override
     protected Class<User> getUserClass() {
         return User.class;
     }
 
+    /**
+     * Loads user by username from the user details cache.
+     *
+     * <p>Returns a new detached {@link User} instance built from the cached snapshot,
+     * so callers may modify the result without affecting other sessions.
+     *
+     * @param username username to look up
+     * @return detached user with authorities
+     * @throws UsernameNotFoundException if the user does not exist
+     */
+    @Override
+    public User loadUserByUsername(final String username) throws UsernameNotFoundException {
+        final CachedUserDetails snapshot = userCache.get(username);
+        final User user = snapshot.applyTo(metadata.create(User.class));
+        entityStates.makeDetached(user);
+        return user;
+    }
+
+    /**
+     * Removes the cached snapshot for the given username.
+     *
+     * @param username username to evict
+     */
+    public void invalidateUser(final String username) {
+        invalidateUsers(Set.of(username));
+    }
+
+    /**
+     * Removes all cached user snapshots.
+     */
+    public void invalidateAllUsers() {
+        userCache.invalidateAll();
+    }
+
+    /**
+     * Evicts cached snapshots of a changed user after the transaction commits.
+     *
+     * <p>Evicts by the previous username (if it was changed or the user was deleted)
+     * and by user ID, since the event does not carry the current username.
+     *
+     * @param event user changed event
+     */
+    @TransactionalEventListener
+    public void onUserChangedAfterCommit(final EntityChangedEvent<User> event) {
+        final Object userId = event.getEntityId().getValue();
+        final String oldUsername = event.getChanges().getOldValue("username");
+        if (oldUsername != null) {
+            userCache.invalidate(oldUsername);
+        }
+        userCache.asMap().values().removeIf(snapshot -> snapshot.id().equals(userId));
+        log.debug("User details cache entry evicted: id={}, changeType={}", userId, event.getType());
+    }
+
+    /**
+     * Evicts the cached snapshot of the assignee after a role assignment is committed.
+     *
+     * @param event role assignment saving event
+     */
+    @EventListener
+    public void onRoleAssignmentSaving(final EntitySavingEvent<RoleAssignmentEntity> event) {
+        final String username = event.getEntity().getUsername();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateUser(username);
+                }
+            });
+        } else {
+            invalidateUser(username);
+        }
+    }
+
+    /**
+     * Evicts cached snapshots changed on another pod, by a bulk operation or by a role
+     * assignment deletion.
+     *
+     * @param event cross-pod cache invalidation event
+     */
+    @EventListener
+    public void onCacheInvalidation(final CacheInvalidationEvent event) {
+        if (event.flushAll()) {
+            invalidateAllUsers();
+            log.debug("User details cache flushed by invalidation bus");
+            return;
+        }
+        final Set<String> userIds = event.keysOf(CacheRegion.USER);
+        if (!userIds.isEmpty()) {
+            userCache.asMap().values().removeIf(snapshot -> userIds.contains(snapshot.id().toString()));
+        }
+        invalidateUsers(event.keysOf(CacheRegion.ROLE_ASSIGNMENT));
+    }
+
+    /**
+     * Removes the cached snapshots of the given usernames, including entries cached under
+     * a differently cased login name.
+     *
+     * @param usernames usernames to evict
+     */
+    private void invalidateUsers(final Set<String> usernames) {
+        if (usernames.isEmpty()) {
+            return;
+        }
+        userCache.invalidateAll(usernames);
+        userCache.asMap().values().removeIf(snapshot -> usernames.contains(snapshot.username()));
+    }
+
     @Override
     protected void initSystemUser(final User systemUser) {
         final Collection<GrantedAuthority> authorities = getGrantedAuthoritiesBuilder()
@@ -44,4 +224,35 @@ public class DatabaseUserRepository extends AbstractDatabaseUserRepository<User>
     protected void initAnonymousUser(final User anonymousUser) {
         log.debug("Anonymous user initialized: username={}", anonymousUser.getUsername());
     }
+
+    /**
+     * Loads user and authorities from the database and takes a snapshot.
+     *
+     * @param username username to load
+     * @return immutable snapshot
+     */
+    private CachedUserDetails loadSnapshot(final String username) {
+        final User user = super.loadUserByUsername(resolveUsername(username));
+        log.debug("User details loaded from database: username={}", username);
+        return CachedUserDetails.of(user);
+    }
+
+    /**
+     * Resolves a login name to the stored username of an active user.
+     *
+     * @param username login name as entered
+     * @return stored username of the matching active user, or the login name itself if
+     *     there is no unambiguous match
+     */
+    private String resolveUsername(final String username) {
+        final List<String> matches = unconstrainedDataManager
+                .loadValue(ACTIVE_USERNAME_QUERY, String.class)
+                .parameter("lowerUsername", username.toLowerCase(Locale.ROOT))
+                .maxResults(2)
+                .list();
+        if (matches.size() != 1 || matches.contains(username)) {
+            return username;
+        }
+        return matches.get(0);
+    }
 }
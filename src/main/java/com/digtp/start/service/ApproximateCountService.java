@@ -0,0 +1,191 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.service;
+
+import com.digtp.start.config.CacheMetricsConfig;
+import com.digtp.start.config.CacheSpec;
+import com.digtp.start.config.CacheSpecProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.jmix.core.DataManager;
+import io.jmix.core.LoadContext;
+import io.jmix.core.MetadataTools;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.security.CurrentAuthentication;
+import jakarta.annotation.PostConstruct;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Counts rows for pagination, using PostgreSQL statistics on large tables.
+ *
+ * <p>{@code count(*)} over a multi-million-row table can take longer than loading the page
+ * itself. This service first reads the table size estimate from {@code pg_class.reltuples}:
+ * <ul>
+ *   <li>below {@code start.count.exact-threshold} rows the count is exact
+ *       ({@link DataManager#getCount})</li>
+ *   <li>above it, an unfiltered count returns the table estimate and a filtered count the
+ *       row estimate of {@code EXPLAIN} for the filter; if that estimate is below the
+ *       threshold the count is exact again</li>
+ * </ul>
+ *
+ * <p>Only queries of the form {@code select e from Entity e [order by ...]} with conditions
+ * that {@link ConditionSqlTranslator} can translate are estimated; anything else is counted
+ * exactly. Estimates ignore row-level security constraints. Estimates are cached per user,
+ * table and filter for {@code start.cache.approximate-count-cache.expire-after-write}, so
+ * paging through a filtered list does not re-run the statistics queries; exact counts are
+ * not cached and reflect changes immediately.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApproximateCountService {
+
+    /**
+     * Cache name used for metrics and configuration keys.
+     */
+    public static final String COUNT_CACHE_NAME = "approximate-count-cache";
+
+    private static final CacheSpec COUNT_CACHE_DEFAULTS =
+            new CacheSpec(1000L, null, Duration.ofSeconds(30), null, null, null, true);
+
+    private static final Pattern PLAIN_QUERY = Pattern.compile(
+            "select\\s+e\\s+from\\s+[\\w$]+\\s+e(\\s+order\\s+by\\s+.+)?", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    private static final Pattern PLAN_ROWS = Pattern.compile("rows=(\\d+)");
+    private static final String TABLE_ESTIMATE_SQL =
+            "select reltuples::bigint from pg_class where oid = to_regclass(?)";
+
+    private final DataManager dataManager;
+    private final DataSource dataSource;
+    private final MetadataTools metadataTools;
+    private final CurrentAuthentication currentAuthentication;
+    private final CacheSpecProperties cacheSpecProperties;
+    private final CacheMetricsConfig cacheMetricsConfig;
+
+    @Value("${start.count.exact-threshold:100000}")
+    private long exactThreshold;
+
+    private Cache<String, RowCount> countCache;
+
+    /**
+     * Builds the count cache and registers its metrics.
+     */
+    @PostConstruct
+    void initCountCache() {
+        final CacheSpec spec = cacheSpecProperties.specOf(COUNT_CACHE_NAME, COUNT_CACHE_DEFAULTS);
+        countCache = spec.toCaffeine().build();
+        cacheMetricsConfig.registerCache(COUNT_CACHE_NAME, countCache);
+    }
+
+    /**
+     * Counts the rows matching the query and conditions of the given load context.
+     *
+     * @param loadContext load context of a list query; paging settings are ignored
+     * @return exact count, or an estimate for large tables
+     */
+    public RowCount count(final LoadContext<?> loadContext) {
+        final MetaClass metaClass = loadContext.getEntityMetaClass();
+        final LoadContext.Query query = loadContext.getQuery();
+        final Optional<ConditionSqlTranslator.SqlFilter> filter = query != null
+                        && PLAIN_QUERY.matcher(query.getQueryString().trim()).matches()
+                ? ConditionSqlTranslator.translate(metaClass, query.getCondition())
+                : Optional.empty();
+        if (filter.isEmpty()) {
+            return RowCount.exact(dataManager.getCount(loadContext));
+        }
+        final String table = metadataTools.getDatabaseTable(metaClass);
+        final String cacheKey = currentAuthentication.getUser().getUsername() + '|' + table + '|'
+                + filter.get().signature();
+        final RowCount cached = countCache.getIfPresent(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+        final RowCount count = countLargeTable(loadContext, table, filter.get());
+        if (count.estimated()) {
+            countCache.put(cacheKey, count);
+        }
+        return count;
+    }
+
+    private RowCount countLargeTable(
+            final LoadContext<?> loadContext, final String table, final ConditionSqlTranslator.SqlFilter filter) {
+        final long tableEstimate = tableEstimate(table);
+        if (tableEstimate < exactThreshold) {
+            return RowCount.exact(dataManager.getCount(loadContext));
+        }
+        if (filter.isUnfiltered()) {
+            log.debug("Row count estimated from statistics: table={}, rows={}", table, tableEstimate);
+            return RowCount.estimate(tableEstimate);
+        }
+        final long planEstimate = planEstimate(table, filter);
+        if (planEstimate < exactThreshold) {
+            return RowCount.exact(dataManager.getCount(loadContext));
+        }
+        log.debug("Row count estimated from plan: table={}, rows={}", table, planEstimate);
+        return RowCount.estimate(planEstimate);
+    }
+
+    /**
+     * Reads the table size estimate maintained by VACUUM/ANALYZE.
+     *
+     * @param table table name
+     * @return estimated number of rows, or -1 if the table was never analyzed
+     */
+    long tableEstimate(final String table) {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(TABLE_ESTIMATE_SQL)) {
+            statement.setString(1, table.toLowerCase(Locale.ROOT));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getLong(1) : -1;
+            }
+        } catch (final SQLException exception) {
+            log.warn("Failed to read table statistics: table={}, error={}", table, exception.getMessage(), exception);
+            return -1;
+        }
+    }
+
+    /**
+     * Reads the planner row estimate of the filtered table scan.
+     *
+     * @param table table name
+     * @param filter translated filter
+     * @return estimated number of matching rows, or -1 if it cannot be obtained
+     */
+    long planEstimate(final String table, final ConditionSqlTranslator.SqlFilter filter) {
+        // Table and column names come from entity metadata, values are bound as parameters
+        final String sql = "explain select 1 from " + table + " e where " + filter.where();
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(sql)) {
+            final List<Object> parameters = filter.parameters();
+            for (int index = 0; index < parameters.size(); index++) {
+                statement.setObject(index + 1, parameters.get(index));
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    final Matcher matcher = PLAN_ROWS.matcher(resultSet.getString(1));
+                    if (matcher.find()) {
+                        return Long.parseLong(matcher.group(1));
+                    }
+                }
+                return -1;
+            }
+        } catch (final SQLException exception) {
+            log.warn("Failed to read plan estimate: table={}, error={}", table, exception.getMessage(), exception);
+            return -1;
+        }
+    }
+}
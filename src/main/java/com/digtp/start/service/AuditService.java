@@ -4,6 +4,7 @@
  */
 package com.digtp.start.service;
 
+import java.util.Collection;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -78,6 +79,25 @@ public class AuditService {
         auditLogger.info("USER_DELETED: userId={}, username={}, deletedBy={}", userId, username, currentUser);
     }
 
+    /**
+     * Logs one chunk of a bulk user operation as a single event.
+     *
+     * @param eventType event type of the operation (e.g. USERS_BULK_DEACTIVATED)
+     * @param userIds   IDs of the changed users
+     * @param skipped   number of selected users left unchanged (changed concurrently, already
+     *                  in the target state, or the current user)
+     */
+    public void logUsersBulkChanged(final String eventType, final Collection<UUID> userIds, final int skipped) {
+        final String currentUser = getCurrentUsername();
+        auditLogger.info(
+                "{}: count={}, skipped={}, userIds={}, changedBy={}",
+                eventType,
+                userIds.size(),
+                skipped,
+                userIds,
+                currentUser);
+    }
+
     /**
      * Logs successful login event.
      *
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.service;
+
+import io.jmix.core.metamodel.datatype.EnumClass;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.metamodel.model.MetaProperty;
+import io.jmix.core.querycondition.Condition;
+import io.jmix.core.querycondition.LogicalCondition;
+import io.jmix.core.querycondition.PropertyCondition;
+import jakarta.persistence.Column;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Translates Jmix query conditions into a plain SQL {@code WHERE} clause.
+ *
+ * <p>Supports property conditions on direct (non-reference) attributes of the queried
+ * entity combined with AND/OR, which covers the conditions built by the generic filter.
+ * Conditions without a parameter value are skipped, the same way Jmix skips them when
+ * loading. Anything else (JPQL conditions, reference paths) is not translated and the
+ * caller must fall back to JPQL.
+ *
+ * <p>The result is meant for planner estimates: {@code LIKE} patterns are not escaped.
+ */
+final class ConditionSqlTranslator {
+
+    private static final Map<String, String> COMPARISONS = Map.of(
+            PropertyCondition.Operation.EQUAL, "=",
+            PropertyCondition.Operation.NOT_EQUAL, "<>",
+            PropertyCondition.Operation.GREATER, ">",
+            PropertyCondition.Operation.GREATER_OR_EQUAL, ">=",
+            PropertyCondition.Operation.LESS, "<",
+            PropertyCondition.Operation.LESS_OR_EQUAL, "<=");
+
+    private ConditionSqlTranslator() {
+        // Utility class
+    }
+
+    /**
+     * Translates a condition tree.
+     *
+     * @param metaClass queried entity
+     * @param condition condition, may be null
+     * @return SQL filter (empty {@code where} if nothing restricts the rows), or empty if
+     *     the condition cannot be translated
+     */
+    static Optional<SqlFilter> translate(final MetaClass metaClass, final Condition condition) {
+        if (condition == null) {
+            return Optional.of(SqlFilter.NONE);
+        }
+        if (condition instanceof LogicalCondition logical) {
+            return translateLogical(metaClass, logical);
+        }
+        if (condition instanceof PropertyCondition property) {
+            return translateProperty(metaClass, property);
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<SqlFilter> translateLogical(final MetaClass metaClass, final LogicalCondition logical) {
+        final List<String> clauses = new ArrayList<>();
+        final List<Object> parameters = new ArrayList<>();
+        for (final Condition child : logical.getConditions()) {
+            final Optional<SqlFilter> translated = translate(metaClass, child);
+            if (translated.isEmpty()) {
+                return Optional.empty();
+            }
+            if (!translated.get().isUnfiltered()) {
+                clauses.add("(" + translated.get().where() + ")");
+                parameters.addAll(translated.get().parameters());
+            }
+        }
+        final String operator = logical.getType() == LogicalCondition.Type.OR ? " or " : " and ";
+        return Optional.of(new SqlFilter(String.join(operator, clauses), parameters));
+    }
+
+    private static Optional<SqlFilter> translateProperty(final MetaClass metaClass, final PropertyCondition property) {
+        final MetaProperty metaProperty = metaClass.findProperty(property.getProperty());
+        if (metaProperty == null || metaProperty.getRange().isClass()) {
+            return Optional.empty();
+        }
+        final Column column = metaProperty.getAnnotatedElement().getAnnotation(Column.class);
+        if (column == null) {
+            return Optional.empty();
+        }
+        final String columnName = column.name();
+        final String operation = property.getOperation();
+        final Object value = property.getParameterValue();
+        if (PropertyCondition.Operation.IS_SET.equals(operation)) {
+            if (value == null) {
+                return Optional.of(SqlFilter.NONE);
+            }
+            return Optional.of(new SqlFilter(
+                    columnName + (Boolean.TRUE.equals(value) ? " is not null" : " is null"), List.of()));
+        }
+        if (value == null || value instanceof Collection<?> values && values.isEmpty()) {
+            return Optional.of(SqlFilter.NONE);
+        }
+        final String comparison = COMPARISONS.get(operation);
+        if (comparison != null) {
+            return Optional.of(new SqlFilter(columnName + " " + comparison + " ?", List.of(toJdbc(value))));
+        }
+        return switch (operation) {
+            case PropertyCondition.Operation.CONTAINS -> like(columnName, "like", "%" + value + "%");
+            case PropertyCondition.Operation.NOT_CONTAINS -> like(columnName, "not like", "%" + value + "%");
+            case PropertyCondition.Operation.STARTS_WITH -> like(columnName, "like", value + "%");
+            case PropertyCondition.Operation.ENDS_WITH -> like(columnName, "like", "%" + value);
+            case PropertyCondition.Operation.IN_LIST -> inList(columnName, "in", value);
+            case PropertyCondition.Operation.NOT_IN_LIST -> inList(columnName, "not in", value);
+            default -> Optional.empty();
+        };
+    }
+
+    private static Optional<SqlFilter> like(final String columnName, final String operator, final String pattern) {
+        return Optional.of(new SqlFilter(
+                "lower(" + columnName + ") " + operator + " ?", List.of(pattern.toLowerCase(Locale.ROOT))));
+    }
+
+    private static Optional<SqlFilter> inList(final String columnName, final String operator, final Object value) {
+        if (!(value instanceof Collection<?> values)) {
+            return Optional.empty();
+        }
+        final String placeholders = values.stream().map(_value -> "?").collect(Collectors.joining(", "));
+        final List<Object> parameters = values.stream().map(ConditionSqlTranslator::toJdbc).toList();
+        return Optional.of(new SqlFilter(columnName + " " + operator + " (" + placeholders + ")", parameters));
+    }
+
+    private static Object toJdbc(final Object value) {
+        if (value instanceof EnumClass<?> enumValue) {
+            return enumValue.getId();
+        }
+        if (value instanceof Date date) {
+            return new Timestamp(date.getTime());
+        }
+        return value;
+    }
+
+    /**
+     * SQL {@code WHERE} clause with positional parameters.
+     *
+     * @param where clause without the {@code where} keyword, empty if unfiltered
+     * @param parameters positional parameter values
+     */
+    record SqlFilter(String where, List<Object> parameters) {
+
+        static final SqlFilter NONE = new SqlFilter("", List.of());
+
+        boolean isUnfiltered() {
+            return where.isEmpty();
+        }
+
+        /**
+         * Returns a stable key of the filter for caching.
+         *
+         * @return filter signature
+         */
+        String signature() {
+            return where + parameters;
+        }
+    }
+}
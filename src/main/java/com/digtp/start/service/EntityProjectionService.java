@@ -0,0 +1,195 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.service;
+
+import io.jmix.core.DataManager;
+import io.jmix.core.FetchPlan;
+import io.jmix.core.FetchPlans;
+import io.jmix.core.LoadContext;
+import io.jmix.core.Metadata;
+import io.jmix.core.MetadataTools;
+import io.jmix.core.Sort;
+import io.jmix.core.ValueLoadContext;
+import io.jmix.core.entity.EntityValues;
+import io.jmix.core.entity.KeyValueEntity;
+import io.jmix.core.impl.EntitySystemAccess;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.metamodel.model.MetaProperty;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.persistence.queries.FetchGroup;
+import org.eclipse.persistence.queries.FetchGroupTracker;
+import org.springframework.stereotype.Service;
+
+/**
+ * Loads list pages as scalar projections instead of managed entities.
+ *
+ * <p>A regular list load materializes every row through the persistence context: EclipseLink
+ * builds the object, registers it in the unit of work and Jmix tracks its state, although a
+ * list only displays a few columns. This service rewrites a list query of the form
+ * {@code select e from Entity e [order by ...]} into a value query selecting only the
+ * requested attributes (plus ID and version) and copies each row into a plain, unmanaged
+ * entity instance. Conditions, parameters, paging and sort of the load context are kept, so
+ * generic filter, row-level constraints and keyset seek conditions apply as usual.
+ *
+ * <p>Projected instances are marked as detached and carry an EclipseLink fetch group of the
+ * selected attributes: {@code EntityStates.isLoaded} reports the other attributes as not
+ * loaded, and a merge (saving, removing) touches only the selected attributes, so the
+ * instance can be handed to list actions safely. Views that need the full state reload the
+ * entity by ID, which is what {@code StandardDetailView} does when an instance is opened.
+ *
+ * <p>Queries, attributes or sorts that cannot be projected (references, transient
+ * attributes, custom JPQL) are loaded as entities with a fetch plan of the same attributes.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EntityProjectionService {
+
+    private static final Pattern PLAIN_QUERY = Pattern.compile(
+            "select\\s+e\\s+from\\s+([\\w$]+)\\s+e(\\s+order\\s+by\\s+.+)?", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    private final DataManager dataManager;
+    private final Metadata metadata;
+    private final MetadataTools metadataTools;
+    private final FetchPlans fetchPlans;
+
+    /**
+     * Loads the page described by the load context with only the given attributes.
+     *
+     * @param loadContext load context of a list query; its fetch plan is ignored
+     * @param properties attributes to load; ID and version are always loaded
+     * @param <E> entity type
+     * @return unmanaged entity instances holding the loaded attributes
+     */
+    public <E> List<E> loadList(final LoadContext<E> loadContext, final Collection<String> properties) {
+        final MetaClass metaClass = loadContext.getEntityMetaClass();
+        final List<String> selected = selectedProperties(metaClass, properties);
+        final Optional<ValueLoadContext> valueLoadContext = toValueLoadContext(loadContext, metaClass, selected);
+        if (valueLoadContext.isEmpty()) {
+            log.debug("Projection not applicable, loading entities: entity={}", metaClass.getName());
+            return loadEntities(loadContext, selected);
+        }
+        final List<KeyValueEntity> rows = dataManager.loadValues(valueLoadContext.get());
+        final FetchGroup fetchGroup = new FetchGroup();
+        selected.forEach(fetchGroup::addAttribute);
+        final List<E> entities = new ArrayList<>(rows.size());
+        for (final KeyValueEntity row : rows) {
+            entities.add(toEntity(metaClass, row, selected, fetchGroup));
+        }
+        return entities;
+    }
+
+    /**
+     * Returns the attributes to select: system attributes first, then the requested ones.
+     *
+     * @param metaClass queried entity
+     * @param properties requested attributes
+     * @return distinct attribute names
+     */
+    private List<String> selectedProperties(final MetaClass metaClass, final Collection<String> properties) {
+        final Set<String> selected = new LinkedHashSet<>();
+        metaClass.getProperties().stream()
+                .filter(metadataTools::isSystem)
+                .filter(this::isProjectable)
+                .map(MetaProperty::getName)
+                .forEach(selected::add);
+        selected.addAll(properties);
+        return List.copyOf(selected);
+    }
+
+    private Optional<ValueLoadContext> toValueLoadContext(
+            final LoadContext<?> loadContext, final MetaClass metaClass, final List<String> selected) {
+        final LoadContext.Query query = loadContext.getQuery();
+        if (query == null) {
+            return Optional.empty();
+        }
+        final Matcher matcher = PLAIN_QUERY.matcher(query.getQueryString().trim());
+        final boolean projectable = selected.stream()
+                .map(metaClass::findProperty)
+                .allMatch(property -> property != null && isProjectable(property));
+        if (!matcher.matches() || !projectable) {
+            return Optional.empty();
+        }
+        final Optional<String> orderBy = orderBy(metaClass, query.getSort(), matcher.group(2));
+        if (orderBy.isEmpty()) {
+            return Optional.empty();
+        }
+        final String select = selected.stream().map(property -> "e." + property).collect(Collectors.joining(", "));
+        final ValueLoadContext.Query valueQuery = ValueLoadContext.createQuery(
+                        "select " + select + " from " + matcher.group(1) + " e" + orderBy.get())
+                .setParameters(query.getParameters())
+                .setCondition(query.getCondition())
+                .setFirstResult(query.getFirstResult())
+                .setMaxResults(query.getMaxResults());
+        return Optional.of(ValueLoadContext.create().setQuery(valueQuery).setProperties(selected));
+    }
+
+    /**
+     * Builds the ORDER BY clause of the value query.
+     *
+     * @param metaClass queried entity
+     * @param sort sort of the load context, replaces the query's own ORDER BY if present
+     * @param queryOrderBy ORDER BY clause of the original query, may be null
+     * @return clause with a leading space, empty string if unordered, or empty if the sort
+     *     cannot be expressed on projected attributes
+     */
+    private Optional<String> orderBy(final MetaClass metaClass, final Sort sort, final String queryOrderBy) {
+        if (sort == null || sort.getOrders().isEmpty()) {
+            return Optional.of(queryOrderBy != null ? queryOrderBy : "");
+        }
+        final List<String> orders = new ArrayList<>();
+        for (final Sort.Order order : sort.getOrders()) {
+            final MetaProperty property = metaClass.findProperty(order.getProperty());
+            if (property == null || !isProjectable(property)) {
+                return Optional.empty();
+            }
+            orders.add("e." + property.getName() + (order.getDirection() == Sort.Direction.DESC ? " desc" : " asc"));
+        }
+        return Optional.of(" order by " + String.join(", ", orders));
+    }
+
+    private boolean isProjectable(final MetaProperty property) {
+        return !property.getRange().isClass() && metadataTools.isJpa(property);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <E> E toEntity(
+            final MetaClass metaClass,
+            final KeyValueEntity row,
+            final List<String> selected,
+            final FetchGroup fetchGroup) {
+        final Object entity = metadata.create(metaClass);
+        for (final String property : selected) {
+            EntityValues.setValue(entity, property, row.getValue(property));
+        }
+        // Values are set before the fetch group: setters of unfetched attributes would try to load them
+        if (entity instanceof FetchGroupTracker tracker) {
+            tracker._persistence_setFetchGroup(fetchGroup);
+        }
+        EntitySystemAccess.getEntityEntry(entity).setNew(false);
+        EntitySystemAccess.getEntityEntry(entity).setDetached(true);
+        return (E) entity;
+    }
+
+    private <E> List<E> loadEntities(final LoadContext<E> loadContext, final List<String> selected) {
+        final FetchPlan fetchPlan = fetchPlans.builder(loadContext.getEntityMetaClass().getJavaClass())
+                .addSystem()
+                .addAll(selected.toArray(String[]::new))
+                .build();
+        final LoadContext<E> entityLoadContext = loadContext.copy();
+        entityLoadContext.setFetchPlan(fetchPlan);
+        return dataManager.loadList(entityLoadContext);
+    }
+}
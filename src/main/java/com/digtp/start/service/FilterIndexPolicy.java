@@ -0,0 +1,524 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.service;
+
+import io.jmix.core.LoadContext;
+import io.jmix.core.MetadataTools;
+import io.jmix.core.Sort;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.metamodel.model.MetaProperty;
+import io.jmix.core.querycondition.Condition;
+import io.jmix.core.querycondition.LogicalCondition;
+import io.jmix.core.querycondition.PropertyCondition;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.Column;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+/**
+ * Guard rails for generic filter conditions and sorts on large tables.
+ *
+ * <p>At startup the leading key of every valid index in the current schema is read from the
+ * PostgreSQL catalog and each entity property is classified by the operations an index
+ * can serve:
+ * <ul>
+ *   <li>B-tree on the column - comparisons, {@code in list}, {@code is set} and sort</li>
+ *   <li>hash on the column - equality and {@code in list}</li>
+ *   <li>trigram GIN/GiST on {@code lower(column)} - {@code contains}, {@code starts with},
+ *       {@code ends with}, which Jmix runs case-insensitively</li>
+ * </ul>
+ * Negations ({@code <>}, {@code not contains}, {@code not in list}) are never index-served.
+ * A partial index with a single-column predicate such as {@code WHERE ACTIVE = true} serves
+ * the equality condition matching its predicate; its key only counts together with the
+ * predicate, so partial indexes are not part of the column classification.
+ *
+ * <p>{@link #apply} checks a load against the classification. An {@code AND} is served when
+ * any of its conditions is, an {@code OR} when all of them are; a load without conditions is
+ * served when its sort is. When the table has at least {@code start.filter.large-table-rows}
+ * rows (planner estimate) and the load is not index-served,
+ * {@code start.filter.unindexed-mode} decides:
+ * <ul>
+ *   <li>{@code limit} - the load returns at most {@code start.filter.unindexed-row-limit}
+ *       rows and pages beyond that limit are rejected</li>
+ *   <li>{@code reject} - the load is rejected with {@link UnindexedFilterException}</li>
+ * </ul>
+ *
+ * <p>Every applied condition is counted in {@code start.filter.conditions}, tagged with
+ * entity, property, operation and {@code indexed}, and in the usage report of the
+ * {@code filterusage} actuator endpoint, which shows the unindexed conditions users
+ * actually run.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FilterIndexPolicy {
+
+    /**
+     * Operation name of sort orders in usage records.
+     */
+    public static final String SORT = "sort";
+
+    private static final String INDEXES_SQL = """
+            select t.relname, am.amname, opc.opcname, pg_get_indexdef(i.indexrelid, 1, true),
+                pg_get_expr(i.indpred, i.indrelid)
+            from pg_index i
+            join pg_class t on t.oid = i.indrelid
+            join pg_class c on c.oid = i.indexrelid
+            join pg_am am on am.oid = c.relam
+            join pg_opclass opc on opc.oid = i.indclass[0]
+            where t.relnamespace = current_schema()::regnamespace and i.indisvalid""";
+    private static final String TABLE_ESTIMATE_SQL =
+            "select reltuples::bigint from pg_class where oid = to_regclass(?)";
+    private static final Pattern INDEX_KEY = Pattern.compile("(lower\\()?\\(?\"?(\\w+)\"?\\)?(?:::[\\w ]+)?\\)?");
+    private static final Pattern PARTIAL_PREDICATE =
+            Pattern.compile("\\(*(NOT )?\\(*\"?(\\w+)\"?(?: = (?:'([^']*)'|([\\w.-]+))(?:::[\\w ]+)?)?\\)*");
+    private static final Set<String> TRIGRAM_OPCLASSES = Set.of("gin_trgm_ops", "gist_trgm_ops");
+    private static final Duration TABLE_ESTIMATE_TTL = Duration.ofMinutes(1);
+
+    private static final Map<String, Set<IndexAccess>> SERVED_BY = Map.ofEntries(
+            Map.entry(PropertyCondition.Operation.EQUAL, EnumSet.of(IndexAccess.ORDERED, IndexAccess.EQUALITY)),
+            Map.entry(PropertyCondition.Operation.IN_LIST, EnumSet.of(IndexAccess.ORDERED, IndexAccess.EQUALITY)),
+            Map.entry(PropertyCondition.Operation.GREATER, EnumSet.of(IndexAccess.ORDERED)),
+            Map.entry(PropertyCondition.Operation.GREATER_OR_EQUAL, EnumSet.of(IndexAccess.ORDERED)),
+            Map.entry(PropertyCondition.Operation.LESS, EnumSet.of(IndexAccess.ORDERED)),
+            Map.entry(PropertyCondition.Operation.LESS_OR_EQUAL, EnumSet.of(IndexAccess.ORDERED)),
+            Map.entry(PropertyCondition.Operation.IS_SET, EnumSet.of(IndexAccess.ORDERED)),
+            Map.entry(SORT, EnumSet.of(IndexAccess.ORDERED)),
+            Map.entry(PropertyCondition.Operation.CONTAINS, EnumSet.of(IndexAccess.PATTERN)),
+            Map.entry(PropertyCondition.Operation.STARTS_WITH, EnumSet.of(IndexAccess.PATTERN)),
+            Map.entry(PropertyCondition.Operation.ENDS_WITH, EnumSet.of(IndexAccess.PATTERN)));
+
+    private final DataSource dataSource;
+    private final MetadataTools metadataTools;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${start.filter.large-table-rows:100000}")
+    private long largeTableRows;
+
+    @Value("${start.filter.unindexed-mode:limit}")
+    private Mode unindexedMode;
+
+    @Value("${start.filter.unindexed-row-limit:1000}")
+    private int unindexedRowLimit;
+
+    /**
+     * Classified indexes of the current schema, read on first use.
+     */
+    @Nullable
+    private volatile IndexCatalog indexes;
+
+    private final Map<String, TableEstimate> tableEstimates = new ConcurrentHashMap<>();
+    private final Map<Usage, LongAdder> usage = new ConcurrentHashMap<>();
+
+    /**
+     * Reads the index metadata once the schema is migrated.
+     *
+     * @param _event application ready event (unused)
+     */
+    @EventListener
+    public void onApplicationReady(final ApplicationReadyEvent _event) {
+        classifyIndexes();
+    }
+
+    /**
+     * Reads the leading keys of all indexes of the current schema.
+     *
+     * <p>Called at startup; call again after adding indexes at runtime.
+     */
+    public void classifyIndexes() {
+        final Map<String, Map<String, Set<IndexAccess>>> classified = new HashMap<>();
+        final Map<String, Map<String, Set<String>>> predicates = new HashMap<>();
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(INDEXES_SQL)) {
+            while (resultSet.next()) {
+                final String table = resultSet.getString(1).toLowerCase(Locale.ROOT);
+                final String predicate = resultSet.getString(5);
+                if (predicate != null) {
+                    addPredicate(predicates, table, predicate);
+                    continue;
+                }
+                final Matcher key = INDEX_KEY.matcher(resultSet.getString(4));
+                final IndexAccess access = key.matches()
+                        ? classify(resultSet.getString(2), resultSet.getString(3), key.group(1) != null)
+                        : null;
+                if (access != null) {
+                    classified
+                            .computeIfAbsent(table, _table -> new HashMap<>())
+                            .computeIfAbsent(key.group(2).toLowerCase(Locale.ROOT), _column -> EnumSet.noneOf(
+                                    IndexAccess.class))
+                            .add(access);
+                }
+            }
+        } catch (final SQLException exception) {
+            throw new DataAccessResourceFailureException("Failed to read index metadata", exception);
+        }
+        indexes = new IndexCatalog(classified, predicates);
+        log.info(
+                "Filter index policy classified indexes: tables={}, partialPredicates={}",
+                classified.size(),
+                predicates.size());
+    }
+
+    /**
+     * Records the conditions and sort of a load and applies the policy to it.
+     *
+     * @param loadContext load context of a list; its max results may be reduced
+     * @return verdict listing the conditions no index serves
+     * @throws UnindexedFilterException if the policy rejects the load
+     */
+    public Verdict apply(final LoadContext<?> loadContext) {
+        return check(loadContext, true);
+    }
+
+    /**
+     * Applies the policy to a load without recording its conditions, e.g. to further
+     * windows of a lazy grid whose query was recorded by {@link #apply}.
+     *
+     * @param loadContext load context of a list; its max results may be reduced
+     * @return verdict listing the conditions no index serves
+     * @throws UnindexedFilterException if the policy rejects the load
+     */
+    public Verdict enforce(final LoadContext<?> loadContext) {
+        return check(loadContext, false);
+    }
+
+    /**
+     * Returns the recorded filter usage.
+     *
+     * @return usage records, most frequent first
+     */
+    public List<UsageRecord> usage() {
+        return usage.entrySet().stream()
+                .map(entry -> new UsageRecord(
+                        entry.getKey().entity(),
+                        entry.getKey().property(),
+                        entry.getKey().operation(),
+                        entry.getKey().indexed(),
+                        entry.getValue().sum()))
+                .sorted(Comparator.comparingLong(UsageRecord::count).reversed())
+                .toList();
+    }
+
+    /**
+     * Returns the operations indexes serve for each property of an entity.
+     *
+     * @param metaClass entity
+     * @return index-served operations by property name; properties without any are omitted
+     */
+    public Map<String, List<String>> classification(final MetaClass metaClass) {
+        final Map<String, List<String>> classification = new TreeMap<>();
+        for (final MetaProperty property : metaClass.getProperties()) {
+            final List<String> operations = SERVED_BY.keySet().stream()
+                    .filter(operation -> isIndexed(metaClass, property.getName(), operation))
+                    .sorted()
+                    .toList();
+            if (!operations.isEmpty()) {
+                classification.put(property.getName(), operations);
+            }
+        }
+        return classification;
+    }
+
+    /**
+     * Clears the recorded usage.
+     */
+    public void resetUsage() {
+        usage.clear();
+    }
+
+    private Verdict check(final LoadContext<?> loadContext, final boolean record) {
+        final MetaClass metaClass = loadContext.getEntityMetaClass();
+        final LoadContext.Query query = loadContext.getQuery();
+        if (query == null || !metadataTools.isJpaEntity(metaClass)) {
+            return Verdict.NONE;
+        }
+        final List<String> unindexed = new ArrayList<>();
+        final Coverage filter = coverage(metaClass, query.getCondition(), unindexed, record);
+        boolean sortServed = true;
+        if (query.getSort() != null) {
+            for (final Sort.Order order : query.getSort().getOrders()) {
+                sortServed &= served(metaClass, order.getProperty(), SORT, null, unindexed, record);
+            }
+        }
+        // A served filter narrows the rows before they are sorted
+        if (filter == Coverage.SERVED || (filter == Coverage.UNRESTRICTED && sortServed)) {
+            return Verdict.NONE;
+        }
+        if (tableEstimate(metadataTools.getDatabaseTable(metaClass)) < largeTableRows) {
+            return new Verdict(unindexed, false);
+        }
+        if (unindexedMode == Mode.REJECT || query.getFirstResult() >= unindexedRowLimit) {
+            log.info("Filter rejected: entity={}, unindexed={}", metaClass.getName(), unindexed);
+            throw new UnindexedFilterException(unindexed);
+        }
+        final int remaining = unindexedRowLimit - query.getFirstResult();
+        if (query.getMaxResults() == 0 || query.getMaxResults() > remaining) {
+            query.setMaxResults(remaining);
+        }
+        log.debug("Filter limited: entity={}, unindexed={}, maxResults={}", metaClass.getName(), unindexed, remaining);
+        return new Verdict(unindexed, true);
+    }
+
+    /**
+     * Evaluates whether indexes serve the rows a condition selects. Conditions without a
+     * value are skipped like Jmix skips them when loading, and so are JPQL conditions.
+     */
+    private Coverage coverage(
+            final MetaClass metaClass,
+            @Nullable final Condition condition,
+            final List<String> unindexed,
+            final boolean record) {
+        if (condition instanceof LogicalCondition logical) {
+            // Only conditions of unserved branches are reported
+            final List<String> branchUnindexed = new ArrayList<>();
+            boolean anyServed = false;
+            boolean anyUnserved = false;
+            for (final Condition child : logical.getConditions()) {
+                final List<String> childUnindexed = new ArrayList<>();
+                final Coverage childCoverage = coverage(metaClass, child, childUnindexed, record);
+                anyServed |= childCoverage == Coverage.SERVED;
+                anyUnserved |= childCoverage == Coverage.UNSERVED;
+                if (childCoverage == Coverage.UNSERVED) {
+                    branchUnindexed.addAll(childUnindexed);
+                }
+            }
+            if (!anyServed && !anyUnserved) {
+                return Coverage.UNRESTRICTED;
+            }
+            if (logical.getType() == LogicalCondition.Type.AND ? anyServed : !anyUnserved) {
+                return Coverage.SERVED;
+            }
+            unindexed.addAll(branchUnindexed);
+            return Coverage.UNSERVED;
+        }
+        if (condition instanceof PropertyCondition property) {
+            final Object value = property.getParameterValue();
+            if (value == null || value instanceof Collection<?> values && values.isEmpty()) {
+                return Coverage.UNRESTRICTED;
+            }
+            return served(metaClass, property.getProperty(), property.getOperation(), value, unindexed, record)
+                    ? Coverage.SERVED
+                    : Coverage.UNSERVED;
+        }
+        return Coverage.UNRESTRICTED;
+    }
+
+    private boolean served(
+            final MetaClass metaClass,
+            final String propertyName,
+            final String operation,
+            @Nullable final Object value,
+            final List<String> unindexed,
+            final boolean record) {
+        final boolean indexed = isIndexed(metaClass, propertyName, operation)
+                || matchesPartialIndex(metaClass, propertyName, operation, value);
+        if (!indexed) {
+            unindexed.add(propertyName + " " + operation);
+        }
+        if (record) {
+            recordUsage(new Usage(metaClass.getName(), propertyName, operation, indexed));
+        }
+        return indexed;
+    }
+
+    private boolean isIndexed(final MetaClass metaClass, final String propertyName, final String operation) {
+        final MetaProperty property = metaClass.findProperty(propertyName);
+        final Column column = property != null ? property.getAnnotatedElement().getAnnotation(Column.class) : null;
+        final Set<IndexAccess> served = SERVED_BY.get(operation);
+        if (column == null || served == null) {
+            return false;
+        }
+        final Set<IndexAccess> access = indexes()
+                .access()
+                .getOrDefault(metadataTools.getDatabaseTable(metaClass).toLowerCase(Locale.ROOT), Map.of())
+                .getOrDefault(column.name().toLowerCase(Locale.ROOT), Set.of());
+        return access.stream().anyMatch(served::contains);
+    }
+
+    private boolean matchesPartialIndex(
+            final MetaClass metaClass,
+            final String propertyName,
+            final String operation,
+            @Nullable final Object value) {
+        final MetaProperty property = metaClass.findProperty(propertyName);
+        final Column column = property != null ? property.getAnnotatedElement().getAnnotation(Column.class) : null;
+        if (column == null || value == null || !PropertyCondition.Operation.EQUAL.equals(operation)) {
+            return false;
+        }
+        return indexes()
+                .predicates()
+                .getOrDefault(metadataTools.getDatabaseTable(metaClass).toLowerCase(Locale.ROOT), Map.of())
+                .getOrDefault(column.name().toLowerCase(Locale.ROOT), Set.of())
+                .contains(String.valueOf(value).toLowerCase(Locale.ROOT));
+    }
+
+    private IndexCatalog indexes() {
+        IndexCatalog catalog = indexes;
+        if (catalog == null) {
+            classifyIndexes();
+            catalog = Objects.requireNonNull(indexes);
+        }
+        return catalog;
+    }
+
+    /**
+     * Adds a partial index predicate of the form {@code column = value}, {@code column} or
+     * {@code NOT column}; other predicates are not matched against conditions.
+     */
+    private static void addPredicate(
+            final Map<String, Map<String, Set<String>>> predicates, final String table, final String predicate) {
+        final Matcher matcher = PARTIAL_PREDICATE.matcher(predicate);
+        if (!matcher.matches()) {
+            return;
+        }
+        final String literal = matcher.group(3) != null ? matcher.group(3) : matcher.group(4);
+        if (matcher.group(1) != null && literal != null) {
+            return;
+        }
+        final String value;
+        if (literal != null) {
+            value = literal.toLowerCase(Locale.ROOT);
+        } else {
+            value = matcher.group(1) != null ? "false" : "true";
+        }
+        predicates
+                .computeIfAbsent(table, _table -> new HashMap<>())
+                .computeIfAbsent(matcher.group(2).toLowerCase(Locale.ROOT), _column -> new HashSet<>())
+                .add(value);
+    }
+
+    private void recordUsage(final Usage key) {
+        usage.computeIfAbsent(key, _key -> new LongAdder()).increment();
+        Counter.builder("start.filter.conditions")
+                .description("Generic filter conditions and sorts applied to list loads")
+                .tag("entity", key.entity())
+                .tag("property", key.property())
+                .tag("operation", key.operation())
+                .tag("indexed", String.valueOf(key.indexed()))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private long tableEstimate(final String table) {
+        final TableEstimate cached = tableEstimates.get(table);
+        if (cached != null && System.nanoTime() - cached.readAtNanos() < TABLE_ESTIMATE_TTL.toNanos()) {
+            return cached.rows();
+        }
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(TABLE_ESTIMATE_SQL)) {
+            statement.setString(1, table.toLowerCase(Locale.ROOT));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                final long rows = resultSet.next() ? resultSet.getLong(1) : -1;
+                tableEstimates.put(table, new TableEstimate(rows, System.nanoTime()));
+                return rows;
+            }
+        } catch (final SQLException exception) {
+            throw new DataAccessResourceFailureException("Failed to read table statistics", exception);
+        }
+    }
+
+    @Nullable
+    private static IndexAccess classify(final String accessMethod, final String opclass, final boolean lowered) {
+        if (TRIGRAM_OPCLASSES.contains(opclass)) {
+            return lowered ? IndexAccess.PATTERN : null;
+        }
+        if (lowered) {
+            return null;
+        }
+        return switch (accessMethod) {
+            case "btree" -> IndexAccess.ORDERED;
+            case "hash" -> IndexAccess.EQUALITY;
+            default -> null;
+        };
+    }
+
+    /**
+     * What the policy does with unindexed loads of large tables.
+     */
+    public enum Mode {
+        LIMIT,
+        REJECT
+    }
+
+    /**
+     * Outcome of a policy check.
+     *
+     * @param unindexed conditions and sorts no index serves, as {@code property operation};
+     *     empty when indexes serve the load
+     * @param limited whether the row limit was applied
+     */
+    public record Verdict(List<String> unindexed, boolean limited) {
+
+        static final Verdict NONE = new Verdict(List.of(), false);
+    }
+
+    /**
+     * Number of loads that applied a condition.
+     *
+     * @param entity entity name
+     * @param property property name
+     * @param operation condition operation, or {@value FilterIndexPolicy#SORT}
+     * @param indexed whether an index serves it
+     * @param count number of loads
+     */
+    public record UsageRecord(String entity, String property, String operation, boolean indexed, long count) {}
+
+    private enum IndexAccess {
+        ORDERED,
+        EQUALITY,
+        PATTERN
+    }
+
+    private enum Coverage {
+        SERVED,
+        UNSERVED,
+        UNRESTRICTED
+    }
+
+    /**
+     * Index metadata of the current schema.
+     *
+     * @param access access methods of full indexes by lower-case table and leading column
+     * @param predicates values of single-column partial index predicates by lower-case table
+     *     and column
+     */
+    private record IndexCatalog(
+            Map<String, Map<String, Set<IndexAccess>>> access, Map<String, Map<String, Set<String>>> predicates) {}
+
+    private record Usage(String entity, String property, String operation, boolean indexed) {}
+
+    private record TableEstimate(long rows, long readAtNanos) {}
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.service;
+
+import com.palantir.logsafe.exceptions.SafeIllegalStateException;
+import io.jmix.core.DataManager;
+import io.jmix.core.EntityStates;
+import io.jmix.core.Metadata;
+import io.jmix.core.MetadataTools;
+import io.jmix.core.entity.EntityValues;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.metamodel.model.MetaProperty;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+/**
+ * Updates entities with automatic merge-retry on optimistic lock conflicts.
+ *
+ * <p>{@link #update} loads the entity, applies the changes and records which attributes
+ * they changed (the dirty attributes) together with their values before the change. If the
+ * save fails because the row was changed concurrently, the entity is loaded again and:
+ * <ul>
+ *   <li>if the concurrent change touched none of the dirty attributes, only the dirty
+ *       attributes are re-applied to the fresh state and the save is retried</li>
+ *   <li>otherwise the changes overlap and the conflict is rethrown, as merging would
+ *       silently overwrite the other change</li>
+ * </ul>
+ * Retries are bounded by {@code start.optimistic-lock.retry.max-attempts} and separated by
+ * exponential backoff with full jitter, starting at {@code initial-backoff} and capped at
+ * {@code max-backoff}, so concurrent writers do not collide again in lockstep.
+ *
+ * <p>Every conflict is counted in {@code start.optimistic-lock.conflicts}, tagged with the
+ * entity name and its {@code outcome}: {@code retried}, {@code overlapping},
+ * {@code exhausted}, or {@code reported} for conflicts shown to UI users
+ * ({@link #recordConflict}).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OptimisticUpdateService {
+
+    /**
+     * Outcome tag of conflicts reported by the UI without retry.
+     */
+    public static final String OUTCOME_REPORTED = "reported";
+
+    private static final String OUTCOME_RETRIED = "retried";
+    private static final String OUTCOME_OVERLAPPING = "overlapping";
+    private static final String OUTCOME_EXHAUSTED = "exhausted";
+
+    private final DataManager dataManager;
+    private final Metadata metadata;
+    private final MetadataTools metadataTools;
+    private final EntityStates entityStates;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${start.optimistic-lock.retry.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${start.optimistic-lock.retry.initial-backoff:50ms}")
+    private Duration initialBackoff;
+
+    @Value("${start.optimistic-lock.retry.max-backoff:1s}")
+    private Duration maxBackoff;
+
+    /**
+     * Loads an entity, applies the changes and saves it, merging with concurrent changes of
+     * other attributes.
+     *
+     * @param entityClass entity class
+     * @param id entity ID
+     * @param changes changes to apply; called once, on the first loaded state
+     * @param <E> entity type
+     * @return saved entity
+     * @throws OptimisticLockException if a concurrent change overlaps with the changes or the
+     *     conflict persists after all attempts
+     */
+    public <E> E update(final Class<E> entityClass, final Object id, final Consumer<E> changes) {
+        final MetaClass metaClass = metadata.getClass(entityClass);
+        final E loaded = dataManager.load(entityClass).id(id).one();
+        final Map<String, Object> original = snapshot(metaClass, loaded);
+        changes.accept(loaded);
+        final Map<String, Object> dirty = new LinkedHashMap<>();
+        snapshot(metaClass, loaded).forEach((property, value) -> {
+            if (!sameValue(value, original.get(property))) {
+                dirty.put(property, EntityValues.getValue(loaded, property));
+            }
+        });
+        E entity = loaded;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return dataManager.save(entity);
+            } catch (final RuntimeException exception) {
+                if (!isOptimisticLockFailure(exception)) {
+                    throw exception;
+                }
+                if (attempt >= maxAttempts) {
+                    recordConflict(metaClass.getName(), OUTCOME_EXHAUSTED);
+                    log.warn(
+                            "Optimistic lock retries exhausted: entity={}, id={}, attempts={}",
+                            metaClass.getName(),
+                            id,
+                            attempt);
+                    throw exception;
+                }
+                sleepBeforeRetry(attempt);
+                final E fresh = dataManager.load(entityClass).id(id).one();
+                final Optional<String> overlap = overlappingProperty(fresh, dirty.keySet(), original);
+                if (overlap.isPresent()) {
+                    recordConflict(metaClass.getName(), OUTCOME_OVERLAPPING);
+                    log.info(
+                            "Optimistic lock conflict not mergeable: entity={}, id={}, property={}",
+                            metaClass.getName(),
+                            id,
+                            overlap.get());
+                    throw exception;
+                }
+                recordConflict(metaClass.getName(), OUTCOME_RETRIED);
+                log.debug(
+                        "Retrying save after optimistic lock conflict: entity={}, id={}, attempt={}",
+                        metaClass.getName(),
+                        id,
+                        attempt);
+                dirty.forEach((property, value) -> EntityValues.setValue(fresh, property, value));
+                entity = fresh;
+            }
+        }
+    }
+
+    /**
+     * Counts an optimistic lock conflict.
+     *
+     * @param entityName entity name, e.g. {@code User}
+     * @param outcome how the conflict was resolved
+     */
+    public void recordConflict(final String entityName, final String outcome) {
+        Counter.builder("start.optimistic-lock.conflicts")
+                .description("Optimistic lock conflicts on save")
+                .tag("entity", entityName)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Returns whether the exception or one of its causes is an optimistic lock failure.
+     *
+     * @param exception exception thrown by a save
+     * @return true for JPA and Spring optimistic lock exceptions
+     */
+    public static boolean isOptimisticLockFailure(final Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof OptimisticLockException || cause instanceof OptimisticLockingFailureException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads the values of loaded, non-system attributes.
+     */
+    private Map<String, Object> snapshot(final MetaClass metaClass, final Object entity) {
+        final Map<String, Object> values = new LinkedHashMap<>();
+        for (final MetaProperty property : metaClass.getProperties()) {
+            if (metadataTools.isSystem(property)
+                    || property.getRange().getCardinality().isMany()
+                    || !entityStates.isLoaded(entity, property.getName())) {
+                continue;
+            }
+            final Object value = EntityValues.getValue(entity, property.getName());
+            // References are compared by ID: entity equality may include the version
+            values.put(
+                    property.getName(),
+                    value != null && property.getRange().isClass() ? EntityValues.getId(value) : value);
+        }
+        return values;
+    }
+
+    /**
+     * Finds a dirty attribute that was also changed concurrently.
+     *
+     * @param fresh freshly loaded state
+     * @param dirtyProperties attributes changed by the update
+     * @param original values of the attributes before the update
+     * @return first attribute whose stored value differs from its original value
+     */
+    private Optional<String> overlappingProperty(
+            final Object fresh, final Collection<String> dirtyProperties, final Map<String, Object> original) {
+        return dirtyProperties.stream()
+                .filter(property -> !sameValue(EntityValues.getValue(fresh, property), original.get(property)))
+                .findFirst();
+    }
+
+    private boolean sameValue(final Object value, final Object originalValue) {
+        final Object comparable = value != null && metadataTools.isJpaEntity(value.getClass())
+                ? EntityValues.getId(value)
+                : value;
+        return Objects.equals(comparable, originalValue);
+    }
+
+    private void sleepBeforeRetry(final int attempt) {
+        final long capMillis = Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() << Math.min(attempt - 1, 20));
+        final long delayMillis = ThreadLocalRandom.current().nextLong(capMillis + 1);
+        try {
+            Thread.sleep(delayMillis);
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new SafeIllegalStateException("Interrupted while waiting to retry a save", exception);
+        }
+    }
+}
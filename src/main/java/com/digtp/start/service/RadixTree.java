@@ -0,0 +1,249 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.service;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Compact prefix tree (radix tree) mapping string keys to sets of values.
+ *
+ * <p>Edges carry whole key fragments and single-child chains are merged, so the tree has
+ * at most one inner node per branching point. Children are kept in arrays sorted by their
+ * first character, which keeps lookups at one binary search per edge and lets prefix
+ * queries walk matches in key order: shorter keys first, then lexicographically.
+ *
+ * <p>Not thread-safe; callers guard access.
+ *
+ * @param <V> value type
+ */
+final class RadixTree<V> {
+
+    private final Node<V> root = new Node<>("");
+    private int size;
+
+    /**
+     * Adds a value under the key.
+     *
+     * @param key key
+     * @param value value
+     */
+    void put(final String key, final V value) {
+        Node<V> node = root;
+        String rest = key;
+        while (!rest.isEmpty()) {
+            final int index = node.childIndex(rest.charAt(0));
+            if (index < 0) {
+                final Node<V> leaf = new Node<>(rest);
+                node.insertChild(-index - 1, leaf);
+                node = leaf;
+                break;
+            }
+            final Node<V> child = node.children[index];
+            final int common = commonPrefixLength(child.label, rest);
+            if (common < child.label.length()) {
+                // Split the edge at the end of the common prefix
+                final Node<V> middle = new Node<>(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.insertChild(0, child);
+                node.children[index] = middle;
+            }
+            node = node.children[index];
+            rest = rest.substring(common);
+        }
+        if (node.addValue(value)) {
+            size++;
+        }
+    }
+
+    /**
+     * Removes a value from the key, pruning nodes left without values.
+     *
+     * @param key key
+     * @param value value
+     */
+    void remove(final String key, final V value) {
+        final Deque<Node<V>> path = new ArrayDeque<>();
+        Node<V> node = root;
+        String rest = key;
+        while (!rest.isEmpty()) {
+            final int index = node.childIndex(rest.charAt(0));
+            if (index < 0 || !rest.startsWith(node.children[index].label)) {
+                return;
+            }
+            path.push(node);
+            node = node.children[index];
+            rest = rest.substring(node.label.length());
+        }
+        if (!node.removeValue(value)) {
+            return;
+        }
+        size--;
+        while (!path.isEmpty() && node.isEmpty()) {
+            final Node<V> parent = path.pop();
+            parent.removeChild(node);
+            node = parent;
+        }
+        if (node != root) {
+            node.mergeSingleChild();
+        }
+    }
+
+    /**
+     * Collects values of keys starting with the prefix, shorter keys first.
+     *
+     * @param prefix key prefix
+     * @param limit maximum number of distinct values
+     * @param result collection receiving the values; values already in it are skipped
+     */
+    void collect(final String prefix, final int limit, final Collection<V> result) {
+        Node<V> node = root;
+        String rest = prefix;
+        while (!rest.isEmpty()) {
+            final int index = node.childIndex(rest.charAt(0));
+            if (index < 0) {
+                return;
+            }
+            final Node<V> child = node.children[index];
+            if (child.label.startsWith(rest)) {
+                node = child;
+                break;
+            }
+            if (!rest.startsWith(child.label)) {
+                return;
+            }
+            node = child;
+            rest = rest.substring(child.label.length());
+        }
+        collectFrom(node, limit, result);
+    }
+
+    /**
+     * Returns the number of key-value pairs.
+     *
+     * @return number of entries
+     */
+    int size() {
+        return size;
+    }
+
+    private static <V> void collectFrom(final Node<V> start, final int limit, final Collection<V> result) {
+        // Depth-first, values before children: a key comes before its extensions
+        final Deque<Node<V>> stack = new ArrayDeque<>();
+        stack.push(start);
+        while (!stack.isEmpty() && result.size() < limit) {
+            final Node<V> node = stack.pop();
+            for (final V value : node.values) {
+                if (result.size() >= limit) {
+                    return;
+                }
+                if (!result.contains(value)) {
+                    result.add(value);
+                }
+            }
+            for (int index = node.childCount - 1; index >= 0; index--) {
+                stack.push(node.children[index]);
+            }
+        }
+    }
+
+    private static int commonPrefixLength(final String first, final String second) {
+        final int max = Math.min(first.length(), second.length());
+        int length = 0;
+        while (length < max && first.charAt(length) == second.charAt(length)) {
+            length++;
+        }
+        return length;
+    }
+
+    private static final class Node<V> {
+
+        private static final int INITIAL_CHILDREN = 2;
+
+        private String label;
+        private char[] firstChars;
+        private Node<V>[] children;
+        private int childCount;
+        private Set<V> values = Set.of();
+
+        Node(final String label) {
+            this.label = label;
+        }
+
+        int childIndex(final char firstChar) {
+            if (childCount == 0) {
+                return -1;
+            }
+            return Arrays.binarySearch(firstChars, 0, childCount, firstChar);
+        }
+
+        @SuppressWarnings("unchecked")
+        void insertChild(final int index, final Node<V> child) {
+            if (children == null) {
+                firstChars = new char[INITIAL_CHILDREN];
+                children = new Node[INITIAL_CHILDREN];
+            } else if (childCount == children.length) {
+                firstChars = Arrays.copyOf(firstChars, childCount * 2);
+                children = Arrays.copyOf(children, childCount * 2);
+            }
+            System.arraycopy(firstChars, index, firstChars, index + 1, childCount - index);
+            System.arraycopy(children, index, children, index + 1, childCount - index);
+            firstChars[index] = child.label.charAt(0);
+            children[index] = child;
+            childCount++;
+        }
+
+        void removeChild(final Node<V> child) {
+            final int index = childIndex(child.label.charAt(0));
+            System.arraycopy(firstChars, index + 1, firstChars, index, childCount - index - 1);
+            System.arraycopy(children, index + 1, children, index, childCount - index - 1);
+            childCount--;
+            children[childCount] = null;
+        }
+
+        /**
+         * Absorbs the only child of a value-less node into this edge.
+         */
+        void mergeSingleChild() {
+            if (childCount != 1 || !values.isEmpty()) {
+                return;
+            }
+            final Node<V> child = children[0];
+            label = label + child.label;
+            firstChars = child.firstChars;
+            children = child.children;
+            childCount = child.childCount;
+            values = child.values;
+        }
+
+        boolean addValue(final V value) {
+            if (values.isEmpty()) {
+                values = new LinkedHashSet<>(2);
+            }
+            return values.add(value);
+        }
+
+        boolean removeValue(final V value) {
+            if (!values.contains(value)) {
+                return false;
+            }
+            if (values.size() == 1) {
+                // Value sets are allocated lazily and released when empty
+                values = Set.of();
+            } else {
+                values.remove(value);
+            }
+            return true;
+        }
+
+        boolean isEmpty() {
+            return values.isEmpty() && childCount == 0;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.service;
+
+import java.text.NumberFormat;
+import java.util.Locale;
+
+/**
+ * Row count that is either exact or a planner estimate.
+ *
+ * @param value number of rows
+ * @param estimated whether the value is an estimate from PostgreSQL statistics
+ */
+public record RowCount(long value, boolean estimated) {
+
+    /**
+     * Creates an exact count.
+     *
+     * @param value number of rows
+     * @return exact count
+     */
+    public static RowCount exact(final long value) {
+        return new RowCount(value, false);
+    }
+
+    /**
+     * Creates an estimated count.
+     *
+     * @param value estimated number of rows
+     * @return estimated count
+     */
+    public static RowCount estimate(final long value) {
+        return new RowCount(value, true);
+    }
+
+    /**
+     * Returns the count clamped to {@code int}, as required by pagination components.
+     *
+     * @return count as int
+     */
+    public int toInt() {
+        return (int) Math.min(value, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Formats the count for display.
+     *
+     * <p>Exact counts are formatted with grouping ({@code 12,345}), estimates in compact
+     * form with a tilde ({@code ~1.2M}).
+     *
+     * @param locale display locale
+     * @return formatted count
+     */
+    public String format(final Locale locale) {
+        if (!estimated) {
+            return NumberFormat.getIntegerInstance(locale).format(value);
+        }
+        final NumberFormat compact = NumberFormat.getCompactNumberInstance(locale, NumberFormat.Style.SHORT);
+        compact.setMaximumFractionDigits(1);
+        return "~" + compact.format(value);
+    }
+}
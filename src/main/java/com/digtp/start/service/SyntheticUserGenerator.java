@@ -0,0 +1,380 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.service;
+
+import com.palantir.logsafe.exceptions.SafeIllegalStateException;
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.lang.Nullable;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+
+/**
+ * Deterministic generator of synthetic users for performance work.
+ *
+ * <p>Every user is derived from the seed and its index alone, so the same seed and index
+ * range always produce the same users (IDs included), and ranges can be appended to an
+ * existing dataset by starting at a higher index. Values follow a realistic distribution:
+ * <ul>
+ *   <li>first and last names from common names, surnames in the gendered form</li>
+ *   <li>usernames in {@code first.last}, {@code flast} or {@code first_last} style with a
+ *       unique index suffix, emails on a few domains</li>
+ *   <li>{@value #ACTIVE_PERCENT}% active users, {@value #MISSING_LAST_NAME_PERCENT}% without a
+ *       last name</li>
+ *   <li>time zones weighted towards Moscow time</li>
+ *   <li>IDs in UUIDv7 layout, one millisecond apart from a fixed base time, so the primary
+ *       key is appended in order</li>
+ * </ul>
+ * All users share one password hash; every user gets the {@code ui-minimal} resource role
+ * assignment needed to log in.
+ *
+ * <p>Rows are written with PostgreSQL {@code COPY} in chunks of {@value #CHUNK_SIZE} users,
+ * each committed on its own. The generator is used by {@link SyntheticUserService} and, from
+ * the command line, by the {@code generateUsers} Gradle task ({@link #main}).
+ */
+@Slf4j
+public final class SyntheticUserGenerator {
+
+    /**
+     * Users per {@code COPY} and transaction.
+     */
+    public static final int CHUNK_SIZE = 50_000;
+
+    /**
+     * Command line option confirming that the target database is not a production one.
+     */
+    static final String CONFIRM_OPTION = "--confirm-non-production";
+
+    private static final Set<String> LOCAL_HOSTS = Set.of("localhost", "127.0.0.1", "[::1]");
+    private static final int ACTIVE_PERCENT = 92;
+    private static final int MISSING_LAST_NAME_PERCENT = 3;
+    private static final long SEED_STRIDE = 0x9E37_79B9_7F4A_7C15L;
+    private static final long BASE_MILLIS = LocalDateTime.of(2024, 1, 1, 0, 0).toInstant(ZoneOffset.UTC).toEpochMilli();
+    private static final long UUID_VERSION = 7L << 12;
+    private static final long UUID_VARIANT = 0x8000_0000_0000_0000L;
+    private static final long UUID_RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private static final String USERS_COPY_SQL = "copy USER_ (ID, VERSION, USERNAME, PASSWORD, FIRST_NAME, LAST_NAME,"
+            + " EMAIL, ACTIVE, TIME_ZONE_ID) from stdin with (format csv)";
+    private static final String ROLE_ASSIGNMENTS_COPY_SQL = "copy SEC_ROLE_ASSIGNMENT (ID, VERSION, CREATE_TS,"
+            + " CREATED_BY, USERNAME, ROLE_CODE, ROLE_TYPE) from stdin with (format csv)";
+    private static final String CREATED_BY = "synthetic";
+    private static final String UI_MINIMAL_ROLE = "ui-minimal";
+    private static final String RESOURCE_ROLE_TYPE = "resource";
+
+    private static final List<String> FEMALE_FIRST_NAMES = List.of(
+            "Anna", "Maria", "Elena", "Olga", "Natalia", "Tatiana", "Irina", "Svetlana", "Ekaterina", "Yulia", "Daria",
+            "Anastasia", "Polina", "Sofia", "Victoria", "Alina", "Kristina", "Ksenia", "Emma", "Laura");
+    private static final List<String> MALE_FIRST_NAMES = List.of(
+            "Ivan", "Alexander", "Dmitry", "Sergey", "Andrey", "Alexey", "Maxim", "Mikhail", "Nikolay", "Pavel",
+            "Artem", "Kirill", "Roman", "Vladimir", "Egor", "Denis", "Oleg", "Igor", "David", "Thomas");
+    private static final List<String> LAST_NAMES = List.of(
+            "Ivanov", "Smirnov", "Kuznetsov", "Popov", "Vasiliev", "Petrov", "Sokolov", "Mikhailov", "Novikov",
+            "Fedorov", "Morozov", "Volkov", "Alekseev", "Lebedev", "Semenov", "Egorov", "Pavlov", "Kozlov", "Stepanov",
+            "Nikolaev", "Orlov", "Andreev", "Makarov", "Nikitin", "Zakharov", "Zaitsev", "Solovyov", "Borisov",
+            "Yakovlev", "Grigoriev", "Romanov", "Vorobyov", "Sergeev", "Frolov", "Belov", "Miller", "Schmidt",
+            "Fischer", "Weber", "Meyer");
+    private static final List<String> EMAIL_DOMAINS =
+            List.of("example.com", "example.com", "example.com", "example.org", "example.net", "corp.example");
+    private static final List<String> TIME_ZONES = List.of(
+            "Europe/Moscow", "Asia/Yekaterinburg", "Asia/Novosibirsk", "Europe/Samara", "Asia/Vladivostok",
+            "Europe/Kaliningrad", "UTC", "Europe/Berlin", "America/New_York");
+    private static final int[] TIME_ZONE_WEIGHTS = {55, 12, 8, 6, 5, 4, 4, 3, 3};
+    private static final int TIME_ZONE_TOTAL_WEIGHT = 100;
+
+    private final long seed;
+    private final String passwordHash;
+    private final boolean roleAssignments;
+
+    /**
+     * Creates a generator writing users and their role assignments.
+     *
+     * @param seed seed of the dataset
+     * @param passwordHash encoded password shared by all users, e.g. {@code {bcrypt}...}
+     */
+    public SyntheticUserGenerator(final long seed, final String passwordHash) {
+        this(seed, passwordHash, true);
+    }
+
+    /**
+     * Creates a generator.
+     *
+     * @param seed seed of the dataset
+     * @param passwordHash encoded password shared by all users, e.g. {@code {bcrypt}...}
+     * @param roleAssignments whether to write role assignments
+     */
+    public SyntheticUserGenerator(final long seed, final String passwordHash, final boolean roleAssignments) {
+        this.seed = seed;
+        this.passwordHash = passwordHash;
+        this.roleAssignments = roleAssignments;
+    }
+
+    /**
+     * Writes the users with indexes {@code firstIndex .. firstIndex + count - 1}.
+     *
+     * <p>Usernames are unique per index: generating an index range that already exists fails
+     * on the unique username index.
+     *
+     * @param connection PostgreSQL connection; tables are resolved through its search path
+     * @param firstIndex index of the first user
+     * @param count number of users
+     * @return numbers of written rows and elapsed time
+     * @throws SQLException if writing fails; chunks committed before stay
+     */
+    public Result generate(final Connection connection, final long firstIndex, final int count) throws SQLException {
+        final long startNanos = System.nanoTime();
+        final CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+        final String createTs = LocalDateTime.now(ZoneOffset.UTC).toString();
+        final boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        int assignments = 0;
+        try {
+            for (int offset = 0; offset < count; offset += CHUNK_SIZE) {
+                final int chunkSize = Math.min(CHUNK_SIZE, count - offset);
+                final StringBuilder users = new StringBuilder(chunkSize * 200);
+                final StringBuilder roles = new StringBuilder(roleAssignments ? chunkSize * 120 : 0);
+                for (int position = 0; position < chunkSize; position++) {
+                    final SyntheticUser user = user(firstIndex + offset + position);
+                    appendUser(users, user);
+                    if (roleAssignments) {
+                        appendRoleAssignment(roles, user, createTs);
+                    }
+                }
+                copy(copyManager, USERS_COPY_SQL, users);
+                if (roleAssignments) {
+                    assignments += (int) copy(copyManager, ROLE_ASSIGNMENTS_COPY_SQL, roles);
+                }
+                connection.commit();
+                log.debug("Synthetic users written: {}/{}", offset + chunkSize, count);
+            }
+        } catch (final SQLException | RuntimeException exception) {
+            connection.rollback();
+            throw exception;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+        return new Result(count, assignments, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+
+    /**
+     * Derives the user with the given index.
+     *
+     * @param index user index
+     * @return user values
+     */
+    public SyntheticUser user(final long index) {
+        final SplittableRandom random = new SplittableRandom(seed + index * SEED_STRIDE);
+        final boolean female = random.nextBoolean();
+        final String firstName = pick(random, female ? FEMALE_FIRST_NAMES : MALE_FIRST_NAMES);
+        final String surname = pick(random, LAST_NAMES);
+        final String lastName = random.nextInt(100) < MISSING_LAST_NAME_PERCENT ? null : gendered(surname, female);
+        final String namePart = Objects.requireNonNullElse(lastName, surname);
+        final String login = switch (random.nextInt(3)) {
+            case 0 -> firstName + "." + namePart;
+            case 1 -> firstName.charAt(0) + namePart;
+            default -> firstName + "_" + namePart;
+        };
+        final String username = login.toLowerCase(Locale.ROOT) + "." + Long.toString(index, Character.MAX_RADIX);
+        return new SyntheticUser(
+                uuid(index, random),
+                username,
+                firstName,
+                lastName,
+                username + "@" + pick(random, EMAIL_DOMAINS),
+                random.nextInt(100) < ACTIVE_PERCENT,
+                timeZone(random),
+                uuid(index, random));
+    }
+
+    /**
+     * Generates users from the command line into the database of the
+     * {@code MAIN_DATASOURCE_URL/USERNAME/PASSWORD} environment variables.
+     *
+     * <p>Arguments: number of users (default 100000), seed (default 42), first index
+     * (default 0), and {@value #CONFIRM_OPTION} to confirm that a database on another host is
+     * not a production one. {@code START_SYNTHETIC_USERS_PASSWORD} and
+     * {@code MAIN_DATASOURCE_PASSWORD} are required. A database on another host than
+     * {@code localhost} is refused without the confirmation.
+     *
+     * @param args command line arguments
+     * @throws SQLException if generation fails
+     */
+    public static void main(final String[] args) throws SQLException {
+        final List<String> options = Arrays.stream(args).filter(arg -> arg.startsWith("--")).toList();
+        final List<String> positional = Arrays.stream(args).filter(arg -> !arg.startsWith("--")).toList();
+        final int count = !positional.isEmpty() ? Integer.parseInt(positional.get(0)) : 100_000;
+        final long seed = positional.size() > 1 ? Long.parseLong(positional.get(1)) : 42L;
+        final long firstIndex = positional.size() > 2 ? Long.parseLong(positional.get(2)) : 0L;
+        final String url = env("MAIN_DATASOURCE_URL", "jdbc:postgresql://localhost:5432/start");
+        if (!isLocal(url) && !options.contains(CONFIRM_OPTION)) {
+            throw new SafeIllegalStateException("Refusing to generate users in a database on another host than"
+                    + " localhost without confirmation: pass " + CONFIRM_OPTION + " (-Pconfirm for Gradle)");
+        }
+        final String passwordHash = PasswordEncoderFactories.createDelegatingPasswordEncoder()
+                .encode(requiredEnv("START_SYNTHETIC_USERS_PASSWORD"));
+        try (Connection connection = DriverManager.getConnection(
+                url, env("MAIN_DATASOURCE_USERNAME", "start"), requiredEnv("MAIN_DATASOURCE_PASSWORD"))) {
+            final Result result =
+                    new SyntheticUserGenerator(seed, passwordHash).generate(connection, firstIndex, count);
+            log.info(
+                    "Synthetic users generated: users={}, roleAssignments={}, seed={}, firstIndex={}, millis={}",
+                    result.users(),
+                    result.roleAssignments(),
+                    seed,
+                    firstIndex,
+                    result.millis());
+        }
+    }
+
+    private static String env(final String name, final String defaultValue) {
+        final String value = System.getenv(name);
+        return value != null && !value.isBlank() ? value : defaultValue;
+    }
+
+    private static String requiredEnv(final String name) {
+        final String value = System.getenv(name);
+        if (value == null || value.isBlank()) {
+            throw new SafeIllegalStateException("Environment variable must be set: " + name);
+        }
+        return value;
+    }
+
+    /**
+     * Returns whether a JDBC URL points to a database on this machine.
+     *
+     * @param url JDBC URL
+     * @return true for a single {@code localhost}, {@code 127.0.0.1} or {@code ::1} host
+     */
+    static boolean isLocal(final String url) {
+        final String host;
+        try {
+            host = new URI(url.substring(url.indexOf(':') + 1)).getHost();
+        } catch (final URISyntaxException _exception) {
+            return false;
+        }
+        return host != null && LOCAL_HOSTS.contains(host.toLowerCase(Locale.ROOT));
+    }
+
+    private static long copy(final CopyManager copyManager, final String sql, final CharSequence rows)
+            throws SQLException {
+        try {
+            return copyManager.copyIn(sql, new StringReader(rows.toString()));
+        } catch (final IOException exception) {
+            throw new SQLException("COPY failed", exception);
+        }
+    }
+
+    private void appendUser(final StringBuilder rows, final SyntheticUser user) {
+        rows.append(user.id())
+                .append(",1,")
+                .append(user.username())
+                .append(',')
+                .append(passwordHash)
+                .append(',')
+                .append(user.firstName())
+                .append(',')
+                .append(Objects.requireNonNullElse(user.lastName(), ""))
+                .append(',')
+                .append(user.email())
+                .append(',')
+                .append(user.active())
+                .append(',')
+                .append(user.timeZoneId())
+                .append('\n');
+    }
+
+    private static void appendRoleAssignment(
+            final StringBuilder rows, final SyntheticUser user, final String createTs) {
+        rows.append(user.roleAssignmentId())
+                .append(",1,")
+                .append(createTs)
+                .append(',')
+                .append(CREATED_BY)
+                .append(',')
+                .append(user.username())
+                .append(',')
+                .append(UI_MINIMAL_ROLE)
+                .append(',')
+                .append(RESOURCE_ROLE_TYPE)
+                .append('\n');
+    }
+
+    private static String pick(final SplittableRandom random, final List<String> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static String gendered(final String surname, final boolean female) {
+        return female && (surname.endsWith("ov") || surname.endsWith("ev") || surname.endsWith("in"))
+                ? surname + "a"
+                : surname;
+    }
+
+    private static String timeZone(final SplittableRandom random) {
+        int remaining = random.nextInt(TIME_ZONE_TOTAL_WEIGHT);
+        for (int index = 0; index < TIME_ZONE_WEIGHTS.length; index++) {
+            remaining -= TIME_ZONE_WEIGHTS[index];
+            if (remaining < 0) {
+                return TIME_ZONES.get(index);
+            }
+        }
+        return TIME_ZONES.get(0);
+    }
+
+    /**
+     * Builds a UUIDv7 whose timestamp is the base time plus the index in milliseconds.
+     */
+    private static UUID uuid(final long index, final SplittableRandom random) {
+        final long mostSigBits = ((BASE_MILLIS + index) << 16) | UUID_VERSION | random.nextInt(1 << 12);
+        return new UUID(mostSigBits, UUID_VARIANT | (random.nextLong() & UUID_RANDOM_MASK));
+    }
+
+    /**
+     * Values of a generated user.
+     *
+     * @param id user ID
+     * @param username unique username
+     * @param firstName first name
+     * @param lastName last name, null for some users
+     * @param email email address
+     * @param active whether the user is active
+     * @param timeZoneId time zone ID
+     * @param roleAssignmentId ID of the user's role assignment
+     */
+    public record SyntheticUser(
+            UUID id,
+            String username,
+            String firstName,
+            @Nullable String lastName,
+            String email,
+            boolean active,
+            String timeZoneId,
+            UUID roleAssignmentId) {}
+
+    /**
+     * Outcome of a generation run.
+     *
+     * @param users number of written users
+     * @param roleAssignments number of written role assignments
+     * @param millis elapsed time in milliseconds
+     */
+    public record Result(int users, int roleAssignments, long millis) {}
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.service;
+
+import com.digtp.start.cache.CacheInvalidationEvent;
+import com.digtp.start.config.Workload;
+import com.digtp.start.config.WorkloadClass;
+import com.palantir.logsafe.exceptions.SafeIllegalStateException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+/**
+ * Fills the database with synthetic users of {@link SyntheticUserGenerator}.
+ *
+ * <p>All generated users share the password {@code start.synthetic-users.password}, which has
+ * no default and must be set. Rows are written with {@code COPY}, bypassing the ORM, so local
+ * caches are flushed afterwards (the type-ahead index picks up the new users). Runs as
+ * {@link WorkloadClass#BATCH} work.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SyntheticUserService {
+
+    private final DataSource dataSource;
+    private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${start.synthetic-users.password:}")
+    private String password;
+
+    /**
+     * Generates users with indexes {@code firstIndex .. firstIndex + count - 1}.
+     *
+     * @param count number of users
+     * @param seed seed of the dataset
+     * @param firstIndex index of the first user
+     * @return numbers of written rows and elapsed time
+     * @throws SafeIllegalStateException if {@code start.synthetic-users.password} is not set
+     */
+    @Workload(WorkloadClass.BATCH)
+    public SyntheticUserGenerator.Result generate(final int count, final long seed, final long firstIndex) {
+        if (password.isBlank()) {
+            throw new SafeIllegalStateException("start.synthetic-users.password must be set");
+        }
+        final SyntheticUserGenerator generator = new SyntheticUserGenerator(seed, passwordEncoder.encode(password));
+        final SyntheticUserGenerator.Result result;
+        try (Connection connection = dataSource.getConnection()) {
+            result = generator.generate(connection, firstIndex, count);
+        } catch (final SQLException exception) {
+            throw new DataAccessResourceFailureException("Synthetic user generation failed", exception);
+        }
+        eventPublisher.publishEvent(CacheInvalidationEvent.flushAllEvent());
+        log.info(
+                "Synthetic users generated: users={}, roleAssignments={}, seed={}, firstIndex={}, millis={}",
+                result.users(),
+                result.roleAssignments(),
+                seed,
+                firstIndex,
+                result.millis());
+        return result;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.service;
+
+import java.util.List;
+
+/**
+ * Thrown by {@link FilterIndexPolicy} when a load of a large table filters or sorts on
+ * properties no index supports and the policy does not allow it.
+ */
+public final class UnindexedFilterException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<String> conditions;
+
+    /**
+     * Creates the exception.
+     *
+     * @param conditions rejected conditions, e.g. {@code timeZoneId contains}
+     */
+    public UnindexedFilterException(final List<String> conditions) {
+        super("Filter conditions not supported by an index on a large table: " + conditions);
+        this.conditions = List.copyOf(conditions);
+    }
+
+    /**
+     * Returns the conditions no index supports.
+     *
+     * @return conditions as {@code property operation}
+     */
+    public List<String> getConditions() {
+        return conditions;
+    }
+}
@@ -0,0 +1,371 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.service;
+
+import com.digtp.start.cache.CacheInvalidationEvent;
+import com.digtp.start.cache.CacheRegion;
+import com.digtp.start.config.DataSourceRouting;
+import com.digtp.start.config.Workload;
+import com.digtp.start.config.WorkloadClass;
+import com.digtp.start.entity.User;
+import io.jmix.core.UnconstrainedDataManager;
+import io.jmix.core.entity.KeyValueEntity;
+import io.jmix.core.event.EntityChangedEvent;
+import io.jmix.core.security.SystemAuthenticator;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-memory type-ahead over active users.
+ *
+ * <p>Keeps a {@link RadixTree} of lower-case usernames, first names, last names and full
+ * names of active users, so prefix suggestions are served without a database round trip.
+ * The tree is built after startup in {@value #LOAD_BATCH_SIZE}-row keyset batches and kept
+ * current incrementally:
+ * <ul>
+ *   <li>local changes arrive as {@link EntityChangedEvent}s; the changed row is read inside
+ *       the saving transaction and applied after commit</li>
+ *   <li>bulk changes and changes on other pods arrive as {@link CacheInvalidationEvent}s of
+ *       the {@link CacheRegion#USER} region, re-read with one query per
+ *       {@value #LOAD_BATCH_SIZE} users; users in {@link CacheRegion#DELETED_USER} are
+ *       removed without a query</li>
+ * </ul>
+ *
+ * <p>Users changed while a rebuild runs are recorded and re-read once the new index is
+ * swapped in, as the rebuild may have read them before the change. Full flushes rebuild the
+ * index on a background thread, so the invalidation bus listener or a request thread is not
+ * held for the minutes a rebuild over millions of users takes; until then the current index
+ * keeps serving suggestions.
+ *
+ * <p>Suggestions are not filtered by row-level constraints: they only expose usernames and
+ * display names, and callers check read access to users.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserAutocompleteService implements DisposableBean {
+
+    private static final int LOAD_BATCH_SIZE = 10_000;
+    private static final String ACTIVE_USERS_QUERY = "select e.id, e.username, e.firstName, e.lastName from User e"
+            + " where e.active = true and e.username > :after order by e.username";
+    private static final String USER_QUERY =
+            "select e.id, e.username, e.firstName, e.lastName from User e where e.id = :id and e.active = true";
+    private static final String USERS_QUERY =
+            "select e.id, e.username, e.firstName, e.lastName from User e where e.id in :ids and e.active = true";
+
+    private final UnconstrainedDataManager dataManager;
+    private final SystemAuthenticator systemAuthenticator;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock rebuildLock = new ReentrantLock();
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "user-autocomplete-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${start.autocomplete.max-results:50}")
+    private int maxResults;
+
+    private RadixTree<UUID> index = new RadixTree<>();
+    private Map<UUID, IndexedUser> indexedUsers = new HashMap<>();
+    private final Set<UUID> changedDuringRebuild = new HashSet<>();
+    private boolean rebuilding;
+
+    /**
+     * Builds the index from all active users and replaces the current one.
+     *
+     * <p>Rebuilds run one at a time. Users changed while the index is built are re-read and
+     * applied to the new index after the swap.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Workload(WorkloadClass.BATCH)
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            final long startNanos = System.nanoTime();
+            final RadixTree<UUID> newIndex = new RadixTree<>();
+            final Map<UUID, IndexedUser> newIndexedUsers = new HashMap<>();
+            lock.writeLock().lock();
+            try {
+                rebuilding = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            try {
+                systemAuthenticator.runWithSystem(() -> loadActiveUsers(newIndex, newIndexedUsers));
+            } catch (final RuntimeException exception) {
+                stopRecordingChanges();
+                throw exception;
+            }
+            final Set<UUID> changed;
+            lock.writeLock().lock();
+            try {
+                index = newIndex;
+                indexedUsers = newIndexedUsers;
+                changed = stopRecordingChanges();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if (!changed.isEmpty()) {
+                final Map<UUID, IndexedUser> users = systemAuthenticator.withSystem(() -> loadUsers(changed));
+                changed.forEach(id -> apply(id, Optional.ofNullable(users.get(id))));
+            }
+            log.info(
+                    "User autocomplete index built: users={}, keys={}, replayed={}, durationMs={}",
+                    newIndexedUsers.size(),
+                    newIndex.size(),
+                    changed.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Rebuilds the index on a background thread.
+     *
+     * @return completion of the rebuild
+     */
+    public CompletableFuture<Void> rebuildAsync() {
+        return CompletableFuture.runAsync(
+                        () -> DataSourceRouting.runWithWorkload(WorkloadClass.BATCH, this::rebuild), rebuildExecutor)
+                .whenComplete((_result, exception) -> {
+                    if (exception != null) {
+                        log.warn("User autocomplete index rebuild failed", exception);
+                    }
+                });
+    }
+
+    /**
+     * Returns users whose username, first name, last name or full name starts with the prefix.
+     *
+     * @param prefix typed text, case-insensitive
+     * @param limit maximum number of suggestions, capped by {@code start.autocomplete.max-results}
+     * @return suggestions, shorter matching keys first, then alphabetically
+     */
+    public List<UserSuggestion> suggest(final String prefix, final int limit) {
+        final String key = normalize(prefix);
+        final int effectiveLimit = Math.min(limit, maxResults);
+        final Set<UUID> ids = new LinkedHashSet<>();
+        final List<UserSuggestion> suggestions = new ArrayList<>(effectiveLimit);
+        lock.readLock().lock();
+        try {
+            index.collect(key, effectiveLimit, ids);
+            for (final UUID id : ids) {
+                suggestions.add(indexedUsers.get(id).suggestion());
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return suggestions;
+    }
+
+    /**
+     * Returns the number of indexed users.
+     *
+     * @return indexed active users
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return indexedUsers.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reads the changed user in the saving transaction and updates the index after commit.
+     *
+     * @param event user changed event
+     */
+    @EventListener
+    public void onUserChanged(final EntityChangedEvent<User> event) {
+        final UUID id = (UUID) event.getEntityId().getValue();
+        final Optional<IndexedUser> user =
+                event.getType() == EntityChangedEvent.Type.DELETED ? Optional.empty() : loadUser(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(id, user);
+                }
+            });
+        } else {
+            apply(id, user);
+        }
+    }
+
+    /**
+     * Re-reads users changed in bulk or on other pods.
+     *
+     * @param event cross-pod cache invalidation event
+     */
+    @EventListener
+    public void onCacheInvalidation(final CacheInvalidationEvent event) {
+        if (event.flushAll()) {
+            rebuildAsync();
+            return;
+        }
+        final Set<String> deleted = event.keysOf(CacheRegion.DELETED_USER);
+        deleted.forEach(userId -> apply(UUID.fromString(userId), Optional.empty()));
+        final List<UUID> changed = event.keysOf(CacheRegion.USER).stream()
+                .filter(userId -> !deleted.contains(userId))
+                .map(UUID::fromString)
+                .toList();
+        if (!changed.isEmpty()) {
+            final Map<UUID, IndexedUser> users = systemAuthenticator.withSystem(() -> loadUsers(changed));
+            changed.forEach(id -> apply(id, Optional.ofNullable(users.get(id))));
+        }
+    }
+
+    @Override
+    public void destroy() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    private void loadActiveUsers(final RadixTree<UUID> newIndex, final Map<UUID, IndexedUser> newIndexedUsers) {
+        String after = "";
+        List<KeyValueEntity> batch;
+        do {
+            batch = dataManager
+                    .loadValues(ACTIVE_USERS_QUERY)
+                    .properties("id", "username", "firstName", "lastName")
+                    .parameter("after", after)
+                    .maxResults(LOAD_BATCH_SIZE)
+                    .list();
+            for (final KeyValueEntity row : batch) {
+                final IndexedUser user = IndexedUser.of(row);
+                newIndexedUsers.put(user.suggestion().id(), user);
+                user.keys().forEach(key -> newIndex.put(key, user.suggestion().id()));
+            }
+            if (!batch.isEmpty()) {
+                after = batch.get(batch.size() - 1).getValue("username");
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+    }
+
+    /**
+     * Stops recording changed users for the running rebuild.
+     *
+     * @return users changed since the rebuild started
+     */
+    private Set<UUID> stopRecordingChanges() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = false;
+            final Set<UUID> changed = Set.copyOf(changedDuringRebuild);
+            changedDuringRebuild.clear();
+            return changed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reads the given users in {@value #LOAD_BATCH_SIZE}-ID batches.
+     *
+     * @param ids user IDs
+     * @return indexed users by ID; inactive and deleted users are missing
+     */
+    private Map<UUID, IndexedUser> loadUsers(final Collection<UUID> ids) {
+        final List<UUID> remaining = List.copyOf(ids);
+        final Map<UUID, IndexedUser> users = new HashMap<>();
+        for (int from = 0; from < remaining.size(); from += LOAD_BATCH_SIZE) {
+            dataManager
+                    .loadValues(USERS_QUERY)
+                    .properties("id", "username", "firstName", "lastName")
+                    .parameter("ids", remaining.subList(from, Math.min(from + LOAD_BATCH_SIZE, remaining.size())))
+                    .list()
+                    .forEach(row -> {
+                        final IndexedUser user = IndexedUser.of(row);
+                        users.put(user.suggestion().id(), user);
+                    });
+        }
+        return users;
+    }
+
+    private Optional<IndexedUser> loadUser(final UUID id) {
+        return dataManager
+                .loadValues(USER_QUERY)
+                .properties("id", "username", "firstName", "lastName")
+                .parameter("id", id)
+                .optional()
+                .map(IndexedUser::of);
+    }
+
+    private void apply(final UUID id, final Optional<IndexedUser> user) {
+        lock.writeLock().lock();
+        try {
+            if (rebuilding) {
+                changedDuringRebuild.add(id);
+            }
+            final IndexedUser previous = indexedUsers.remove(id);
+            if (previous != null) {
+                previous.keys().forEach(key -> index.remove(key, id));
+            }
+            user.ifPresent(indexed -> {
+                indexedUsers.put(id, indexed);
+                indexed.keys().forEach(key -> index.put(key, id));
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("User autocomplete index updated: indexed={}", user.isPresent());
+    }
+
+    private static String normalize(final String value) {
+        return value != null ? value.strip().toLowerCase(Locale.ROOT) : "";
+    }
+
+    /**
+     * Indexed user with the keys it was indexed under, needed to remove it later.
+     *
+     * @param suggestion suggestion returned for the user
+     * @param keys normalized index keys
+     */
+    private record IndexedUser(UserSuggestion suggestion, Set<String> keys) {
+
+        static IndexedUser of(final KeyValueEntity row) {
+            final String username = row.getValue("username");
+            final String firstName = row.getValue("firstName");
+            final String lastName = row.getValue("lastName");
+            final Set<String> keys = new LinkedHashSet<>();
+            keys.add(normalize(username));
+            keys.add(normalize(firstName));
+            keys.add(normalize(lastName));
+            keys.add(normalize(normalize(firstName) + " " + normalize(lastName)));
+            keys.remove("");
+            return new IndexedUser(UserSuggestion.of(row.getValue("id"), username, firstName, lastName), keys);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.service;
+
+/**
+ * Set-based operation applied to many users at once by {@link UserBulkService}.
+ */
+public enum UserBulkOperation {
+
+    /**
+     * Sets {@code active} to true.
+     */
+    ACTIVATE("USERS_BULK_ACTIVATED"),
+
+    /**
+     * Sets {@code active} to false.
+     */
+    DEACTIVATE("USERS_BULK_DEACTIVATED"),
+
+    /**
+     * Deletes the users.
+     */
+    DELETE("USERS_BULK_DELETED");
+
+    private final String auditEvent;
+
+    UserBulkOperation(final String auditEvent) {
+        this.auditEvent = auditEvent;
+    }
+
+    /**
+     * Returns the audit log event type of the operation.
+     *
+     * @return event type
+     */
+    public String auditEvent() {
+        return auditEvent;
+    }
+}
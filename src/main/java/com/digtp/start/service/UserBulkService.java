@@ -0,0 +1,299 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.service;
+
+import com.digtp.start.cache.CacheInvalidationEvent;
+import com.digtp.start.cache.CacheRegion;
+import com.digtp.start.cache.PostgresCacheInvalidationBus;
+import com.digtp.start.config.Workload;
+import com.digtp.start.config.WorkloadClass;
+import com.digtp.start.entity.User;
+import io.jmix.core.AccessManager;
+import io.jmix.core.DataManager;
+import io.jmix.core.LoadContext;
+import io.jmix.core.Metadata;
+import io.jmix.core.ValueLoadContext;
+import io.jmix.core.accesscontext.CrudEntityContext;
+import io.jmix.core.entity.KeyValueEntity;
+import io.jmix.core.querycondition.Condition;
+import io.jmix.core.querycondition.JpqlCondition;
+import io.jmix.core.querycondition.LogicalCondition;
+import io.jmix.core.security.CurrentAuthentication;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+
+/**
+ * Activates, deactivates or deletes many users with set-based statements.
+ *
+ * <p>Users are processed in chunks of {@code start.bulk.chunk-size} rows, each changed by a
+ * single {@code UPDATE}/{@code DELETE} in its own short transaction, so row locks are held
+ * for one chunk only. Every statement matches rows by {@code (ID, VERSION)}: a user changed
+ * since it was selected keeps its state and is counted as skipped, the same outcome an
+ * optimistic lock failure has for a single save. Updated rows get their version
+ * incremented. The current user is never deactivated or deleted. Deleting users also deletes
+ * their role assignments and user substitutions in the same statement, so a user re-created
+ * under the same name does not inherit the roles of the deleted one.
+ *
+ * <p>Activating or deactivating a single selected user, the common toggle from the list, is
+ * saved through {@link OptimisticUpdateService} instead: a concurrent change of its other
+ * attributes is merged rather than skipping the user, and only a conflicting change of the
+ * active flag itself counts as skipped. The ORM save publishes the usual
+ * {@code EntityChangedEvent}s, so caches are invalidated as for any other user save.
+ *
+ * <p>Statements bypass the ORM, so no {@code EntityChangedEvent}s are published. Instead,
+ * each chunk produces one aggregated audit event, a local {@link CacheInvalidationEvent}
+ * (user details cache, autocomplete index, shared entity cache; role assignments of deleted
+ * users included) and, when enabled, a cross-pod notification through
+ * {@link PostgresCacheInvalidationBus}.
+ *
+ * <p>Runs as {@link WorkloadClass#BATCH} work. Requires update (or delete) permission on
+ * users; row-level constraints apply to the selection by filter.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserBulkService {
+
+    private static final String ROWS_CLAUSE = "(ID, VERSION) in (select * from unnest(?::uuid[], ?::int[]))";
+
+    /**
+     * Sets the active flag of selected rows still at their selected version.
+     */
+    static final String UPDATE_ACTIVE_SQL = "update USER_ set ACTIVE = ?, VERSION = VERSION + 1 where " + ROWS_CLAUSE
+            + " and ACTIVE is distinct from ? and USERNAME <> ? returning ID, USERNAME";
+
+    /**
+     * Deletes selected rows still at their selected version together with the rows keyed by
+     * their usernames. Data-modifying {@code WITH} parts always run to completion, within the
+     * statement's transaction.
+     */
+    static final String DELETE_SQL = "with DELETED as (delete from USER_ where " + ROWS_CLAUSE
+            + " and USERNAME <> ? returning ID, USERNAME),"
+            + " ROLES as (delete from SEC_ROLE_ASSIGNMENT where USERNAME in (select USERNAME from DELETED)),"
+            + " SUBSTITUTIONS as (delete from SEC_USER_SUBSTITUTION where USERNAME in (select USERNAME from DELETED)"
+            + " or SUBSTITUTED_USERNAME in (select USERNAME from DELETED))"
+            + " select ID, USERNAME from DELETED";
+
+    private static final String SELECT_QUERY = "select e.id, e.version from User e order by e.id";
+    private static final String SEEK_CONDITION = "e.id > :bulkLastId";
+
+    private final DataManager dataManager;
+    private final DataSource dataSource;
+    private final AccessManager accessManager;
+    private final Metadata metadata;
+    private final CurrentAuthentication currentAuthentication;
+    private final AuditService auditService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<PostgresCacheInvalidationBus> invalidationBus;
+    private final OptimisticUpdateService optimisticUpdateService;
+
+    @Value("${start.bulk.chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * Applies the operation to the given users.
+     *
+     * @param operation operation to apply
+     * @param users selected users; ID and version must be loaded
+     * @return numbers of changed and skipped users
+     */
+    @Workload(WorkloadClass.BATCH)
+    public Result apply(final UserBulkOperation operation, final Collection<User> users) {
+        checkPermission(operation);
+        if (users.size() == 1 && operation != UserBulkOperation.DELETE) {
+            return applySingle(operation, users.iterator().next().getId());
+        }
+        final List<User> selected = List.copyOf(users);
+        Result result = Result.NONE;
+        for (int from = 0; from < selected.size(); from += chunkSize) {
+            final Map<UUID, Integer> chunk = new HashMap<>();
+            for (final User user : selected.subList(from, Math.min(from + chunkSize, selected.size()))) {
+                chunk.put(user.getId(), user.getVersion());
+            }
+            result = result.plus(applyChunk(operation, chunk));
+        }
+        return result;
+    }
+
+    /**
+     * Applies the operation to all users matching the conditions of a list query.
+     *
+     * <p>Users are selected chunk by chunk in ID order, each chunk right before it is
+     * changed. Only the conditions and parameters of the load context are used; its query
+     * string, sort and paging are ignored.
+     *
+     * @param operation operation to apply
+     * @param loadContext load context of the list, e.g. with the generic filter conditions
+     * @return numbers of changed and skipped users
+     */
+    @Workload(WorkloadClass.BATCH)
+    public Result apply(final UserBulkOperation operation, final LoadContext<User> loadContext) {
+        checkPermission(operation);
+        final LoadContext.Query query = loadContext.getQuery();
+        final Condition filter = query != null ? query.getCondition() : null;
+        final Map<String, Object> parameters = query != null ? query.getParameters() : Map.of();
+        Result result = Result.NONE;
+        List<KeyValueEntity> rows = selectChunk(filter, parameters, null);
+        while (!rows.isEmpty()) {
+            final Map<UUID, Integer> chunk = new HashMap<>();
+            for (final KeyValueEntity row : rows) {
+                chunk.put(row.getValue("id"), row.getValue("version"));
+            }
+            result = result.plus(applyChunk(operation, chunk));
+            final UUID lastId = rows.get(rows.size() - 1).getValue("id");
+            rows = selectChunk(filter, parameters, lastId);
+        }
+        return result;
+    }
+
+    /**
+     * Returns whether the current user may apply the operation.
+     *
+     * @param operation bulk operation
+     * @return whether users may be updated, or deleted for {@link UserBulkOperation#DELETE}
+     */
+    public boolean isPermitted(final UserBulkOperation operation) {
+        final CrudEntityContext context = new CrudEntityContext(metadata.getClass(User.class));
+        accessManager.applyRegisteredConstraints(context);
+        return operation == UserBulkOperation.DELETE ? context.isDeletePermitted() : context.isUpdatePermitted();
+    }
+
+    private void checkPermission(final UserBulkOperation operation) {
+        if (!isPermitted(operation)) {
+            throw new AccessDeniedException("User bulk operation not permitted");
+        }
+    }
+
+    private Result applySingle(final UserBulkOperation operation, final UUID id) {
+        final boolean active = operation == UserBulkOperation.ACTIVATE;
+        final String currentUsername = currentAuthentication.getUser().getUsername();
+        final AtomicBoolean changed = new AtomicBoolean();
+        try {
+            optimisticUpdateService.update(User.class, id, (final User user) -> {
+                final boolean protectedUser = !active && currentUsername.equals(user.getUsername());
+                if (!Objects.equals(user.getActive(), active) && !protectedUser) {
+                    user.setActive(active);
+                    changed.set(true);
+                }
+            });
+        } catch (final RuntimeException exception) {
+            if (!OptimisticUpdateService.isOptimisticLockFailure(exception)) {
+                throw exception;
+            }
+            log.info("User bulk operation skipped conflicting user: operation={}, id={}", operation, id);
+            changed.set(false);
+        }
+        if (changed.get()) {
+            auditService.logUsersBulkChanged(operation.auditEvent(), Set.of(id), 0);
+        }
+        log.debug("User bulk single user applied: operation={}, id={}, changed={}", operation, id, changed.get());
+        return changed.get() ? new Result(1, 0) : new Result(0, 1);
+    }
+
+    private List<KeyValueEntity> selectChunk(
+            final Condition filter, final Map<String, Object> parameters, final UUID lastId) {
+        final ValueLoadContext.Query query = ValueLoadContext.createQuery(SELECT_QUERY)
+                .setParameters(new HashMap<>(parameters))
+                .setMaxResults(chunkSize);
+        Condition condition = filter;
+        if (lastId != null) {
+            final Condition seek =
+                    JpqlCondition.createWithParameters(SEEK_CONDITION, null, Map.of("bulkLastId", lastId));
+            condition = filter != null ? LogicalCondition.and(filter, seek) : seek;
+        }
+        query.setCondition(condition);
+        return dataManager.loadValues(
+                ValueLoadContext.create().setQuery(query).setProperties(List.of("id", "version")));
+    }
+
+    private Result applyChunk(final UserBulkOperation operation, final Map<UUID, Integer> chunk) {
+        final Map<UUID, String> changed = execute(operation, chunk);
+        final int skipped = chunk.size() - changed.size();
+        if (!changed.isEmpty()) {
+            auditService.logUsersBulkChanged(operation.auditEvent(), changed.keySet(), skipped);
+            invalidateCaches(operation, changed);
+        }
+        log.debug("User bulk chunk applied: operation={}, changed={}, skipped={}", operation, changed.size(), skipped);
+        return new Result(changed.size(), skipped);
+    }
+
+    private Map<UUID, String> execute(final UserBulkOperation operation, final Map<UUID, Integer> chunk) {
+        final String currentUsername = currentAuthentication.getUser().getUsername();
+        final String sql = operation == UserBulkOperation.DELETE ? DELETE_SQL : UPDATE_ACTIVE_SQL;
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(sql)) {
+            final Array ids = connection.createArrayOf("uuid", chunk.keySet().toArray());
+            final Array versions = connection.createArrayOf("int4", chunk.values().toArray());
+            int index = 1;
+            if (operation != UserBulkOperation.DELETE) {
+                statement.setBoolean(index++, operation == UserBulkOperation.ACTIVATE);
+            }
+            statement.setArray(index++, ids);
+            statement.setArray(index++, versions);
+            if (operation != UserBulkOperation.DELETE) {
+                statement.setBoolean(index++, operation == UserBulkOperation.ACTIVATE);
+            }
+            statement.setString(index, currentUsername);
+            final Map<UUID, String> changed = new HashMap<>();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    changed.put(resultSet.getObject(1, UUID.class), resultSet.getString(2));
+                }
+            }
+            return changed;
+        } catch (final SQLException exception) {
+            throw new DataAccessResourceFailureException("User bulk operation failed", exception);
+        }
+    }
+
+    private void invalidateCaches(final UserBulkOperation operation, final Map<UUID, String> changed) {
+        final Map<CacheRegion, Set<String>> keys = new EnumMap<>(CacheRegion.class);
+        keys.put(CacheRegion.USER, changed.keySet().stream().map(UUID::toString).collect(Collectors.toSet()));
+        if (operation == UserBulkOperation.DELETE) {
+            keys.put(CacheRegion.DELETED_USER, keys.get(CacheRegion.USER));
+            keys.put(CacheRegion.ROLE_ASSIGNMENT, Set.copyOf(changed.values()));
+        }
+        eventPublisher.publishEvent(new CacheInvalidationEvent(keys, false));
+        invalidationBus.ifAvailable(bus -> keys.forEach(
+                (region, regionKeys) -> regionKeys.forEach(key -> bus.publish(region, key))));
+    }
+
+    /**
+     * Outcome of a bulk operation.
+     *
+     * @param changed number of changed users
+     * @param skipped number of selected users left unchanged
+     */
+    public record Result(int changed, int skipped) {
+
+        static final Result NONE = new Result(0, 0);
+
+        Result plus(final Result other) {
+            return new Result(changed + other.changed, skipped + other.skipped);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.service;
+
+import com.digtp.start.config.QueryTimeout;
+import com.digtp.start.entity.User;
+import io.jmix.core.DataManager;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+/**
+ * Full-text style user search across username, first name, last name and email.
+ *
+ * <p>Matches are substring matches ({@code LIKE '%text%'}) on {@code lower(column)}, served
+ * by the {@code pg_trgm} GIN indexes of {@code 020-user-trigram-search.xml} as a bitmap OR
+ * of the four indexes, and ranked by the best {@code word_similarity} of the search text to
+ * any of the columns. Trigram indexes need at least {@value #MIN_SEARCH_LENGTH} characters,
+ * shorter texts are not searched.
+ *
+ * <p>Ranking runs as native SQL that returns IDs only; the users themselves are loaded
+ * through {@link DataManager}, so access constraints apply to search results the same way
+ * as to the list.
+ *
+ * <p>Statements are limited to {@code start.db.timeout.search}: texts matching a large part
+ * of the table can make the ranking expensive.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserSearchService {
+
+    /**
+     * Minimum search text length, the length of a trigram.
+     */
+    public static final int MIN_SEARCH_LENGTH = 3;
+
+    static final String SEARCH_SQL = """
+            select ID from USER_
+            where lower(USERNAME) like ? or lower(FIRST_NAME) like ?
+                or lower(LAST_NAME) like ? or lower(EMAIL) like ?
+            order by greatest(
+                    word_similarity(?, lower(USERNAME)), word_similarity(?, lower(FIRST_NAME)),
+                    word_similarity(?, lower(LAST_NAME)), word_similarity(?, lower(EMAIL))) desc,
+                USERNAME
+            limit ?""";
+
+    private static final int SEARCHED_COLUMNS = 4;
+
+    private final DataSource dataSource;
+    private final DataManager dataManager;
+
+    /**
+     * Returns whether the text is long enough to be searched.
+     *
+     * @param text search text, may be null
+     * @return true if {@link #search(String, int)} would run a search for it
+     */
+    public static boolean isSearchable(@Nullable final String text) {
+        return text != null && text.strip().length() >= MIN_SEARCH_LENGTH;
+    }
+
+    /**
+     * Searches users by username, first name, last name and email.
+     *
+     * @param text search text, case-insensitive
+     * @param limit maximum number of results
+     * @return matching users, most similar first; empty if the text is not searchable
+     */
+    @QueryTimeout("${start.db.timeout.search:10s}")
+    public List<User> search(final String text, final int limit) {
+        if (!isSearchable(text)) {
+            return List.of();
+        }
+        final List<UUID> ids = searchIds(text.strip().toLowerCase(Locale.ROOT), limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        final Map<UUID, Integer> ranks = new HashMap<>();
+        for (int rank = 0; rank < ids.size(); rank++) {
+            ranks.put(ids.get(rank), rank);
+        }
+        final List<User> users = new ArrayList<>(dataManager.load(User.class).ids(ids).list());
+        users.sort(Comparator.comparing(user -> ranks.get(user.getId())));
+        log.debug("User search: length={}, results={}", text.length(), users.size());
+        return users;
+    }
+
+    /**
+     * Finds the IDs of matching users in rank order.
+     *
+     * @param text lower-case search text
+     * @param limit maximum number of results
+     * @return IDs of matching users, most similar first
+     */
+    List<UUID> searchIds(final String text, final int limit) {
+        final String pattern = "%" + escapeLike(text) + "%";
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(SEARCH_SQL)) {
+            int index = 1;
+            for (int column = 0; column < SEARCHED_COLUMNS; column++) {
+                statement.setString(index++, pattern);
+            }
+            for (int column = 0; column < SEARCHED_COLUMNS; column++) {
+                statement.setString(index++, text);
+            }
+            statement.setInt(index, limit);
+            final List<UUID> ids = new ArrayList<>();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    ids.add(resultSet.getObject(1, UUID.class));
+                }
+            }
+            return ids;
+        } catch (final SQLException exception) {
+            throw new DataAccessResourceFailureException("User search failed", exception);
+        }
+    }
+
+    /**
+     * Escapes {@code LIKE} wildcards, so they are matched literally.
+     *
+     * @param text search text
+     * @return text with {@code \}, {@code %} and {@code _} escaped by backslash
+     */
+    static String escapeLike(final String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
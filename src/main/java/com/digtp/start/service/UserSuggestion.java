@@ -0,0 +1,36 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.service;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Autocomplete suggestion for a user.
+ *
+ * @param id user ID
+ * @param username username
+ * @param displayName display name, formatted like {@code User#getDisplayName()}
+ */
+public record UserSuggestion(UUID id, String username, String displayName) implements Serializable {
+
+    /**
+     * Creates a suggestion from user attributes.
+     *
+     * @param id user ID
+     * @param username username
+     * @param firstName first name, may be null
+     * @param lastName last name, may be null
+     * @return suggestion
+     */
+    static UserSuggestion of(final UUID id, final String username, final String firstName, final String lastName) {
+        final String name = (nullToEmpty(firstName) + " " + nullToEmpty(lastName)).strip();
+        return new UserSuggestion(id, username, name.isEmpty() ? "[" + username + "]" : name + " [" + username + "]");
+    }
+
+    private static String nullToEmpty(final String value) {
+        return value != null ? value : "";
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.view;
+
+import com.vaadin.flow.server.VaadinSession;
+import io.jmix.core.Entity;
+import io.jmix.core.LoadContext;
+import io.jmix.core.Sort;
+import io.jmix.core.entity.EntityValues;
+import io.jmix.core.querycondition.Condition;
+import io.jmix.core.querycondition.JpqlCondition;
+import io.jmix.core.querycondition.LogicalCondition;
+import io.jmix.core.querycondition.PropertyCondition;
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import org.springframework.lang.Nullable;
+
+/**
+ * Per-session LRU of recently loaded list pages.
+ *
+ * <p>Pages are keyed by {@link #key}: entity, query, conditions with their values,
+ * parameters, sort and page bounds. Each page is stored with the value the entity's change
+ * clock ({@code EntityChangeClock}) had before the page was loaded, and is served only
+ * while the clock still has that value, so any committed change of the entity drops all
+ * of its cached pages at their next lookup. The clock only sees changes committed on this
+ * pod (and on others while the cross-pod invalidation bus is enabled), so pages also
+ * expire after a short time to live.
+ *
+ * <p>An instance lives in a {@link VaadinSession} attribute and is only accessed with the
+ * session lock held: background loads hand their pages over through {@code UI.access}.
+ * Cached pages are shared by the views of the session, so only pages of read-only loaders
+ * must be cached.
+ */
+public final class ListPageCache implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final Map<String, CachedPage> pages;
+    private final Duration timeToLive;
+
+    ListPageCache(final int capacity, final Duration timeToLive) {
+        this.timeToLive = timeToLive;
+        pages = new LinkedHashMap<>(16, 0.75f, true) {
+            @Serial
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, CachedPage> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the cache of the given name in the current session, creating it if needed.
+     *
+     * @param session Vaadin session, locked by the caller
+     * @param name cache name, e.g. the view ID
+     * @param capacity maximum number of pages, used when the cache is created
+     * @param timeToLive time a page is served for, used when the cache is created
+     * @return session cache
+     */
+    public static ListPageCache of(
+            final VaadinSession session, final String name, final int capacity, final Duration timeToLive) {
+        final String attribute = ListPageCache.class.getName() + "." + name;
+        ListPageCache cache = (ListPageCache) session.getAttribute(attribute);
+        if (cache == null) {
+            cache = new ListPageCache(capacity, timeToLive);
+            session.setAttribute(attribute, cache);
+        }
+        return cache;
+    }
+
+    /**
+     * Returns a cached page if it was loaded at the given clock value and has not expired.
+     *
+     * @param key page key
+     * @param clock current change clock value of the entity
+     * @param <E> entity type
+     * @return cached rows, empty if not cached, stale or expired
+     */
+    @SuppressWarnings("unchecked")
+    public <E> Optional<List<E>> get(final String key, final long clock) {
+        final CachedPage page = pages.get(key);
+        if (page == null) {
+            return Optional.empty();
+        }
+        if (page.clock() != clock || System.nanoTime() - page.storedAtNanos() >= timeToLive.toNanos()) {
+            pages.remove(key);
+            return Optional.empty();
+        }
+        return Optional.of((List<E>) page.rows());
+    }
+
+    /**
+     * Caches a page.
+     *
+     * @param key page key
+     * @param clock change clock value of the entity read before the page was loaded
+     * @param rows loaded rows
+     */
+    public void put(final String key, final long clock, final List<?> rows) {
+        pages.put(key, new CachedPage(clock, System.nanoTime(), List.copyOf(rows)));
+    }
+
+    /**
+     * Builds the key of the page described by a load context.
+     *
+     * @param loadContext load context of the page, before any keyset seek is applied
+     * @param variant what else shapes the loaded rows, e.g. projected properties; may be null
+     * @return page key
+     */
+    public static String key(final LoadContext<?> loadContext, @Nullable final Object variant) {
+        final StringBuilder key = new StringBuilder(loadContext.getEntityMetaClass().getName());
+        final LoadContext.Query query = loadContext.getQuery();
+        if (query != null) {
+            key.append('|').append(query.getQueryString());
+            key.append('|').append(describe(query.getCondition()));
+            key.append('|').append(describe(query.getParameters()));
+            key.append('|').append(describe(query.getSort()));
+            key.append('|').append(query.getFirstResult()).append('+').append(query.getMaxResults());
+        }
+        if (loadContext.getFetchPlan() != null) {
+            key.append('|').append(loadContext.getFetchPlan().getName());
+        }
+        return key.append('|').append(variant).toString();
+    }
+
+    private static String describe(@Nullable final Condition condition) {
+        if (condition instanceof LogicalCondition logical) {
+            return logical.getType() + logical.getConditions().stream()
+                    .map(ListPageCache::describe)
+                    .collect(Collectors.joining(", ", "(", ")"));
+        }
+        if (condition instanceof PropertyCondition property) {
+            return property.getProperty() + " " + property.getOperation() + " "
+                    + describe(property.getParameterValue());
+        }
+        if (condition instanceof JpqlCondition jpql) {
+            return jpql.getJoin() + " " + jpql.getWhere() + " " + describe(jpql.getParameterValuesMap());
+        }
+        return String.valueOf(condition);
+    }
+
+    private static String describe(@Nullable final Sort sort) {
+        if (sort == null) {
+            return "";
+        }
+        return sort.getOrders().stream()
+                .map(order -> order.getProperty() + " " + order.getDirection())
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String describe(@Nullable final Object value) {
+        if (value instanceof Entity) {
+            return String.valueOf(EntityValues.getId(value));
+        }
+        if (value instanceof Map<?, ?> map) {
+            final Map<String, String> sorted = new TreeMap<>();
+            map.forEach((name, parameter) -> sorted.put(String.valueOf(name), describe(parameter)));
+            return sorted.toString();
+        }
+        if (value instanceof Collection<?> values) {
+            return values.stream().map(ListPageCache::describe).collect(Collectors.joining(", ", "[", "]"));
+        }
+        return String.valueOf(value);
+    }
+
+    private record CachedPage(long clock, long storedAtNanos, List<?> rows) implements Serializable {}
+}
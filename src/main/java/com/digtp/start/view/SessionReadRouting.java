@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.view;
+
+import com.digtp.start.config.DataSourceRouting;
+import com.vaadin.flow.server.VaadinSession;
+import io.jmix.core.event.EntityChangedEvent;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Routes list reads of a session to replicas, except shortly after the session wrote.
+ *
+ * <p>List views read through {@link DataSourceRouting#readOnly}, so with replicas configured
+ * the reload that follows a save or bulk operation may be served by a replica that has not
+ * replayed the change yet: the user would see the old rows right after the change was
+ * reported, and a {@link ListPageCache} would keep them under the clock value taken after
+ * the write. For {@code ui.primaryReadsAfterWrite} after a write of the session (by default
+ * the replica lag limit, beyond which replicas get no reads anyway), reads run on the
+ * primary instead.
+ *
+ * <p>Writes through the ORM are recorded from their {@link EntityChangedEvent}s on the
+ * writing request thread; statements that bypass the ORM are recorded with
+ * {@link #recordWrite()}.
+ */
+@Component
+public class SessionReadRouting {
+
+    private static final String LAST_WRITE_ATTRIBUTE = SessionReadRouting.class.getName() + ".lastWrite";
+
+    @Value("${ui.primaryReadsAfterWrite:5s}")
+    private Duration primaryReadsAfterWrite;
+
+    /**
+     * Records a write of the current session.
+     *
+     * @param _event entity changed event
+     */
+    @EventListener
+    public void onEntityChanged(final EntityChangedEvent<?> _event) {
+        recordWrite();
+    }
+
+    /**
+     * Records a write of the current session. Does nothing outside a locked Vaadin session,
+     * e.g. on background threads.
+     */
+    public void recordWrite() {
+        final VaadinSession session = VaadinSession.getCurrent();
+        if (session != null && session.hasLock()) {
+            session.setAttribute(LAST_WRITE_ATTRIBUTE, Instant.now());
+        }
+    }
+
+    /**
+     * Runs a list read, on a replica unless the current session wrote recently.
+     *
+     * @param read read operation; must not write
+     * @param <T> result type
+     * @return read result
+     */
+    public <T> T read(final Supplier<T> read) {
+        return route(read).get();
+    }
+
+    /**
+     * Decides where a list read runs now, for a read that runs later on another thread.
+     *
+     * @param read read operation; must not write
+     * @param <T> result type
+     * @return read running on a replica or the primary, as decided for the current session
+     */
+    public <T> Supplier<T> route(final Supplier<T> read) {
+        final boolean replicaAllowed = replicaAllowed();
+        return () -> replicaAllowed ? DataSourceRouting.readOnly(read) : read.get();
+    }
+
+    private boolean replicaAllowed() {
+        final VaadinSession session = VaadinSession.getCurrent();
+        final Instant lastWrite = session != null ? (Instant) session.getAttribute(LAST_WRITE_ATTRIBUTE) : null;
+        return lastWrite == null || Instant.now().isAfter(lastWrite.plus(primaryReadsAfterWrite));
+    }
+}
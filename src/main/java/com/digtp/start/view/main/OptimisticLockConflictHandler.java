@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.view.main;
+
+import com.digtp.start.service.OptimisticUpdateService;
+import io.jmix.core.Metadata;
+import io.jmix.flowui.exception.UiExceptionHandler;
+import jakarta.persistence.OptimisticLockException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts optimistic lock conflicts reported to UI users.
+ *
+ * <p>Edits in detail views are saved without retry: the user sees the conflict message and
+ * decides how to proceed. This handler runs before the standard handlers, records the
+ * conflict with outcome {@code reported} and returns {@code false}, so the standard handler
+ * still shows the message.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class OptimisticLockConflictHandler implements UiExceptionHandler {
+
+    private static final String UNKNOWN_ENTITY = "unknown";
+
+    private final OptimisticUpdateService optimisticUpdateService;
+    private final Metadata metadata;
+
+    @Override
+    public boolean handle(final Throwable exception) {
+        if (OptimisticUpdateService.isOptimisticLockFailure(exception)) {
+            optimisticUpdateService.recordConflict(entityName(exception), OptimisticUpdateService.OUTCOME_REPORTED);
+        }
+        return false;
+    }
+
+    private String entityName(final Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof OptimisticLockException lockException && lockException.getEntity() != null) {
+                return metadata.getClass(lockException.getEntity()).getName();
+            }
+        }
+        return UNKNOWN_ENTITY;
+    }
+}
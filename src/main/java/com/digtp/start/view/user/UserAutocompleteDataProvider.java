@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.view.user;
+
+import com.digtp.start.service.UserAutocompleteService;
+import com.digtp.start.service.UserSuggestion;
+import com.vaadin.flow.component.combobox.ComboBox;
+import com.vaadin.flow.data.provider.Query;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reusable combo box items for picking a user by type-ahead.
+ *
+ * <p>Serves the combo box filter from the in-memory {@link UserAutocompleteService}, so
+ * typing does not query the database. Usage in a view:
+ * <pre>{@code
+ * @Subscribe
+ * public void onInit(final InitEvent _event) {
+ *     userAutocompleteDataProvider.bind(userField);
+ * }
+ * }</pre>
+ */
+@Component
+@RequiredArgsConstructor
+public class UserAutocompleteDataProvider {
+
+    private final UserAutocompleteService userAutocompleteService;
+
+    /**
+     * Binds the combo box items and labels to user suggestions.
+     *
+     * @param comboBox combo box to bind
+     */
+    public void bind(final ComboBox<UserSuggestion> comboBox) {
+        comboBox.setItems(this::fetch);
+        comboBox.setItemLabelGenerator(UserSuggestion::displayName);
+    }
+
+    /**
+     * Fetches the suggestions requested by a combo box.
+     *
+     * @param query combo box query; the filter is the typed text
+     * @return suggestions of the requested window
+     */
+    public Stream<UserSuggestion> fetch(final Query<UserSuggestion, String> query) {
+        final String prefix = query.getFilter().orElse("");
+        return userAutocompleteService.suggest(prefix, query.getOffset() + query.getLimit()).stream()
+                .skip(query.getOffset());
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.view.user;
+
+import com.digtp.start.entity.User;
+import io.jmix.core.DataManager;
+import io.jmix.core.LoadContext;
+import io.jmix.core.Sort;
+import io.jmix.core.querycondition.Condition;
+import io.jmix.core.querycondition.JpqlCondition;
+import io.jmix.core.querycondition.LogicalCondition;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keyset (seek) pagination for the user list.
+ *
+ * <p>Pagination components request pages by offset ({@code firstResult}). For every loaded
+ * page the pager remembers the {@code (username, id)} of its last row as the cursor of the
+ * next offset. When a page is requested at an offset with a known cursor, the offset is
+ * replaced by a seek condition on the unique {@code IDX_USER__ON_USERNAME} index, so deep
+ * pages cost the same as the first one. Filter conditions of the request are kept and
+ * combined with the seek condition.
+ *
+ * <p>Offsets without a known cursor (e.g. jumping to the last page) and sorts other than
+ * {@code username} ascending fall back to OFFSET/LIMIT. Cursors are dropped whenever the
+ * first page is loaded, which is what filters and page size changes do.
+ *
+ * <p>{@code USERNAME} is unique, so the list query keeps ordering by username alone and
+ * stays an ordered index scan; the ID in the cursor only makes the seek predicate total.
+ * Only the most recent {@value #MAX_CURSORS} cursors are kept per view.
+ */
+@Slf4j
+final class UserKeysetPager implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private static final int MAX_CURSORS = 64;
+    private static final String USERNAME_PROPERTY = "username";
+    private static final String USERNAME_PARAM = "keysetUsername";
+    private static final String ID_PARAM = "keysetId";
+    private static final String URL_OFFSET_SEPARATOR = ":";
+
+    /**
+     * Seek predicate; the redundant {@code >=} bound lets PostgreSQL use it as index condition.
+     */
+    private static final String SEEK_CONDITION = "e.username >= :" + USERNAME_PARAM
+            + " and (e.username > :" + USERNAME_PARAM + " or e.id > :" + ID_PARAM + ")";
+
+    private final Map<Integer, Cursor> cursors = new LinkedHashMap<>(16, 0.75f, true) {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Integer, Cursor> eldest) {
+            return size() > MAX_CURSORS;
+        }
+    };
+
+    private Cursor restoredCursor;
+    private int restoredFirstResult = -1;
+
+    /**
+     * Loads a page, seeking from a known cursor instead of skipping rows when possible.
+     *
+     * @param loadContext load context of the requested page, modified in place
+     * @param dataManager data manager to load with
+     * @return loaded page
+     */
+    List<User> load(final LoadContext<User> loadContext, final DataManager dataManager) {
+        return load(loadContext, dataManager::loadList);
+    }
+
+    /**
+     * Loads a page with the given loader, seeking from a known cursor when possible.
+     *
+     * @param loadContext load context of the requested page, modified in place
+     * @param loader loads the rows of a load context, e.g. as projections
+     * @return loaded page
+     */
+    List<User> load(final LoadContext<User> loadContext, final Function<LoadContext<User>, List<User>> loader) {
+        final LoadContext.Query query = loadContext.getQuery();
+        final int firstResult = query != null ? query.getFirstResult() : 0;
+        if (query == null || !isKeysetSort(query.getSort())) {
+            return loader.apply(loadContext);
+        }
+        if (firstResult == 0) {
+            cursors.clear();
+        }
+        final Optional<Cursor> cursor = cursorAt(firstResult);
+        if (firstResult != 0) {
+            // A restored cursor is used once, for the page it was restored for
+            restoredCursor = null;
+        }
+        if (cursor.isPresent()) {
+            cursors.put(firstResult, cursor.get());
+            applySeek(query, cursor.get());
+        }
+        final List<User> page = loader.apply(loadContext);
+        if (!page.isEmpty()) {
+            cursors.put(firstResult + page.size(), Cursor.of(page.get(page.size() - 1)));
+        }
+        log.debug(
+                "User page loaded: firstResult={}, size={}, mode={}",
+                firstResult,
+                page.size(),
+                cursor.isPresent() ? "keyset" : "offset");
+        return page;
+    }
+
+    /**
+     * Records a page that was served without loading, e.g. from a cache, as if it had been
+     * loaded by {@link #load}.
+     *
+     * @param loadContext load context of the page, not modified
+     * @param page rows of the page
+     */
+    void served(final LoadContext<User> loadContext, final List<User> page) {
+        final LoadContext.Query query = loadContext.getQuery();
+        if (query == null || !isKeysetSort(query.getSort())) {
+            return;
+        }
+        if (query.getFirstResult() == 0) {
+            cursors.clear();
+        }
+        if (!page.isEmpty()) {
+            cursors.put(query.getFirstResult() + page.size(), Cursor.of(page.get(page.size() - 1)));
+        }
+    }
+
+    /**
+     * Replaces the offset of a load context by a seek from the known cursor, if any, without
+     * recording anything; for loads that run outside the pager, e.g. a background prefetch.
+     *
+     * @param loadContext load context of the page, modified in place
+     */
+    void seek(final LoadContext<User> loadContext) {
+        final LoadContext.Query query = loadContext.getQuery();
+        if (query != null && query.getFirstResult() != 0 && isKeysetSort(query.getSort())) {
+            cursorAt(query.getFirstResult()).ifPresent(cursor -> applySeek(query, cursor));
+        }
+    }
+
+    /**
+     * Returns the cursor to seek from when loading the page at the given offset.
+     *
+     * @param firstResult page offset
+     * @return cursor of the row preceding the offset, if known
+     */
+    Optional<Cursor> cursorAt(final int firstResult) {
+        if (firstResult == restoredFirstResult && restoredCursor != null) {
+            return Optional.of(restoredCursor);
+        }
+        return Optional.ofNullable(cursors.get(firstResult));
+    }
+
+    /**
+     * Returns the URL query parameter value describing the cursor of the given page.
+     *
+     * @param firstResult page offset
+     * @return value in {@code <firstResult>:<id>~<username>} form, or empty for offset pages
+     */
+    Optional<String> toUrlValue(final int firstResult) {
+        return cursorAt(firstResult).map(cursor -> firstResult + URL_OFFSET_SEPARATOR + cursor.encode());
+    }
+
+    /**
+     * Restores a cursor received in URL query parameters.
+     *
+     * <p>Kept apart from the cursors collected while paging, so loading the first page
+     * before the pagination state is restored does not drop it. The restored cursor is
+     * used by the next load of a non-first page only. Malformed values are ignored and the
+     * page is loaded by offset.
+     *
+     * @param value value produced by {@link #toUrlValue(int)}
+     */
+    void restoreFromUrlValue(final String value) {
+        final int separator = value.indexOf(URL_OFFSET_SEPARATOR);
+        if (separator <= 0) {
+            return;
+        }
+        final Optional<Cursor> cursor = Cursor.decode(value.substring(separator + 1));
+        try {
+            final int firstResult = Integer.parseInt(value.substring(0, separator));
+            if (cursor.isPresent() && firstResult > 0) {
+                restoredFirstResult = firstResult;
+                restoredCursor = cursor.get();
+            }
+        } catch (final NumberFormatException exception) {
+            log.debug("Ignoring malformed keyset cursor: {}", exception.getMessage());
+        }
+    }
+
+    private static boolean isKeysetSort(final Sort sort) {
+        if (sort == null || sort.getOrders().isEmpty()) {
+            return true;
+        }
+        final List<Sort.Order> orders = sort.getOrders();
+        return orders.size() == 1
+                && USERNAME_PROPERTY.equals(orders.get(0).getProperty())
+                && orders.get(0).getDirection() == Sort.Direction.ASC;
+    }
+
+    private static void applySeek(final LoadContext.Query query, final Cursor cursor) {
+        final Condition seek = JpqlCondition.createWithParameters(
+                SEEK_CONDITION, null, Map.of(USERNAME_PARAM, cursor.username(), ID_PARAM, cursor.id()));
+        final Condition condition = query.getCondition();
+        query.setCondition(condition != null ? LogicalCondition.and(condition, seek) : seek);
+        query.setFirstResult(0);
+    }
+
+    /**
+     * Position of a row in {@code (username, id)} order.
+     *
+     * @param username username of the row
+     * @param id ID of the row
+     */
+    record Cursor(String username, UUID id) implements Serializable {
+
+        private static final String SEPARATOR = "~";
+
+        static Cursor of(final User user) {
+            return new Cursor(user.getUsername(), user.getId());
+        }
+
+        /**
+         * Encodes the cursor for URL query parameters.
+         *
+         * @return encoded cursor
+         */
+        String encode() {
+            return id + SEPARATOR + username;
+        }
+
+        /**
+         * Decodes a cursor encoded by {@link #encode()}.
+         *
+         * @param value encoded cursor
+         * @return decoded cursor, or empty if the value is malformed
+         */
+        static Optional<Cursor> decode(final String value) {
+            final int separator = value.indexOf(SEPARATOR);
+            if (separator <= 0) {
+                return Optional.empty();
+            }
+            try {
+                final UUID id = UUID.fromString(value.substring(0, separator));
+                return Optional.of(new Cursor(value.substring(separator + 1), id));
+            } catch (final IllegalArgumentException exception) {
+                return Optional.empty();
+            }
+        }
+    }
+}
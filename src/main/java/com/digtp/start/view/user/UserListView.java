@@ -4,16 +4,77 @@
  */
 package com.digtp.start.view.user;
 
+import com.digtp.start.cache.EntityChangeClock;
+import com.digtp.start.config.DataSourceRouting;
+import com.digtp.start.config.UiLoadExecutor;
+import com.digtp.start.config.UiQueryCancellation;
 import com.digtp.start.entity.User;
+import com.digtp.start.service.ApproximateCountService;
+import com.digtp.start.service.EntityProjectionService;
+import com.digtp.start.service.FilterIndexPolicy;
+import com.digtp.start.service.RowCount;
+import com.digtp.start.service.UnindexedFilterException;
+import com.digtp.start.service.UserBulkOperation;
+import com.digtp.start.service.UserBulkService;
+import com.digtp.start.service.UserSearchService;
+import com.digtp.start.view.ListPageCache;
+import com.digtp.start.view.SessionReadRouting;
 import com.digtp.start.view.main.MainView;
+import com.vaadin.flow.component.AbstractField;
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.html.Div;
+import com.vaadin.flow.component.html.Span;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.router.QueryParameters;
 import com.vaadin.flow.router.Route;
+import com.vaadin.flow.server.VaadinSession;
+import io.jmix.core.DataLoadContext;
+import io.jmix.core.DataManager;
+import io.jmix.core.FetchPlan;
+import io.jmix.core.FetchPlans;
+import io.jmix.core.LoadContext;
+import io.jmix.core.Metadata;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.flowui.Dialogs;
+import io.jmix.flowui.Notifications;
+import io.jmix.flowui.action.DialogAction;
+import io.jmix.flowui.kit.action.Action;
+import io.jmix.flowui.kit.action.ActionPerformedEvent;
+import io.jmix.flowui.component.grid.DataGrid;
+import io.jmix.flowui.component.pagination.SimplePagination;
+import io.jmix.flowui.component.textfield.TypedTextField;
+import io.jmix.flowui.facet.UrlQueryParametersFacet;
+import io.jmix.flowui.facet.urlqueryparameters.AbstractUrlQueryParametersBinder;
+import io.jmix.flowui.model.CollectionContainer;
+import io.jmix.flowui.model.CollectionLoader;
+import io.jmix.flowui.util.RemoveOperation;
 import io.jmix.flowui.view.DialogMode;
+import io.jmix.flowui.view.Install;
 import io.jmix.flowui.view.LookupComponent;
+import io.jmix.flowui.view.MessageBundle;
 import io.jmix.flowui.view.StandardListView;
 import io.jmix.flowui.view.Subscribe;
+import io.jmix.flowui.view.Target;
+import io.jmix.flowui.view.ViewComponent;
 import io.jmix.flowui.view.ViewController;
 import io.jmix.flowui.view.ViewDescriptor;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
 
 /**
  * List view for displaying and managing User entities.
@@ -37,6 +98,73 @@ import lombok.extern.slf4j.Slf4j;
  *     usersDl.setFetchPlan(fetchPlan);
  * }
  * }</pre>
+ * With the dev profile, repeated queries are reported by
+ * {@link com.digtp.start.config.NPlusOneDetector}; {@code UserListViewTest} keeps the view
+ * load within a statement budget.
+ *
+ * <p>The default filter configuration shows active users only; with it the ordered list query
+ * is served by the partial {@code IDX_USER__ACTIVE_USERNAME} index.
+ *
+ * <p>Pages are loaded with keyset pagination ({@link UserKeysetPager}): once a page is
+ * loaded, the next one is sought by the last {@code (username, id)} instead of skipped by
+ * OFFSET. The cursor of the current page is kept in the {@value #KEYSET_PARAM} URL query
+ * parameter next to the filter and pagination parameters, so a bookmarked deep page is
+ * loaded by seek as well.
+ *
+ * <p>With {@code ui.users.lazyLoading=true} the grid is served by a lazy backend data
+ * provider instead of the {@code usersDc} container. The loader then only defines the
+ * query: its conditions (generic filter, URL parameters) and sort are captured and the grid
+ * fetches the visible window on scroll ({@code ui.users.lazyPageSize} rows per request,
+ * through the same keyset pager). Only the properties of the displayed columns are loaded,
+ * no entity list is kept in the view and the pagination component is hidden. Opened users
+ * are reloaded in full by the detail view; removed users were never in the container, so the
+ * remove action reloads the query afterwards.
+ *
+ * <p>With {@code ui.users.projectionLoading=true} pages and lazy windows are loaded by
+ * {@link EntityProjectionService}: only the displayed columns are selected as scalar values
+ * and copied into unmanaged users, so no rows go through the persistence context and the
+ * password hash is never read. Opening a row in the detail view reloads the full user by ID.
+ *
+ * <p>Totals come from {@link ApproximateCountService}: on large tables they are PostgreSQL
+ * estimates, shown as e.g. {@code ~1.2M} in the total count label.
+ *
+ * <p>The search field runs a trigram-indexed search over username, name and email
+ * ({@link UserSearchService}). While it holds a searchable text, the list shows the
+ * {@code ui.users.searchLimit} most similar users instead of the loader query; the generic
+ * filter and pagination apply again once the field is cleared.
+ *
+ * <p>The bulk actions activate, deactivate or delete the selected users, or all users matching
+ * the current filter (or search) when nothing is selected, through {@link UserBulkService}
+ * after a confirmation that states the number of affected users (estimated for a filter).
+ * They are disabled for users without update (or delete) permission on users.
+ *
+ * <p>All list reads run in {@link DataSourceRouting#readOnly}, so they are served by read
+ * replicas when {@code main.datasource.replicas[*]} are configured, except shortly after the
+ * session wrote ({@link SessionReadRouting}): the reload after a save or bulk operation
+ * reads the primary, so neither the grid nor the page cache gets a lagging replica's rows.
+ *
+ * <p>Page loads, counts and lazy windows run through {@link UiQueryCancellation}: their
+ * statements are limited by the loader timeout and cancelled when the UI detaches or the
+ * same loader starts a new load, so an expensive generic filter cannot hold a connection
+ * after the user has left.
+ *
+ * <p>Pages of the paginated list are kept in a per-session {@link ListPageCache} of
+ * {@code ui.users.pageCacheSize} pages, invalidated by committed user changes through
+ * {@link EntityChangeClock} and expired after {@code ui.users.pageCacheTtl}. After each page
+ * the next one is prefetched on the {@link UiLoadExecutor} and handed to the cache through
+ * {@code UI.access}, so paging forward and back is served from memory. Search results and
+ * lazy grid windows are not cached.
+ *
+ * <p>With {@code ui.users.asyncLoading=true} pages that are not cached load in the
+ * background: the view shows a skeleton grid at once, the query runs on the
+ * {@link UiLoadExecutor} without holding the session lock, and the page is applied through
+ * {@code UI.access} and pushed to the client. A newer load of the list supersedes a running
+ * one and leaving the view cancels it. Counts, search results and lazy grid windows are still
+ * loaded in the request.
+ *
+ * <p>Generic filter conditions and sorts go through {@link FilterIndexPolicy}: on a large
+ * table a load that no index serves is limited to {@code start.filter.unindexed-row-limit}
+ * rows or rejected, and the user is told which conditions to narrow.
  */
 @Route(value = "users", layout = MainView.class)
 @ViewController(id = "User.list")
@@ -44,16 +172,686 @@ import lombok.extern.slf4j.Slf4j;
 @LookupComponent("usersDataGrid")
 @DialogMode(width = "64em")
 @Slf4j
+@RequiredArgsConstructor
 // Jmix View: contains framework-managed non-serializable beans (MessageBundle, UI components).
 // These are injected by framework and don't need to be serializable.
 // Cannot be centralized due to PMD Baseline limitation.
-@SuppressWarnings("PMD.NonSerializableClass")
+// Jmix View: @ViewComponent fields must be after constructor-injected fields.
+// Framework pattern: 1) constructor-injected (@RequiredArgsConstructor), 2) @ViewComponent fields.
+// Cannot change this order.
+@SuppressWarnings({"PMD.NonSerializableClass", "PMD.FieldDeclarationsShouldBeAtStartOfClass"})
 public class UserListView extends StandardListView<User> {
 
     private static final long serialVersionUID = 1L;
 
+    /**
+     * URL query parameter holding the keyset cursor of the current page.
+     */
+    static final String KEYSET_PARAM = "keyset";
+
+    private static final String USERS_LOADER = "User.list.usersDl";
+    private static final String COUNT_LOADER = "User.list.pagination";
+    private static final String GRID_LOADER = "User.list.usersDataGrid";
+    private static final String PREFETCH_LOADER = "User.list.prefetch";
+    private static final String ASYNC_LOADER = "User.list.usersDl.async";
+    private static final int SKELETON_ROWS = 10;
+
+    private final transient DataManager dataManager;
+    private final transient FetchPlans fetchPlans;
+    private final transient Metadata metadata;
+    private final transient ApproximateCountService approximateCountService;
+    private final transient UserSearchService userSearchService;
+    private final transient EntityProjectionService entityProjectionService;
+    private final transient UserBulkService userBulkService;
+    private final transient Dialogs dialogs;
+    private final transient Notifications notifications;
+    private final transient UiQueryCancellation uiQueryCancellation;
+    private final transient FilterIndexPolicy filterIndexPolicy;
+    private final transient UiLoadExecutor uiLoadExecutor;
+    private final transient EntityChangeClock entityChangeClock;
+    private final transient SessionReadRouting sessionReadRouting;
+
+    @ViewComponent
+    private CollectionLoader<User> usersDl;
+
+    @ViewComponent
+    private CollectionContainer<User> usersDc;
+
+    @ViewComponent
+    private DataGrid<User> usersDataGrid;
+
+    @ViewComponent
+    private Div usersGridSkeleton;
+
+    @ViewComponent
+    private SimplePagination pagination;
+
+    @ViewComponent
+    private Span totalCountLabel;
+
+    @ViewComponent("usersDataGrid.bulkActivateAction")
+    private Action bulkActivateAction;
+
+    @ViewComponent("usersDataGrid.bulkDeactivateAction")
+    private Action bulkDeactivateAction;
+
+    @ViewComponent("usersDataGrid.bulkRemoveAction")
+    private Action bulkRemoveAction;
+
+    @ViewComponent
+    @SuppressWarnings("java:S1948") // Jmix View: @ViewComponent fields are framework-managed, not serializable
+    private MessageBundle messageBundle;
+
+    @ViewComponent
+    @SuppressWarnings("java:S1948") // Jmix View: @ViewComponent fields are framework-managed, not serializable
+    private UrlQueryParametersFacet urlQueryParameters;
+
+    private final UserKeysetPager keysetPager = new UserKeysetPager();
+
+    private transient KeysetUrlQueryParametersBinder keysetBinder;
+
+    @Value("${ui.users.lazyLoading:false}")
+    private boolean lazyLoading;
+
+    @Value("${ui.users.lazyPageSize:50}")
+    private int lazyPageSize;
+
+    @Value("${ui.users.projectionLoading:false}")
+    private boolean projectionLoading;
+
+    @Value("${ui.users.searchLimit:100}")
+    private int searchLimit;
+
+    @Value("${ui.users.pageCacheSize:20}")
+    private int pageCacheSize;
+
+    @Value("${ui.users.pageCacheTtl:5s}")
+    private Duration pageCacheTtl;
+
+    @Value("${ui.users.prefetch:true}")
+    private boolean prefetch;
+
+    @Value("${ui.users.asyncLoading:false}")
+    private boolean asyncLoading;
+
+    /**
+     * Incremented by every load of the list; background loads of older generations are dropped.
+     */
+    private int pageLoadGeneration;
+
+    /**
+     * Session page cache, null if disabled.
+     */
+    @Nullable
+    private ListPageCache pageCache;
+
+    @Nullable
+    private String searchText;
+
+    /**
+     * Users found by the last search, most similar first.
+     */
+    private List<User> searchResults = List.of();
+
+    /**
+     * Query of the lazy data provider, captured from {@code usersDl} on every load.
+     */
+    @Nullable
+    private LoadContext<User> lazyLoadContext;
+
     @Subscribe
     public void onInit(final InitEvent _event) {
-        log.debug("User list view initialized");
+        keysetBinder = new KeysetUrlQueryParametersBinder();
+        if (pageCacheSize > 0) {
+            pageCache = ListPageCache.of(VaadinSession.getCurrent(), "User.list", pageCacheSize, pageCacheTtl);
+        }
+        urlQueryParameters.registerBinder(keysetBinder);
+        bulkActivateAction.setEnabled(userBulkService.isPermitted(UserBulkOperation.ACTIVATE));
+        bulkDeactivateAction.setEnabled(userBulkService.isPermitted(UserBulkOperation.DEACTIVATE));
+        bulkRemoveAction.setEnabled(userBulkService.isPermitted(UserBulkOperation.DELETE));
+        if (lazyLoading) {
+            pagination.setVisible(false);
+            usersDataGrid.setPageSize(lazyPageSize);
+            usersDataGrid.setItems(this::fetchUsers);
+        }
+        if (asyncLoading) {
+            for (int row = 0; row < SKELETON_ROWS; row++) {
+                final Div skeletonRow = new Div();
+                skeletonRow.addClassName("skeleton-row");
+                usersGridSkeleton.add(skeletonRow);
+            }
+        }
+        addDetachListener(event -> {
+            // Navigation away: nothing will show the pages still loading
+            pageLoadGeneration++;
+            uiQueryCancellation.cancel(event.getUI(), ASYNC_LOADER, UiQueryCancellation.REASON_NAVIGATION);
+            uiQueryCancellation.cancel(event.getUI(), PREFETCH_LOADER, UiQueryCancellation.REASON_NAVIGATION);
+        });
+        log.debug("User list view initialized: lazyLoading={}, projectionLoading={}", lazyLoading, projectionLoading);
+    }
+
+    @Subscribe
+    public void onBeforeShow(final BeforeShowEvent _event) {
+        // The grid is the lookup component: a lookup keeps the single selection it expects
+        if (getSelectionHandler().isEmpty()) {
+            usersDataGrid.setSelectionMode(Grid.SelectionMode.MULTI);
+        }
+    }
+
+    @Install(to = "usersDl", target = Target.DATA_LOADER)
+    protected List<User> usersDlLoadDelegate(final LoadContext<User> loadContext) {
+        return uiQueryCancellation.load(USERS_LOADER, () -> loadUsers(loadContext));
+    }
+
+    @Install(to = "pagination", subject = "totalCountDelegate")
+    protected Integer paginationTotalCountDelegate(final DataLoadContext dataLoadContext) {
+        final RowCount count = isSearchActive()
+                ? RowCount.exact(searchResults.size())
+                : uiQueryCancellation.load(COUNT_LOADER, () -> countUsers((LoadContext<?>) dataLoadContext));
+        return showTotalCount(count).toInt();
+    }
+
+    @Subscribe("searchField")
+    public void onSearchFieldComponentValueChange(
+            final AbstractField.ComponentValueChangeEvent<TypedTextField<String>, String> event) {
+        searchText = event.getValue();
+        pagination.setVisible(!lazyLoading && !isSearchActive());
+        usersDl.setFirstResult(0);
+        usersDl.load();
+    }
+
+    @Install(to = "usersDataGrid.removeAction", subject = "afterActionPerformedHandler")
+    protected void usersDataGridRemoveActionAfterActionPerformedHandler(
+            final RemoveOperation.AfterActionPerformedEvent<User> _event) {
+        if (lazyLoading) {
+            // The removed users are not container items: fetch the window and the total again
+            usersDl.load();
+        }
+    }
+
+    @Subscribe(id = "usersDc", target = Target.DATA_CONTAINER)
+    public void onUsersDcCollectionChange(final CollectionContainer.CollectionChangeEvent<User> _event) {
+        if (lazyLoading) {
+            // Created, edited or removed users: the displayed window has to be fetched again
+            usersDataGrid.getDataProvider().refreshAll();
+        }
+    }
+
+    @Subscribe("usersDataGrid.bulkActivateAction")
+    public void onUsersDataGridBulkActivateAction(final ActionPerformedEvent _event) {
+        confirmBulkOperation(UserBulkOperation.ACTIVATE);
+    }
+
+    @Subscribe("usersDataGrid.bulkDeactivateAction")
+    public void onUsersDataGridBulkDeactivateAction(final ActionPerformedEvent _event) {
+        confirmBulkOperation(UserBulkOperation.DEACTIVATE);
+    }
+
+    @Subscribe("usersDataGrid.bulkRemoveAction")
+    public void onUsersDataGridBulkRemoveAction(final ActionPerformedEvent _event) {
+        confirmBulkOperation(UserBulkOperation.DELETE);
+    }
+
+    @Subscribe(id = "usersDl", target = Target.DATA_LOADER)
+    public void onUsersDlPostLoad(final CollectionLoader.PostLoadEvent<User> _event) {
+        keysetBinder.publish(usersDl.getFirstResult());
+    }
+
+    /**
+     * Asks for confirmation and applies a bulk operation to the selection, or to all users
+     * of the current filter or search when nothing is selected.
+     *
+     * @param operation operation to apply
+     */
+    private void confirmBulkOperation(final UserBulkOperation operation) {
+        final Collection<User> selected = usersDataGrid.getSelectedItems();
+        final LoadContext<User> filterContext = bulkFilterContext();
+        final String scope;
+        if (!selected.isEmpty() || isSearchActive()) {
+            final int count = selected.isEmpty() ? searchResults.size() : selected.size();
+            scope = messageBundle.formatMessage("bulkScopeSelected", count);
+        } else if (filterContext != null) {
+            final RowCount count = uiQueryCancellation.load(COUNT_LOADER, () -> countUsers(filterContext));
+            scope = messageBundle.formatMessage("bulkScopeFilter", count.format(getLocale()));
+        } else {
+            showBulkFilterMissing();
+            return;
+        }
+        dialogs.createOptionDialog()
+                .withHeader(messageBundle.getMessage("bulkConfirmHeader"))
+                .withText(messageBundle.formatMessage(
+                        "bulkConfirmText", messageBundle.getMessage("bulkOperation." + operation.name()), scope))
+                .withActions(
+                        new DialogAction(DialogAction.Type.OK).withHandler(_actionEvent -> runBulkOperation(operation)),
+                        new DialogAction(DialogAction.Type.CANCEL))
+                .open();
+    }
+
+    private void runBulkOperation(final UserBulkOperation operation) {
+        final Collection<User> selected = usersDataGrid.getSelectedItems();
+        final UserBulkService.Result result;
+        if (!selected.isEmpty()) {
+            result = userBulkService.apply(operation, selected);
+        } else if (isSearchActive()) {
+            result = userBulkService.apply(operation, searchResults);
+        } else {
+            final LoadContext<User> filterContext = bulkFilterContext();
+            if (filterContext == null) {
+                // The filter was rejected since the confirmation was opened
+                showBulkFilterMissing();
+                return;
+            }
+            result = userBulkService.apply(operation, filterContext);
+        }
+        // Set-based statements publish no entity events; the reload has to read the primary
+        sessionReadRouting.recordWrite();
+        notifications
+                .create(messageBundle.formatMessage("bulkResult", result.changed(), result.skipped()))
+                .withType(Notifications.Type.SUCCESS)
+                .show();
+        usersDataGrid.deselectAll();
+        usersDl.load();
+    }
+
+    /**
+     * Returns the query of the list a bulk operation without selection applies to.
+     *
+     * @return load context of the current filter, null in lazy mode before a query was
+     *     captured or after the filter policy rejected it
+     */
+    @Nullable
+    private LoadContext<User> bulkFilterContext() {
+        return lazyLoading ? lazyLoadContext : usersDl.createLoadContext();
+    }
+
+    private void showBulkFilterMissing() {
+        notifications
+                .create(messageBundle.getMessage("bulkNoFilter"))
+                .withType(Notifications.Type.WARNING)
+                .show();
+    }
+
+    /**
+     * Loads the users of the loader query, or the search results while a search is active.
+     *
+     * @param loadContext load context of the loader
+     * @return users for the data container, empty in lazy mode
+     */
+    private List<User> loadUsers(final LoadContext<User> loadContext) {
+        supersedePageLoad();
+        if (isSearchActive()) {
+            return loadSearchResults();
+        }
+        if (!applyFilterPolicy(loadContext)) {
+            lazyLoadContext = null;
+            showTotalCount(RowCount.exact(0));
+            if (lazyLoading) {
+                usersDataGrid.getDataProvider().refreshAll();
+            }
+            return List.of();
+        }
+        if (lazyLoading) {
+            // The container stays empty: the grid fetches the window it displays
+            lazyLoadContext = loadContext.copy();
+            usersDataGrid.getDataProvider().refreshAll();
+            showTotalCount(countUsers(lazyLoadContext));
+            return List.of();
+        }
+        return loadListPage(loadContext);
+    }
+
+    /**
+     * Loads a page of the paginated list: from the page cache when possible, otherwise from
+     * the database, in the background in async mode.
+     *
+     * @param loadContext load context of the page
+     * @return users of the page, empty while a background load runs
+     */
+    private List<User> loadListPage(final LoadContext<User> loadContext) {
+        // Keys and cursors are taken before the pager replaces the offset by a seek
+        final ListPageCache cache = pageCache;
+        final String key = cache != null ? ListPageCache.key(loadContext, pageVariant()) : null;
+        final PageLoad pageLoad =
+                new PageLoad(pageLoadGeneration, loadContext.copy(), key, entityChangeClock.current(User.class));
+        final Optional<List<User>> cached =
+                cache != null && key != null ? cache.get(key, pageLoad.clock()) : Optional.empty();
+        if (cached.isPresent()) {
+            final List<User> page = new ArrayList<>(cached.get());
+            keysetPager.served(pageLoad.context(), page);
+            pageLoaded(pageLoad, page);
+            log.debug("User page served from cache: firstResult={}", loadContext.getQuery().getFirstResult());
+            return page;
+        }
+        if (asyncLoading && startPageLoad(pageLoad)) {
+            return List.of();
+        }
+        final List<User> page = sessionReadRouting.read(() -> keysetPager.load(loadContext, pageLoader()));
+        pageLoaded(pageLoad, page);
+        return page;
+    }
+
+    /**
+     * Starts loading a page in the background and shows the skeleton grid until it arrives.
+     *
+     * <p>The load runs on the {@link UiLoadExecutor} without the session lock and only uses
+     * values captured here; the page is applied through {@code UI.access} and pushed to the
+     * client. A newer load of the list or closing the view cancels it.
+     *
+     * @param pageLoad page to load
+     * @return false if the load executor is saturated and the page has to be loaded now
+     */
+    private boolean startPageLoad(final PageLoad pageLoad) {
+        final LoadContext<User> loadContext = pageLoad.context().copy();
+        keysetPager.seek(loadContext);
+        final Function<LoadContext<User>, List<User>> loader = pageLoader();
+        final Supplier<List<User>> read = sessionReadRouting.route(() -> loader.apply(loadContext));
+        final UI ui = UI.getCurrent();
+        try {
+            uiLoadExecutor
+                    .submit(() -> uiQueryCancellation.load(ui, ASYNC_LOADER, read))
+                    .whenComplete((page, failure) -> ui.access(() -> applyPage(pageLoad, page, failure)));
+        } catch (final RejectedExecutionException exception) {
+            log.debug("User page loaded synchronously, load executor saturated");
+            return false;
+        }
+        setSkeletonVisible(true);
+        return true;
+    }
+
+    /**
+     * Shows a page loaded in the background, unless a newer load replaced it meanwhile.
+     *
+     * @param pageLoad loaded page
+     * @param page users of the page, null if the load failed
+     * @param failure load failure, null if the load succeeded
+     */
+    private void applyPage(final PageLoad pageLoad, final List<User> page, final Throwable failure) {
+        if (pageLoad.generation() != pageLoadGeneration) {
+            return;
+        }
+        setSkeletonVisible(false);
+        if (failure != null) {
+            log.warn("User page load failed: {}", failure.getMessage(), failure);
+            notifications
+                    .create(messageBundle.getMessage("loadFailed"))
+                    .withType(Notifications.Type.ERROR)
+                    .show();
+            return;
+        }
+        keysetPager.served(pageLoad.context(), page);
+        pageLoaded(pageLoad, page);
+        usersDc.setItems(page);
+        keysetBinder.publish(pageLoad.context().getQuery().getFirstResult());
+    }
+
+    /**
+     * Caches a loaded page and prefetches the next one.
+     *
+     * @param pageLoad loaded page
+     * @param page users of the page
+     */
+    private void pageLoaded(final PageLoad pageLoad, final List<User> page) {
+        final ListPageCache cache = pageCache;
+        final String key = pageLoad.key();
+        if (cache == null || key == null) {
+            return;
+        }
+        cache.put(key, pageLoad.clock(), page);
+        if (prefetch) {
+            prefetchNextPage(cache, pageLoad.context().copy(), page.size());
+        }
+    }
+
+    /**
+     * Drops a running background page load, which the starting load replaces.
+     */
+    private void supersedePageLoad() {
+        pageLoadGeneration++;
+        if (asyncLoading) {
+            uiQueryCancellation.cancel(UI.getCurrent(), ASYNC_LOADER, UiQueryCancellation.REASON_SUPERSEDED);
+            setSkeletonVisible(false);
+        }
+    }
+
+    /**
+     * Shows the skeleton grid in place of the users grid while a page loads in the background.
+     *
+     * @param visible whether the skeleton is shown
+     */
+    private void setSkeletonVisible(final boolean visible) {
+        usersGridSkeleton.setVisible(visible);
+        usersDataGrid.setVisible(!visible);
+    }
+
+    /**
+     * Loads the page after a full page in the background and caches it.
+     *
+     * <p>The load runs on the {@link UiLoadExecutor} and only uses values captured here; the
+     * page is put into the cache through {@code UI.access}, under the session lock.
+     *
+     * @param cache page cache to put the page into
+     * @param loadContext copy of the load context of the loaded page, modified in place
+     * @param loadedRows number of rows of the loaded page
+     */
+    private void prefetchNextPage(
+            final ListPageCache cache, final LoadContext<User> loadContext, final int loadedRows) {
+        final LoadContext.Query query = loadContext.getQuery();
+        if (query == null || query.getMaxResults() <= 0 || loadedRows < query.getMaxResults()) {
+            return;
+        }
+        query.setFirstResult(query.getFirstResult() + query.getMaxResults());
+        try {
+            filterIndexPolicy.enforce(loadContext);
+        } catch (final UnindexedFilterException exception) {
+            return;
+        }
+        final String key = ListPageCache.key(loadContext, pageVariant());
+        final long clock = entityChangeClock.current(User.class);
+        if (cache.get(key, clock).isPresent()) {
+            return;
+        }
+        keysetPager.seek(loadContext);
+        final Function<LoadContext<User>, List<User>> loader = pageLoader();
+        final Supplier<List<User>> read = sessionReadRouting.route(() -> loader.apply(loadContext));
+        final UI ui = UI.getCurrent();
+        try {
+            uiLoadExecutor
+                    .submit(() -> uiQueryCancellation.load(ui, PREFETCH_LOADER, read))
+                    .thenAccept(page -> ui.access(() -> cache.put(key, clock, page)))
+                    .exceptionally(failure -> {
+                        log.debug("User page prefetch failed: {}", failure.getMessage());
+                        return null;
+                    });
+        } catch (final RejectedExecutionException exception) {
+            log.debug("User page prefetch skipped, load executor saturated");
+        }
+    }
+
+    /**
+     * Records the filter conditions of a load and applies the index policy to it.
+     *
+     * @param loadContext load context of the loader; its max results may be reduced
+     * @return false if the policy rejected the load
+     */
+    private boolean applyFilterPolicy(final LoadContext<User> loadContext) {
+        try {
+            final FilterIndexPolicy.Verdict verdict = filterIndexPolicy.apply(loadContext);
+            if (verdict.limited()) {
+                notifications
+                        .create(messageBundle.formatMessage("filterLimited", String.join(", ", verdict.unindexed())))
+                        .withType(Notifications.Type.WARNING)
+                        .show();
+            }
+            return true;
+        } catch (final UnindexedFilterException exception) {
+            notifications
+                    .create(messageBundle.formatMessage("filterRejected", String.join(", ", exception.getConditions())))
+                    .withType(Notifications.Type.ERROR)
+                    .show();
+            return false;
+        }
+    }
+
+    private boolean isSearchActive() {
+        return UserSearchService.isSearchable(searchText);
+    }
+
+    /**
+     * Runs the search and shows its results in place of the loader query.
+     *
+     * @return found users for the data container, empty in lazy mode
+     */
+    private List<User> loadSearchResults() {
+        final String text = Objects.requireNonNullElse(searchText, "");
+        searchResults = sessionReadRouting.read(() -> userSearchService.search(text, searchLimit));
+        showTotalCount(RowCount.exact(searchResults.size()));
+        if (lazyLoading) {
+            usersDataGrid.getDataProvider().refreshAll();
+            return List.of();
+        }
+        return searchResults;
+    }
+
+    private RowCount countUsers(final LoadContext<?> loadContext) {
+        return sessionReadRouting.read(() -> approximateCountService.count(loadContext));
+    }
+
+    /**
+     * Shows the (possibly approximate) total of users matching the current query.
+     *
+     * @param count total count
+     * @return the same count
+     */
+    private RowCount showTotalCount(final RowCount count) {
+        totalCountLabel.setText(messageBundle.formatMessage("totalCount", count.format(getLocale())));
+        return count;
+    }
+
+    /**
+     * Fetches the window requested by the lazy grid.
+     *
+     * @param query window requested by the grid
+     * @return users of the window with displayed properties loaded
+     */
+    private Stream<User> fetchUsers(final Query<User, Void> query) {
+        final int offset = query.getOffset();
+        final int limit = query.getLimit();
+        if (isSearchActive()) {
+            return searchResults.stream().skip(offset).limit(limit);
+        }
+        if (lazyLoadContext == null) {
+            return Stream.empty();
+        }
+        final LoadContext<User> loadContext = lazyLoadContext.copy();
+        loadContext.getQuery().setFirstResult(offset).setMaxResults(limit);
+        loadContext.setFetchPlan(displayedColumnsFetchPlan());
+        try {
+            // Conditions were recorded when the query was captured; windows beyond the row limit are empty
+            filterIndexPolicy.enforce(loadContext);
+        } catch (final UnindexedFilterException exception) {
+            return Stream.empty();
+        }
+        return uiQueryCancellation
+                .load(GRID_LOADER, () -> sessionReadRouting.read(() -> keysetPager.load(loadContext, pageLoader())))
+                .stream();
+    }
+
+    /**
+     * Returns the loader of page rows, as projections of the displayed columns in projection
+     * mode. The displayed columns are read now, so the loader can run in the background.
+     *
+     * @return page loader
+     */
+    private Function<LoadContext<User>, List<User>> pageLoader() {
+        if (projectionLoading) {
+            final List<String> properties = displayedProperties();
+            return loadContext -> entityProjectionService.loadList(loadContext, properties);
+        }
+        return dataManager::loadList;
+    }
+
+    /**
+     * Returns what shapes loaded rows besides the load context, for page cache keys.
+     *
+     * @return projected properties in projection mode, null otherwise
+     */
+    @Nullable
+    private Object pageVariant() {
+        return projectionLoading ? displayedProperties() : null;
+    }
+
+    /**
+     * Builds a fetch plan with the system properties and the properties of visible columns.
+     *
+     * @return fetch plan of the displayed columns
+     */
+    private FetchPlan displayedColumnsFetchPlan() {
+        return fetchPlans.builder(User.class)
+                .addSystem()
+                .addAll(displayedProperties().toArray(String[]::new))
+                .build();
+    }
+
+    /**
+     * Returns the entity properties shown in visible grid columns.
+     *
+     * @return property names in column order
+     */
+    private List<String> displayedProperties() {
+        final MetaClass metaClass = metadata.getClass(User.class);
+        return usersDataGrid.getColumns().stream()
+                .filter(Grid.Column::isVisible)
+                .map(Grid.Column::getKey)
+                .filter(key -> key != null && metaClass.findProperty(key) != null)
+                .toList();
+    }
+
+    /**
+     * Page of the paginated list being loaded.
+     *
+     * @param generation load generation the page belongs to
+     * @param context load context of the page, before any seek
+     * @param key page cache key, null if the cache is disabled
+     * @param clock user change clock value read before the load
+     */
+    private record PageLoad(int generation, LoadContext<User> context, @Nullable String key, long clock) {}
+
+    /**
+     * Binds the keyset cursor of the current page to the {@value #KEYSET_PARAM} URL query parameter.
+     */
+    private final class KeysetUrlQueryParametersBinder extends AbstractUrlQueryParametersBinder {
+
+        private String publishedValue;
+
+        /**
+         * Writes the cursor of the page at the given offset to the URL if it changed.
+         *
+         * @param firstResult offset of the loaded page
+         */
+        void publish(final int firstResult) {
+            final String value = keysetPager.toUrlValue(firstResult).orElse(null);
+            if (Objects.equals(value, publishedValue)) {
+                return;
+            }
+            publishedValue = value;
+            // An empty value list removes the parameter from the URL
+            final List<String> values = value != null ? List.of(value) : List.of();
+            fireQueryParametersChanged(new UrlQueryParametersFacet.UrlQueryParametersChangeEvent(
+                    this, new QueryParameters(Map.of(KEYSET_PARAM, values))));
+        }
+
+        @Override
+        public void updateState(final QueryParameters queryParameters) {
+            final List<String> values = queryParameters.getParameters().getOrDefault(KEYSET_PARAM, List.of());
+            if (!values.isEmpty()) {
+                publishedValue = values.get(0);
+                keysetPager.restoreFromUrlValue(publishedValue);
+            }
+        }
+
+        @Override
+        public Component getComponent() {
+            return null;
+        }
     }
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for CacheInvalidationMessage payload encoding.
+ */
+class CacheInvalidationMessageTest {
+
+    private static final String NODE_ID = "node0001";
+    private static final long SENT_AT = 1_700_000_000_000L;
+    private static final int MAX_PAYLOAD_BYTES = 7900;
+
+    @Test
+    void testEncodeDecodeRoundTrip() {
+        // Arrange
+        final Map<CacheRegion, Set<String>> keys = Map.of(
+                CacheRegion.USER, Set.of(UUID.randomUUID().toString()),
+                CacheRegion.ROLE_ASSIGNMENT, Set.of("alice", "bob|with;separators,and:colons"));
+        final CacheInvalidationMessage message = new CacheInvalidationMessage(NODE_ID, SENT_AT, false, keys);
+
+        // Act
+        final List<String> payloads = message.encode(MAX_PAYLOAD_BYTES);
+        final CacheInvalidationMessage decoded = CacheInvalidationMessage.decode(payloads.get(0));
+
+        // Assert
+        assertThat(payloads).hasSize(1);
+        assertThat(decoded.nodeId()).isEqualTo(NODE_ID);
+        assertThat(decoded.sentAtMillis()).isEqualTo(SENT_AT);
+        assertThat(decoded.flushAll()).isFalse();
+        assertThat(decoded.keys()).isEqualTo(keys);
+    }
+
+    @Test
+    void testEncodeSplitsLargeBatchesIntoBoundedPayloads() {
+        // Arrange
+        final Set<String> userIds = IntStream.range(0, 1000)
+                .mapToObj(_index -> UUID.randomUUID().toString())
+                .collect(Collectors.toSet());
+        final CacheInvalidationMessage message =
+                new CacheInvalidationMessage(NODE_ID, SENT_AT, false, Map.of(CacheRegion.USER, userIds));
+
+        // Act
+        final List<String> payloads = message.encode(MAX_PAYLOAD_BYTES);
+
+        // Assert
+        assertThat(payloads).hasSizeGreaterThan(1).allSatisfy(payload -> assertThat(payload.length())
+                .isLessThanOrEqualTo(MAX_PAYLOAD_BYTES));
+        assertThat(payloads.stream()
+                        .map(CacheInvalidationMessage::decode)
+                        .flatMap(decoded -> decoded.keys().get(CacheRegion.USER).stream())
+                        .collect(Collectors.toSet()))
+                .isEqualTo(userIds);
+    }
+
+    @Test
+    void testFlushAllRoundTrip() {
+        // Arrange
+        final CacheInvalidationMessage message = new CacheInvalidationMessage(NODE_ID, SENT_AT, true, Map.of());
+
+        // Act
+        final CacheInvalidationEvent event = CacheInvalidationMessage.decode(
+                        message.encode(MAX_PAYLOAD_BYTES).get(0))
+                .toEvent();
+
+        // Assert
+        assertThat(event.flushAll()).isTrue();
+        assertThat(event.keysOf(CacheRegion.USER)).isEmpty();
+    }
+
+    @Test
+    void testDecodeRejectsMalformedPayload() {
+        assertThatThrownBy(() -> CacheInvalidationMessage.decode("garbage"))
+                .isInstanceOf(SafeIllegalArgumentException.class);
+        assertThatThrownBy(() -> CacheInvalidationMessage.decode("1|node|now|U:x"))
+                .isInstanceOf(SafeIllegalArgumentException.class);
+        assertThatThrownBy(() -> CacheInvalidationMessage.decode("1|node|1|X:x"))
+                .isInstanceOf(SafeIllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.persistence.jpa.JpaEntityManagerFactory;
+import org.eclipse.persistence.queries.ReadObjectQuery;
+import org.eclipse.persistence.sessions.SessionEvent;
+import org.eclipse.persistence.sessions.SessionEventAdapter;
+import org.eclipse.persistence.sessions.server.ClientSession;
+import org.eclipse.persistence.sessions.server.ServerSession;
+
+/**
+ * Counts the database calls EclipseLink issues until closed.
+ */
+final class DatabaseCallCounter extends SessionEventAdapter implements AutoCloseable {
+
+    private final ServerSession serverSession;
+    private final AtomicInteger calls = new AtomicInteger();
+
+    DatabaseCallCounter(final EntityManagerFactory entityManagerFactory) {
+        serverSession = entityManagerFactory.unwrap(JpaEntityManagerFactory.class).getServerSession();
+        serverSession.getEventManager().addListener(this);
+    }
+
+    @Override
+    public void postExecuteCall(final SessionEvent event) {
+        calls.incrementAndGet();
+    }
+
+    /**
+     * Reads an entity by ID in a new client session, like a request of another user does.
+     * The isolated cache of the client session is empty, so only the shared cache can spare
+     * the database call.
+     *
+     * @param entityClass entity class
+     * @param id entity ID
+     */
+    void readById(final Class<?> entityClass, final Object id) {
+        final ClientSession session = serverSession.acquireClientSession();
+        try {
+            final ReadObjectQuery query = new ReadObjectQuery(entityClass);
+            query.setSelectionId(id);
+            session.executeQuery(query);
+        } finally {
+            session.release();
+        }
+    }
+
+    /**
+     * Returns the calls counted since the last reset and resets the count.
+     *
+     * @return number of database calls
+     */
+    int reset() {
+        return calls.getAndSet(0);
+    }
+
+    ServerSession serverSession() {
+        return serverSession;
+    }
+
+    @Override
+    public void close() {
+        serverSession.getEventManager().removeListener(this);
+    }
+}
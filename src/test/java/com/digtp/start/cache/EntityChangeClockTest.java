@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.digtp.start.entity.User;
+import com.digtp.start.testsupport.AbstractIntegrationTest;
+import com.digtp.start.testsupport.AuthenticatedAsAdmin;
+import com.digtp.start.testsupport.TestFixtures;
+import io.jmix.core.DataManager;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@ExtendWith(AuthenticatedAsAdmin.class)
+class EntityChangeClockTest extends AbstractIntegrationTest {
+
+    @Autowired
+    EntityChangeClock entityChangeClock;
+
+    @Autowired
+    DataManager dataManager;
+
+    @Autowired
+    ApplicationEventPublisher eventPublisher;
+
+    @Test
+    void testClockAdvancesOnCommittedChange() {
+        // Arrange
+        final long before = entityChangeClock.current(User.class);
+        final User user = dataManager.create(User.class);
+        user.setUsername(TestFixtures.uniqueUsername());
+        user.setPassword(TestFixtures.DEFAULT_TEST_PASSWORD);
+
+        // Act
+        final User saved = dataManager.save(user);
+
+        // Assert
+        assertThat(entityChangeClock.current(User.class)).isGreaterThan(before);
+        dataManager.remove(saved);
+    }
+
+    @Test
+    void testClockAdvancesOnInvalidationEvent() {
+        // Arrange
+        final long before = entityChangeClock.current(User.class);
+
+        // Act
+        eventPublisher.publishEvent(new CacheInvalidationEvent(Map.of(CacheRegion.USER, Set.of("id")), false));
+
+        // Assert
+        assertThat(entityChangeClock.current(User.class)).isGreaterThan(before);
+    }
+
+    @Test
+    void testFullFlushAdvancesAllClocks() {
+        // Arrange
+        final long before = entityChangeClock.current(Object.class);
+
+        // Act
+        eventPublisher.publishEvent(CacheInvalidationEvent.flushAllEvent());
+
+        // Assert
+        assertThat(entityChangeClock.current(Object.class)).isGreaterThan(before);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Unit tests for the send path of PostgresCacheInvalidationBus.
+ */
+@ExtendWith(MockitoExtension.class)
+class PostgresCacheInvalidationBusTest {
+
+    private static final int MAX_PENDING_KEYS = 3;
+
+    @Mock
+    DataSource dataSource;
+
+    @Mock
+    Connection connection;
+
+    @Mock
+    PreparedStatement statement;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    PostgresCacheInvalidationBus bus;
+
+    @BeforeEach
+    void beforeEach() {
+        bus = new PostgresCacheInvalidationBus(
+                dataSource,
+                new DataSourceProperties(),
+                eventPublisher,
+                meterRegistry,
+                "start_cache_invalidation",
+                Duration.ofMillis(100),
+                Duration.ofSeconds(1),
+                Duration.ofSeconds(5),
+                MAX_PENDING_KEYS);
+    }
+
+    @Test
+    void testFailedBatchIsRetriedWithNextFlush() throws SQLException {
+        // Arrange
+        when(dataSource.getConnection())
+                .thenThrow(new SQLException("connection refused"))
+                .thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        bus.publish(CacheRegion.USER, "user-1");
+        bus.flushPending();
+        bus.publish(CacheRegion.ROLE_ASSIGNMENT, "alice");
+
+        // Act
+        bus.flushPending();
+
+        // Assert
+        final CacheInvalidationMessage sent = CacheInvalidationMessage.decode(sentPayloads().get(0));
+        assertThat(sent.flushAll()).isFalse();
+        assertThat(sent.keys())
+                .isEqualTo(Map.of(CacheRegion.USER, Set.of("user-1"), CacheRegion.ROLE_ASSIGNMENT, Set.of("alice")));
+        assertThat(meterRegistry.counter("start.cache.invalidation.send-failures").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void testTooManyRequeuedKeysBecomeFlushAll() throws SQLException {
+        // Arrange
+        when(dataSource.getConnection())
+                .thenThrow(new SQLException("connection refused"))
+                .thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        for (int i = 0; i <= MAX_PENDING_KEYS; i++) {
+            bus.publish(CacheRegion.USER, "user-" + i);
+        }
+        bus.flushPending();
+
+        // Act
+        bus.flushPending();
+
+        // Assert
+        final List<String> payloads = sentPayloads();
+        assertThat(payloads).hasSize(1);
+        assertThat(CacheInvalidationMessage.decode(payloads.get(0)).flushAll()).isTrue();
+    }
+
+    private List<String> sentPayloads() throws SQLException {
+        final ArgumentCaptor<String> payloads = ArgumentCaptor.forClass(String.class);
+        verify(statement, atLeastOnce()).setString(eq(2), payloads.capture());
+        return payloads.getAllValues();
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.digtp.start.entity.User;
+import com.digtp.start.testsupport.AbstractIntegrationTest;
+import com.digtp.start.testsupport.AuthenticatedAsAdmin;
+import com.digtp.start.testsupport.TestFixtures;
+import io.jmix.core.DataManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Baseline of {@link SharedEntityCacheBenchmarkTest}: the {@code prod} profile alone keeps
+ * users out of the shared cache, so every read by ID costs a database call.
+ */
+@SpringBootTest
+@ActiveProfiles({"prod", "test"})
+@ExtendWith(AuthenticatedAsAdmin.class)
+@Slf4j
+class SharedEntityCacheBaselineTest extends AbstractIntegrationTest {
+
+    @Autowired
+    DataManager dataManager;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    DatabaseCallCounter databaseCalls;
+
+    User savedUser;
+
+    @BeforeEach
+    void beforeEach() {
+        databaseCalls = new DatabaseCallCounter(entityManagerFactory);
+        final User user = dataManager.create(User.class);
+        user.setUsername(TestFixtures.uniqueUsername());
+        user.setPassword(TestFixtures.DEFAULT_TEST_PASSWORD);
+        savedUser = dataManager.save(user);
+    }
+
+    @Test
+    void testProdKeepsUserOutOfSharedCache() {
+        assertThat(databaseCalls.serverSession().getDescriptor(User.class).isIsolated())
+                .isTrue();
+    }
+
+    @Test
+    void testEveryReadByIdHitsTheDatabase() {
+        // Arrange
+        databaseCalls.readById(User.class, savedUser.getId());
+        databaseCalls.reset();
+
+        // Act
+        for (int i = 0; i < SharedEntityCacheBenchmarkTest.ITERATIONS; i++) {
+            databaseCalls.readById(User.class, savedUser.getId());
+        }
+
+        // Assert
+        final int calls = databaseCalls.reset();
+        log.info("Baseline: {} DB calls for {} reads by ID", calls, SharedEntityCacheBenchmarkTest.ITERATIONS);
+        assertThat(calls).isEqualTo(SharedEntityCacheBenchmarkTest.ITERATIONS);
+    }
+
+    @AfterEach
+    void afterEach() {
+        databaseCalls.close();
+        if (savedUser != null) {
+            dataManager.remove(savedUser);
+            savedUser = null; // NOPMD - NullAssignment: prevents accidental reuse of removed entity
+        }
+    }
+}
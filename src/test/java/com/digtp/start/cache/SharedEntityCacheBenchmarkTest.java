@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.digtp.start.entity.User;
+import com.digtp.start.testsupport.AbstractIntegrationTest;
+import com.digtp.start.testsupport.AuthenticatedAsAdmin;
+import com.digtp.start.testsupport.TestFixtures;
+import io.jmix.core.DataManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Round-trip benchmark for the coordinated shared entity cache.
+ *
+ * <p>Runs with the {@code prod,shared-cache} profiles, so the per-entity override has to win
+ * over the shared cache default of {@code prod}. Warm reads of a user by ID must not reach
+ * the database; {@link SharedEntityCacheBaselineTest} measures the same reads with
+ * {@code prod} alone. Also verifies that remote invalidations evict entries from the shared
+ * cache.
+ */
+@SpringBootTest
+@ActiveProfiles({"prod", "shared-cache", "test"})
+@ExtendWith(AuthenticatedAsAdmin.class)
+@Slf4j
+class SharedEntityCacheBenchmarkTest extends AbstractIntegrationTest {
+
+    static final int ITERATIONS = 20;
+
+    @Autowired
+    DataManager dataManager;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    SharedEntityCacheCoordinator coordinator;
+
+    DatabaseCallCounter databaseCalls;
+
+    User savedUser;
+
+    @BeforeEach
+    void beforeEach() {
+        databaseCalls = new DatabaseCallCounter(entityManagerFactory);
+        final User user = dataManager.create(User.class);
+        user.setUsername(TestFixtures.uniqueUsername());
+        user.setPassword(TestFixtures.DEFAULT_TEST_PASSWORD);
+        savedUser = dataManager.save(user);
+    }
+
+    @Test
+    void testSharedCacheOverridesProdDefaultForUser() {
+        assertThat(databaseCalls.serverSession().getDescriptor(User.class).isIsolated())
+                .isFalse();
+    }
+
+    @Test
+    void testWarmReadsByIdSkipTheDatabase() {
+        // Arrange
+        databaseCalls.readById(User.class, savedUser.getId());
+        databaseCalls.reset();
+
+        // Act
+        for (int i = 0; i < ITERATIONS; i++) {
+            databaseCalls.readById(User.class, savedUser.getId());
+        }
+
+        // Assert
+        final int calls = databaseCalls.reset();
+        log.info("Shared cache: {} DB calls for {} warm reads by ID", calls, ITERATIONS);
+        assertThat(calls).isZero();
+    }
+
+    @Test
+    void testRemoteInvalidationEvictsSharedCacheEntry() {
+        // Arrange
+        databaseCalls.readById(User.class, savedUser.getId());
+        final boolean cachedBefore = databaseCalls
+                .serverSession()
+                .getIdentityMapAccessor()
+                .containsObjectInIdentityMap(savedUser.getId(), User.class);
+
+        // Act
+        coordinator.onCacheInvalidation(new CacheInvalidationEvent(
+                Map.of(CacheRegion.USER, Set.of(savedUser.getId().toString())), false));
+        databaseCalls.reset();
+        databaseCalls.readById(User.class, savedUser.getId());
+
+        // Assert
+        assertThat(cachedBefore).isTrue();
+        assertThat(databaseCalls.reset()).isEqualTo(1);
+    }
+
+    @AfterEach
+    void afterEach() {
+        databaseCalls.close();
+        if (savedUser != null) {
+            dataManager.remove(savedUser);
+            savedUser = null; // NOPMD - NullAssignment: prevents accidental reuse of removed entity
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.digtp.start.testsupport.AbstractIntegrationTest;
+import io.jmix.core.MessageTools;
+import io.jmix.core.Messages;
+import io.jmix.core.Resources;
+import io.jmix.core.UnconstrainedDataManager;
+import io.jmix.core.security.SystemAuthenticator;
+import io.jmix.core.security.UserRepository;
+import io.jmix.flowui.view.ViewRegistry;
+import io.jmix.security.role.ResourceRoleRepository;
+import io.jmix.security.role.RoleAssignmentRepository;
+import io.jmix.security.role.RowLevelRoleRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class StartupCacheWarmupTest extends AbstractIntegrationTest {
+
+    private static final Duration WAIT_TIMEOUT = Duration.ofSeconds(60);
+    private static final long POLL_INTERVAL_MS = 100;
+
+    @Autowired
+    StartupCacheWarmup cacheWarmup;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    UnconstrainedDataManager dataManager;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    RoleAssignmentRepository roleAssignmentRepository;
+
+    @Autowired
+    ResourceRoleRepository resourceRoleRepository;
+
+    @Autowired
+    Messages messages;
+
+    @Autowired
+    MessageTools messageTools;
+
+    @Autowired
+    ViewRegistry viewRegistry;
+
+    @Autowired
+    Resources resources;
+
+    @Autowired
+    SystemAuthenticator systemAuthenticator;
+
+    /**
+     * Released to let the blocked {@code role-assignments} phase finish.
+     */
+    final CountDownLatch phaseRelease = new CountDownLatch(1);
+
+    final CountDownLatch phaseStarted = new CountDownLatch(1);
+
+    @Test
+    void testWarmupGatesReadinessAndExportsPhaseTimings() throws InterruptedException {
+        // Arrange
+        final long deadline = System.nanoTime() + WAIT_TIMEOUT.toNanos();
+
+        // Act
+        while (!cacheWarmup.isFinished() && System.nanoTime() < deadline) {
+            Thread.sleep(POLL_INTERVAL_MS);
+        }
+        final Health health = cacheWarmup.health();
+
+        // Assert
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("timedOut", false);
+        assertThat(meterRegistry
+                        .find("start.cache.warmup.duration")
+                        .tag("phase", "users")
+                        .timer())
+                .isNotNull();
+    }
+
+    @Test
+    void testRunningPhaseKeepsReadinessOutOfService() throws InterruptedException {
+        // Arrange
+        final StartupCacheWarmup warmup = blockedWarmup(WAIT_TIMEOUT);
+
+        // Act
+        warmup.onApplicationEvent(null);
+        final boolean started = phaseStarted.await(WAIT_TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+        final Health whileRunning = warmup.health();
+        phaseRelease.countDown();
+        awaitFinished(warmup);
+
+        // Assert
+        assertThat(started).isTrue();
+        assertThat(whileRunning.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        assertThat(warmup.health().getStatus()).isEqualTo(Status.UP);
+        assertThat(warmup.health().getDetails()).containsEntry("timedOut", false);
+    }
+
+    @Test
+    void testTimeoutReportsReadyWhilePhaseIsStillRunning() throws InterruptedException {
+        // Arrange
+        final StartupCacheWarmup warmup = blockedWarmup(Duration.ofMillis(500));
+
+        // Act
+        warmup.onApplicationEvent(null);
+        phaseStarted.await(WAIT_TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+        final Health beforeTimeout = warmup.health();
+        awaitFinished(warmup);
+
+        // Assert
+        assertThat(beforeTimeout.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        assertThat(phaseRelease.getCount()).isEqualTo(1);
+        assertThat(warmup.health().getStatus()).isEqualTo(Status.UP);
+        assertThat(warmup.health().getDetails()).containsEntry("timedOut", true);
+    }
+
+    @AfterEach
+    void afterEach() {
+        phaseRelease.countDown();
+    }
+
+    /**
+     * Creates a warm-up whose {@code role-assignments} phase blocks until {@link #phaseRelease}
+     * is released.
+     */
+    private StartupCacheWarmup blockedWarmup(final Duration timeout) {
+        final RowLevelRoleRepository rowLevelRoleRepository = mock(RowLevelRoleRepository.class);
+        when(rowLevelRoleRepository.getAllRoles()).thenAnswer(_invocation -> {
+            phaseStarted.countDown();
+            phaseRelease.await();
+            return List.of();
+        });
+        final StartupCacheWarmup warmup = new StartupCacheWarmup(
+                dataManager,
+                userRepository,
+                roleAssignmentRepository,
+                resourceRoleRepository,
+                rowLevelRoleRepository,
+                messages,
+                messageTools,
+                viewRegistry,
+                resources,
+                systemAuthenticator,
+                meterRegistry);
+        ReflectionTestUtils.setField(warmup, "timeout", timeout);
+        ReflectionTestUtils.setField(warmup, "usersLimit", 1);
+        ReflectionTestUtils.setField(warmup, "messageKeys", List.of());
+        ReflectionTestUtils.setField(warmup, "viewIds", List.of());
+        return warmup;
+    }
+
+    private static void awaitFinished(final StartupCacheWarmup warmup) throws InterruptedException {
+        final long deadline = System.nanoTime() + WAIT_TIMEOUT.toNanos();
+        while (!warmup.isFinished() && System.nanoTime() < deadline) {
+            Thread.sleep(POLL_INTERVAL_MS);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+/**
+ * Unit tests for CacheSpec and the effective spec report.
+ */
+class CacheSpecTest {
+
+    @Test
+    void testToCaffeineAppliesSpec() {
+        // Arrange
+        final CacheSpec spec = new CacheSpec(100L, null, Duration.ofMinutes(10), null, null, true, null);
+
+        // Act
+        final Cache<Object, Object> cache = spec.toCaffeine().build();
+
+        // Assert
+        assertThat(cache.policy().eviction()).hasValueSatisfying(eviction -> {
+            assertThat(eviction.getMaximum()).isEqualTo(100L);
+            assertThat(eviction.isWeighted()).isFalse();
+        });
+        assertThat(cache.policy().expireAfterWrite())
+                .hasValueSatisfying(expiration -> assertThat(expiration.getExpiresAfter())
+                        .isEqualTo(Duration.ofMinutes(10)));
+        assertThat(cache.policy().isRecordingStats()).isTrue();
+        assertThat(CacheSpecReport.describeEffective(cache, spec))
+                .isEqualTo("maximumSize=100,expireAfterWrite=600s,softValues,recordStats");
+    }
+
+    @Test
+    void testMaximumWeightWeighsCollectionsBySize() {
+        // Arrange
+        final CacheSpec spec = new CacheSpec(null, 10L, null, null, null, null, false);
+        final Cache<Object, Object> cache = spec.toCaffeine().executor(Runnable::run).build();
+
+        // Act
+        cache.put("large", List.of(1, 2, 3, 4, 5, 6, 7, 8));
+        cache.put("small", List.of(1, 2, 3, 4));
+        cache.cleanUp();
+
+        // Assert
+        assertThat(cache.policy().eviction()).hasValueSatisfying(eviction -> {
+            assertThat(eviction.isWeighted()).isTrue();
+            assertThat(eviction.weightedSize()).hasValueLessThanOrEqualTo(10L);
+        });
+        assertThat(cache.policy().isRecordingStats()).isFalse();
+    }
+
+    @Test
+    void testWithDefaultsKeepsConfiguredBound() {
+        // Arrange
+        final CacheSpec defaults = new CacheSpec(10_000L, null, Duration.ofMinutes(10), null, null, null, true);
+        final CacheSpec configured = new CacheSpec(null, 500L, null, null, null, true, null);
+
+        // Act
+        final CacheSpec merged = configured.withDefaults(defaults);
+
+        // Assert
+        assertThat(merged.maximumSize()).isNull();
+        assertThat(merged.maximumWeight()).isEqualTo(500L);
+        assertThat(merged.expireAfterWrite()).isEqualTo(Duration.ofMinutes(10));
+        assertThat(merged.softValues()).isTrue();
+        assertThat(merged.recordStats()).isTrue();
+    }
+
+    @Test
+    void testSizeAndWeightAreMutuallyExclusive() {
+        // Act & Assert
+        assertThatThrownBy(() -> new CacheSpec(100L, 100L, null, null, null, null, null))
+                .isInstanceOf(SafeIllegalArgumentException.class);
+    }
+
+    @Test
+    void testConfiguredSpecsSkipNonCacheGroups() {
+        // Arrange
+        final CacheSpec empty = new CacheSpec(null, null, null, null, null, null, null);
+        final CacheSpec sized = new CacheSpec(100L, null, null, null, null, null, null);
+        final CacheSpecProperties properties =
+                new CacheSpecProperties(Map.of("warmup", empty, "resource-roles-cache", sized));
+
+        // Act & Assert
+        assertThat(properties.configuredSpecs()).containsOnlyKeys("resource-roles-cache");
+        assertThat(properties.specOf("missing", sized)).isEqualTo(sized);
+    }
+
+    @Test
+    void testReportCoversUnconfiguredNonCaffeineCache() {
+        // Arrange
+        final CacheSpecReport report = new CacheSpecReport(
+                new ConcurrentMapCacheManager("plain"),
+                new CacheSpecProperties(Map.of()),
+                mock(CacheMetricsConfig.class));
+
+        // Act & Assert
+        assertThatCode(() -> report.onApplicationEvent(mock(ApplicationReadyEvent.class)))
+                .doesNotThrowAnyException();
+    }
+}
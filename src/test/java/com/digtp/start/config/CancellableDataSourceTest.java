@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.digtp.start.testsupport.AbstractIntegrationTest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Integration tests for statement timeouts and cancellation of CancellableDataSource.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CancellableDataSourceTest extends AbstractIntegrationTest {
+
+    private static final String SLEEP_SQL = "select pg_sleep(30)";
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Test
+    void testStatementIsCancelledAfterTimeout() {
+        // Arrange
+        final double before = cancelled(CancellableDataSource.REASON_TIMEOUT);
+
+        // Act & Assert
+        assertThatThrownBy(() -> QueryTimeouts.withTimeout(Duration.ofSeconds(1), () -> execute(SLEEP_SQL)))
+                .hasRootCauseInstanceOf(SQLException.class)
+                .rootCause()
+                .satisfies(cause -> assertThat(((SQLException) cause).getSQLState())
+                        .isEqualTo(CancellableDataSource.QUERY_CANCELED));
+        assertThat(cancelled(CancellableDataSource.REASON_TIMEOUT)).isEqualTo(before + 1);
+    }
+
+    @Test
+    void testCancelAbortsRunningAndLaterStatements() throws InterruptedException {
+        // Arrange
+        final QueryCancellation cancellation = new QueryCancellation("test");
+        final double before = cancelled(UiQueryCancellation.REASON_DETACH);
+        final CompletableFuture<Boolean> running =
+                CompletableFuture.supplyAsync(() -> cancellation.call(() -> execute(SLEEP_SQL)));
+        TimeUnit.MILLISECONDS.sleep(500);
+
+        // Act
+        final long startNanos = System.nanoTime();
+        cancellation.cancel(UiQueryCancellation.REASON_DETACH);
+
+        // Assert
+        assertThatThrownBy(() -> running.get(10, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasRootCauseInstanceOf(SQLException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - startNanos)).isLessThan(Duration.ofSeconds(10));
+        assertThatThrownBy(() -> cancellation.call(() -> execute("select 1")))
+                .hasRootCauseInstanceOf(SQLException.class);
+        assertThat(cancelled(UiQueryCancellation.REASON_DETACH)).isEqualTo(before + 2);
+    }
+
+    @Test
+    void testConnectionOutsideScopesIsNotWrapped() throws SQLException {
+        // Act
+        final boolean plainWrapped;
+        try (Connection connection = dataSource.getConnection()) {
+            plainWrapped = Proxy.isProxyClass(connection.getClass());
+        }
+        final boolean scopedWrapped = QueryTimeouts.withTimeout(Duration.ofSeconds(5), () -> {
+            try (Connection connection = dataSource.getConnection()) {
+                return Proxy.isProxyClass(connection.getClass());
+            } catch (final SQLException exception) {
+                throw new IllegalStateException(exception);
+            }
+        });
+
+        // Assert
+        assertThat(plainWrapped).isFalse();
+        assertThat(scopedWrapped).isTrue();
+    }
+
+    private boolean execute(final String sql) {
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            return statement.execute(sql);
+        } catch (final SQLException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private double cancelled(final String reason) {
+        return meterRegistry.find("start.db.query.cancelled").tag("reason", reason).counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.digtp.start.entity.User;
+import com.digtp.start.testsupport.AbstractIntegrationTest;
+import com.digtp.start.testsupport.AuthenticatedAsAdmin;
+import io.jmix.core.DataManager;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Insert throughput and primary key index size of UUIDv7 against random UUIDv4 IDs.
+ *
+ * <p>Inserts the same number of rows into two scratch tables with a UUID primary key, one
+ * keyed by {@link UuidV7Generator} and one by {@link UUID#randomUUID()}, and compares the
+ * elapsed time and the size of the primary key index. The row count defaults to
+ * {@value #DEFAULT_ROWS}; set {@code ID_BENCHMARK_ROWS=10000000} for the full-size run. The
+ * benchmark is tagged {@code benchmark} and runs in the {@code benchmarkTest} task, not with
+ * the regular tests.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@ExtendWith(AuthenticatedAsAdmin.class)
+@Slf4j
+class IdGeneratorBenchmarkTest extends AbstractIntegrationTest {
+
+    private static final int DEFAULT_ROWS = 200_000;
+    private static final int BATCH_SIZE = 10_000;
+    private static final String V4_TABLE = "id_benchmark_v4";
+    private static final String V7_TABLE = "id_benchmark_v7";
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    DataManager dataManager;
+
+    @Autowired
+    IdGenerator idGenerator;
+
+    @Test
+    void testNewEntitiesGetTimeOrderedIds() {
+        // Arrange
+        final User first = dataManager.create(User.class);
+
+        // Act
+        final User second = dataManager.create(User.class);
+
+        // Assert
+        assertThat(idGenerator).isInstanceOf(UuidV7Generator.class);
+        assertThat(first.getId().version()).isEqualTo(7);
+        assertThat(second.getId()).isGreaterThan(first.getId());
+    }
+
+    @Test
+    @Tag("benchmark")
+    void testUuidV7InsertsProduceSmallerIndex() throws SQLException {
+        // Arrange
+        final int rows = rowCount();
+        final UuidV7Generator v7Generator = new UuidV7Generator();
+
+        // Act
+        final long v4Millis = insertRows(V4_TABLE, rows, UUID::randomUUID);
+        final long v7Millis = insertRows(V7_TABLE, rows, v7Generator);
+        final long v4IndexBytes = indexSize(V4_TABLE);
+        final long v7IndexBytes = indexSize(V7_TABLE);
+
+        // Assert
+        log.info(
+                "{} rows: v4 {} ms ({} rows/s, index {} KB), v7 {} ms ({} rows/s, index {} KB)",
+                rows,
+                v4Millis,
+                rows * 1000L / Math.max(v4Millis, 1),
+                v4IndexBytes / 1024,
+                v7Millis,
+                rows * 1000L / Math.max(v7Millis, 1),
+                v7IndexBytes / 1024);
+        // Appends fill index pages; random inserts split them half-full
+        assertThat(v7IndexBytes).isLessThan(v4IndexBytes);
+    }
+
+    @AfterEach
+    void afterEach() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists " + V4_TABLE);
+            statement.execute("drop table if exists " + V7_TABLE);
+        }
+    }
+
+    private static int rowCount() {
+        final String rows = System.getenv("ID_BENCHMARK_ROWS");
+        return rows != null ? Integer.parseInt(rows) : DEFAULT_ROWS;
+    }
+
+    /**
+     * Inserts rows in batches of unnested ID arrays.
+     *
+     * @return elapsed milliseconds
+     */
+    private long insertRows(final String table, final int rows, final IdGenerator generator) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("create table " + table + " (id uuid primary key, created_at timestamp default now())");
+            }
+            final long startNanos = System.nanoTime();
+            try (PreparedStatement statement =
+                    connection.prepareStatement("insert into " + table + " (id) select unnest(?)")) {
+                for (int inserted = 0; inserted < rows; inserted += BATCH_SIZE) {
+                    final UUID[] ids = new UUID[Math.min(BATCH_SIZE, rows - inserted)];
+                    for (int i = 0; i < ids.length; i++) {
+                        ids[i] = generator.nextId();
+                    }
+                    final Array array = connection.createArrayOf("uuid", ids);
+                    statement.setArray(1, array);
+                    statement.executeUpdate();
+                    array.free();
+                }
+            }
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        }
+    }
+
+    private long indexSize(final String table) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement("select pg_relation_size(?::regclass)")) {
+            statement.setString(1, table + "_pkey");
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.digtp.start.entity.User;
+import com.digtp.start.testsupport.AbstractIntegrationTest;
+import com.digtp.start.testsupport.AuthenticatedAsAdmin;
+import io.jmix.core.DataManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Integration tests for QueryTimingListener.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@ExtendWith(AuthenticatedAsAdmin.class)
+class QueryTimingListenerTest extends AbstractIntegrationTest {
+
+    @Autowired
+    QueryTimingListener queryTimingListener;
+
+    @Autowired
+    DataManager dataManager;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void resetShapes() {
+        queryTimingListener.reset();
+    }
+
+    @Test
+    void testStatementsAreAggregatedByShape() {
+        // Act
+        dataManager.load(User.class).query("e.username = :username").parameter("username", "a").list();
+        dataManager.load(User.class).query("e.username = :username").parameter("username", "b").list();
+
+        // Assert
+        final List<QueryShapeStats.Summary> shapes = queryTimingListener.topShapes(20);
+        assertThat(shapes)
+                .filteredOn(summary -> summary.sql().contains("USER_"))
+                .anySatisfy(summary -> {
+                    assertThat(summary.count()).isGreaterThanOrEqualTo(2);
+                    assertThat(summary.origins()).containsKey(QueryOrigin.UNKNOWN);
+                });
+        assertThat(meterRegistry.find("start.db.query").tag("operation", "select").timer())
+                .isNotNull();
+    }
+
+    @Test
+    void testStatementIsRecordedOnceInOpenScope() {
+        // Act
+        final int statements;
+        try (StatementScope scope = StatementScope.open("single load")) {
+            dataManager.load(User.class).all().maxResults(1).list();
+            statements = scope.statements();
+        }
+
+        // Assert
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    void testOriginFollowsServiceCalls() {
+        // Arrange
+        final String origin = "Caller.load";
+
+        // Act
+        QueryOrigin.enter(origin);
+        try {
+            dataManager.load(User.class).all().maxResults(1).list();
+        } finally {
+            QueryOrigin.exit();
+        }
+
+        // Assert
+        assertThat(QueryOrigin.current()).isEqualTo(QueryOrigin.UNKNOWN);
+        assertThat(queryTimingListener.topShapes(20))
+                .anySatisfy(summary -> assertThat(summary.origins()).containsKey(origin));
+    }
+
+    @Test
+    void testTimerIsNotTaggedWithOrigin() {
+        // Act
+        QueryOrigin.enter("Caller.load");
+        try {
+            dataManager.load(User.class).all().maxResults(1).list();
+        } finally {
+            QueryOrigin.exit();
+        }
+
+        // Assert
+        assertThat(meterRegistry.find("start.db.query").timers())
+                .isNotEmpty()
+                .allSatisfy(timer -> assertThat(timer.getId().getTag("origin")).isNull());
+        assertThat(meterRegistry.find("start.db.query.rows").summaries())
+                .allSatisfy(summary -> assertThat(summary.getId().getTag("origin")).isNull());
+    }
+}
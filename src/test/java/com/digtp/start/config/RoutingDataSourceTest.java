@@ -0,0 +1,173 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.digtp.start.testsupport.AbstractIntegrationTest;
+import com.digtp.start.testsupport.PostgresTestContainer;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.CompositeHealthContributor;
+import org.springframework.boot.actuate.health.HealthContributor;
+import org.springframework.boot.actuate.health.HealthContributorRegistry;
+import org.springframework.boot.actuate.health.NamedContributor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Integration tests for RoutingDataSource, using the test database as its own replica.
+ */
+@SpringBootTest(properties = "main.datasource.replica-lag-check-interval=1h")
+@ActiveProfiles("test")
+class RoutingDataSourceTest extends AbstractIntegrationTest {
+
+    private static final String REPLICA = "replica-0";
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    SystemWorkloadProbe systemWorkloadProbe;
+
+    @Autowired
+    HealthContributorRegistry healthContributors;
+
+    @DynamicPropertySource
+    static void configureReplica(final DynamicPropertyRegistry registry) {
+        registry.add("main.datasource.replicas[0].url", PostgresTestContainer::getJdbcUrl);
+    }
+
+    @Test
+    void testReadOnlyWorkIsRoutedToReplica() {
+        // Arrange
+        routingDataSource().updateLag(REPLICA, Duration.ZERO);
+
+        // Act
+        final String readOnlyPool = DataSourceRouting.readOnly(this::applicationName);
+        final String readWritePool = applicationName();
+
+        // Assert
+        assertThat(readOnlyPool).isEqualTo(REPLICA);
+        assertThat(readWritePool).isNotEqualTo(REPLICA);
+    }
+
+    @Test
+    void testWorkloadSelectsPool() {
+        // Act
+        final String batchPool = DataSourceRouting.withWorkload(WorkloadClass.BATCH, this::applicationName);
+        final String annotatedPool = systemWorkloadProbe.applicationName();
+        final String readOnlyBatchPool = DataSourceRouting.withWorkload(
+                WorkloadClass.BATCH, () -> DataSourceRouting.readOnly(this::applicationName));
+
+        // Assert
+        assertThat(batchPool).isEqualTo("batch");
+        assertThat(annotatedPool).isEqualTo("system");
+        assertThat(readOnlyBatchPool).isEqualTo(REPLICA);
+        assertThat(meterRegistry.get("hikaricp.connections.acquire").tag("pool", "batch").timer().count())
+                .isPositive();
+    }
+
+    @Test
+    void testLaggingReplicaFallsBackToPrimary() {
+        // Arrange
+        routingDataSource().updateLag(REPLICA, Duration.ofMinutes(1));
+        final double fallbacksBefore = fallbacks();
+
+        // Act
+        final String readOnlyPool = DataSourceRouting.readOnly(this::applicationName);
+
+        // Assert
+        assertThat(readOnlyPool).isNotEqualTo(REPLICA);
+        assertThat(fallbacks()).isEqualTo(fallbacksBefore + 1);
+        assertThat(meterRegistry.get("start.datasource.replica.lag").tag("pool", REPLICA).gauge().value())
+                .isEqualTo(60.0);
+    }
+
+    @AfterEach
+    void afterEach() {
+        routingDataSource().updateLag(REPLICA, Duration.ZERO);
+    }
+
+    @Test
+    void testHealthReportsEveryPool() {
+        // Act
+        final HealthContributor db = healthContributors.getContributor("db");
+
+        // Assert
+        assertThat(db).isInstanceOf(CompositeHealthContributor.class);
+        assertThat(((CompositeHealthContributor) db).stream().map(NamedContributor::getName))
+                .containsExactlyInAnyOrder("batch", "interactive", REPLICA, "system");
+    }
+
+    private RoutingDataSource routingDataSource() {
+        try {
+            return dataSource.unwrap(RoutingDataSource.class);
+        } catch (final SQLException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private double fallbacks() {
+        return meterRegistry.counter("start.datasource.routed", "pool", "interactive", "reason", "replica-fallback")
+                .count();
+    }
+
+    private String applicationName() {
+        return applicationName(dataSource);
+    }
+
+    static String applicationName(final DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("select current_setting('application_name')")) {
+            resultSet.next();
+            return resultSet.getString(1);
+        } catch (final SQLException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    @TestConfiguration
+    static class WorkloadProbeConfiguration {
+
+        @Bean
+        SystemWorkloadProbe systemWorkloadProbe(final DataSource dataSource) {
+            return new SystemWorkloadProbe(dataSource);
+        }
+    }
+
+    /**
+     * Bean whose method runs as system workload.
+     */
+    static class SystemWorkloadProbe {
+
+        private final DataSource dataSource;
+
+        SystemWorkloadProbe(final DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        @Workload(WorkloadClass.SYSTEM)
+        public String applicationName() {
+            return RoutingDataSourceTest.applicationName(dataSource);
+        }
+    }
+}
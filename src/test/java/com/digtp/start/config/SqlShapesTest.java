@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for SqlShapes.
+ */
+class SqlShapesTest {
+
+    @Test
+    void testLiteralsAndWhitespaceAreNormalized() {
+        // Act
+        final String shape =
+                SqlShapes.normalize("SELECT ID FROM USER_\n  WHERE USERNAME = 'o''brien' AND VERSION > 12");
+
+        // Assert
+        assertThat(shape).isEqualTo("SELECT ID FROM USER_ WHERE USERNAME = ? AND VERSION > ?");
+        assertThat(SqlShapes.operation(shape)).isEqualTo("select");
+    }
+
+    @Test
+    void testInListsOfDifferentLengthShareShape() {
+        // Act
+        final String two = SqlShapes.normalize("DELETE FROM USER_ WHERE ID IN (?, ?)");
+        final String three = SqlShapes.normalize("DELETE FROM USER_ WHERE ID IN (?,?,?)");
+
+        // Assert
+        assertThat(two).isEqualTo(three).isEqualTo("DELETE FROM USER_ WHERE ID IN (?)");
+        assertThat(SqlShapes.shapeId(two)).isEqualTo(SqlShapes.shapeId(three)).hasSize(8);
+    }
+
+    @Test
+    void testIdentifiersWithDigitsAreKept() {
+        // Act
+        final String shape = SqlShapes.normalize("SELECT t0.ID FROM USER_ t0 LIMIT ? OFFSET ?");
+
+        // Assert
+        assertThat(shape).isEqualTo("SELECT t0.ID FROM USER_ t0 LIMIT ? OFFSET ?");
+    }
+}
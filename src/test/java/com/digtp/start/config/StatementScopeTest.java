@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for StatementScope.
+ */
+class StatementScopeTest {
+
+    private static final String BY_ID = "SELECT ID, NAME FROM DEPARTMENT WHERE (ID = ?)";
+
+    @Test
+    void testRepeatedSelectsAreReportedWithOrigin() {
+        // Arrange
+        try (StatementScope scope = StatementScope.open("request")) {
+            // Act
+            StatementScope.record("SELECT ID FROM USER_ LIMIT ?", "UserService.list");
+            for (int i = 0; i < 5; i++) {
+                StatementScope.record(BY_ID, "UserListView.onBeforeShow");
+            }
+            StatementScope.record("UPDATE USER_ SET ACTIVE = ? WHERE (ID = ?)", QueryOrigin.UNKNOWN);
+
+            // Assert
+            assertThat(scope.statements()).isEqualTo(7);
+            assertThat(scope.repeatedSelects(5)).containsExactly(Map.entry(BY_ID, 5));
+            assertThat(scope.origin(BY_ID)).isEqualTo("UserListView.onBeforeShow");
+        }
+    }
+
+    @Test
+    void testNestedScopesCountOwnStatements() {
+        // Arrange
+        try (StatementScope outer = StatementScope.open("request")) {
+            StatementScope.record(BY_ID, QueryOrigin.UNKNOWN);
+
+            // Act
+            try (StatementScope inner = StatementScope.open("view load")) {
+                StatementScope.record(BY_ID, QueryOrigin.UNKNOWN);
+
+                // Assert
+                assertThat(inner.statements()).isEqualTo(1);
+            }
+            StatementScope.record(BY_ID, QueryOrigin.UNKNOWN);
+            assertThat(outer.statements()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void testStatementsOutsideScopesAreIgnored() {
+        // Act
+        StatementScope.record(BY_ID, QueryOrigin.UNKNOWN);
+
+        // Assert
+        try (StatementScope scope = StatementScope.open("request")) {
+            assertThat(scope.statements()).isZero();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for UuidV7Generator.
+ */
+class UuidV7GeneratorTest {
+
+    private static final long NOW = Instant.parse("2025-06-01T12:00:00Z").toEpochMilli();
+
+    @Test
+    void testIdHasVersionVariantAndTimestamp() {
+        // Arrange
+        final UuidV7Generator generator = new UuidV7Generator(() -> NOW);
+
+        // Act
+        final UUID id = generator.nextId();
+
+        // Assert
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(UuidV7Generator.timestampOf(id)).isEqualTo(Instant.ofEpochMilli(NOW));
+    }
+
+    @Test
+    void testIdsAreMonotonicWithinMillisecond() {
+        // Arrange
+        final UuidV7Generator generator = new UuidV7Generator(() -> NOW);
+        final List<UUID> ids = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(generator.nextId());
+        }
+
+        // Assert
+        for (int i = 1; i < ids.size(); i++) {
+            assertThat(ids.get(i)).isGreaterThan(ids.get(i - 1));
+        }
+        // 10k IDs overflow the 12-bit counter: the timestamp runs ahead of the frozen clock
+        assertThat(UuidV7Generator.timestampOf(ids.get(ids.size() - 1))).isAfter(Instant.ofEpochMilli(NOW));
+    }
+
+    @Test
+    void testIdsStayMonotonicWhenClockStepsBack() {
+        // Arrange
+        final AtomicLong clock = new AtomicLong(NOW);
+        final UuidV7Generator generator = new UuidV7Generator(clock::get);
+        final UUID before = generator.nextId();
+        clock.set(NOW - 1000);
+
+        // Act
+        final UUID after = generator.nextId();
+
+        // Assert
+        assertThat(after).isGreaterThan(before);
+        assertThat(UuidV7Generator.timestampOf(after)).isEqualTo(Instant.ofEpochMilli(NOW));
+    }
+}
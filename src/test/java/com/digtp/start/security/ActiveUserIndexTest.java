@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.digtp.start.testsupport.AbstractIntegrationTest;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * EXPLAIN-based tests of the partial indexes on active users.
+ *
+ * <p>The statements mirror the SQL EclipseLink generates for the login lookup
+ * ({@link DatabaseUserRepository#ACTIVE_USERNAME_QUERY}) and for a user list page with the
+ * default "active users" filter. Values are bound as parameters, as EclipseLink does.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ActiveUserIndexTest extends AbstractIntegrationTest {
+
+    @Autowired
+    DataSource dataSource;
+
+    @Test
+    void testLoginLookupUsesActiveLowerUsernameIndex() throws SQLException {
+        // Arrange
+        final String sql = "select USERNAME from USER_ where lower(USERNAME) = ? and ACTIVE = ? limit 2";
+
+        // Act
+        final String plan = explain(sql, "admin", true);
+
+        // Assert
+        assertThat(plan).containsIgnoringCase("idx_user__active_lower_username").doesNotContainIgnoringCase("Seq Scan");
+    }
+
+    @Test
+    void testActiveUserPageUsesActiveUsernameIndex() throws SQLException {
+        // Arrange
+        final String sql = "select ID, USERNAME from USER_ where ACTIVE = ? order by USERNAME limit 50";
+
+        // Act
+        final String plan = explain(sql, true);
+
+        // Assert
+        assertThat(plan)
+                .containsIgnoringCase("Index Scan using idx_user__active_username")
+                .doesNotContainIgnoringCase("Sort");
+    }
+
+    private String explain(final String sql, final Object... parameters) throws SQLException {
+        final List<String> plan = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                // The test table is tiny: make the planner pick indexes as it does on large tables
+                statement.execute("set enable_seqscan = off");
+            }
+            try (PreparedStatement statement = connection.prepareStatement("explain " + sql)) {
+                for (int index = 0; index < parameters.length; index++) {
+                    statement.setObject(index + 1, parameters[index]);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        plan.add(resultSet.getString(1));
+                    }
+                }
+            } finally {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("reset enable_seqscan");
+                }
+            }
+        }
+        return String.join("\n", plan);
+    }
+}
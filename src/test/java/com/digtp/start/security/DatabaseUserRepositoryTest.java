@@ -5,17 +5,26 @@
 package com.digtp.start.security;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.digtp.start.entity.User;
 import com.digtp.start.testsupport.AbstractIntegrationTest;
 import com.digtp.start.testsupport.AuthenticatedAsAdmin;
+import com.digtp.start.testsupport.TestFixtures;
+import io.jmix.core.DataManager;
+import io.jmix.core.EntityStates;
 import io.jmix.core.security.SystemAuthenticator;
+import io.jmix.security.role.assignment.RoleAssignmentRoleType;
+import io.jmix.securitydata.entity.RoleAssignmentEntity;
 import java.util.Collection;
+import java.util.Locale;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.test.context.ActiveProfiles;
 
 @SpringBootTest
@@ -29,6 +38,14 @@ class DatabaseUserRepositoryTest extends AbstractIntegrationTest {
     @Autowired
     private SystemAuthenticator systemAuthenticator;
 
+    @Autowired
+    private DataManager dataManager;
+
+    @Autowired
+    private EntityStates entityStates;
+
+    private User savedUser;
+
     @Test
     void testGetUserClass() {
         final Class<?> userClass = userRepository.getUserClass();
@@ -64,4 +81,113 @@ class DatabaseUserRepositoryTest extends AbstractIntegrationTest {
         assertThat(anonymousUser).isNotNull();
         assertThat(anonymousUser.getUsername()).isEqualTo("anonymous");
     }
+
+    @Test
+    void testLoadUserByUsernameReturnsDetachedCopies() {
+        // Arrange
+        final User user = dataManager.create(User.class);
+        user.setUsername(TestFixtures.uniqueUsername());
+        user.setPassword(TestFixtures.DEFAULT_TEST_PASSWORD);
+        savedUser = dataManager.save(user);
+
+        // Act
+        final User first = userRepository.loadUserByUsername(savedUser.getUsername());
+        final User second = userRepository.loadUserByUsername(savedUser.getUsername());
+
+        // Assert
+        assertThat(first).isEqualTo(savedUser).isEqualTo(second).isNotSameAs(second);
+        assertThat(entityStates.isNew(first)).isFalse();
+        assertThat(entityStates.isDetached(first)).isTrue();
+    }
+
+    @Test
+    void testUserCacheInvalidatedOnSave() {
+        // Arrange
+        final User user = dataManager.create(User.class);
+        user.setUsername(TestFixtures.uniqueUsername());
+        user.setPassword(TestFixtures.DEFAULT_TEST_PASSWORD);
+        savedUser = dataManager.save(user);
+        userRepository.loadUserByUsername(savedUser.getUsername());
+
+        // Act
+        savedUser.setFirstName("Changed");
+        savedUser = dataManager.save(savedUser);
+        final User reloaded = userRepository.loadUserByUsername(savedUser.getUsername());
+
+        // Assert
+        assertThat(reloaded.getFirstName()).isEqualTo("Changed");
+        assertThat(reloaded.getVersion()).isEqualTo(savedUser.getVersion());
+    }
+
+    @Test
+    void testRevokedRoleIsDroppedFromCachedAuthorities() {
+        // Arrange
+        final User user = dataManager.create(User.class);
+        user.setUsername(TestFixtures.uniqueUsername());
+        user.setPassword(TestFixtures.DEFAULT_TEST_PASSWORD);
+        savedUser = dataManager.save(user);
+        final RoleAssignmentEntity assignment = dataManager.create(RoleAssignmentEntity.class);
+        assignment.setUsername(savedUser.getUsername());
+        assignment.setRoleCode(UiMinimalRole.CODE);
+        assignment.setRoleType(RoleAssignmentRoleType.RESOURCE);
+        final RoleAssignmentEntity savedAssignment = dataManager.save(assignment);
+        final boolean grantedBefore = hasAuthority(userRepository.loadUserByUsername(savedUser.getUsername()));
+
+        // Act
+        dataManager.remove(savedAssignment);
+        final User reloaded = userRepository.loadUserByUsername(savedUser.getUsername());
+
+        // Assert
+        assertThat(grantedBefore).isTrue();
+        assertThat(hasAuthority(reloaded)).isFalse();
+    }
+
+    @Test
+    void testLoadUserByUsernameIgnoresCaseForActiveUsers() {
+        // Arrange
+        final User user = dataManager.create(User.class);
+        user.setUsername(TestFixtures.uniqueUsername());
+        user.setPassword(TestFixtures.DEFAULT_TEST_PASSWORD);
+        savedUser = dataManager.save(user);
+
+        // Act
+        final User loaded = userRepository.loadUserByUsername(savedUser.getUsername().toUpperCase(Locale.ROOT));
+
+        // Assert
+        assertThat(loaded).isEqualTo(savedUser);
+        assertThat(loaded.getUsername()).isEqualTo(savedUser.getUsername());
+    }
+
+    @Test
+    void testLoadUserByUsernameMatchesInactiveUsersExactly() {
+        // Arrange
+        final User user = dataManager.create(User.class);
+        user.setUsername(TestFixtures.uniqueUsername());
+        user.setPassword(TestFixtures.DEFAULT_TEST_PASSWORD);
+        user.setActive(false);
+        savedUser = dataManager.save(user);
+        final String otherCase = savedUser.getUsername().toUpperCase(Locale.ROOT);
+
+        // Act
+        final User loaded = userRepository.loadUserByUsername(savedUser.getUsername());
+
+        // Assert
+        assertThat(loaded.isEnabled()).isFalse();
+        assertThatThrownBy(() -> userRepository.loadUserByUsername(otherCase))
+                .isInstanceOf(UsernameNotFoundException.class);
+    }
+
+    private static boolean hasAuthority(final User user) {
+        return user.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(authority -> authority.contains(UiMinimalRole.CODE));
+    }
+
+    @AfterEach
+    void afterEach() {
+        if (savedUser != null) {
+            dataManager.remove(savedUser);
+            savedUser = null; // NOPMD - NullAssignment: prevents accidental reuse of removed entity
+        }
+    }
 }
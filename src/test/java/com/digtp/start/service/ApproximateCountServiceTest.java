@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.digtp.start.entity.User;
+import com.digtp.start.testsupport.AbstractIntegrationTest;
+import com.digtp.start.testsupport.AuthenticatedAsAdmin;
+import io.jmix.core.LoadContext;
+import io.jmix.core.Metadata;
+import io.jmix.core.querycondition.JpqlCondition;
+import io.jmix.core.querycondition.PropertyCondition;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Integration tests for ApproximateCountService with a zero threshold, so every
+ * translatable count is estimated.
+ */
+@SpringBootTest(properties = "start.count.exact-threshold=0")
+@ActiveProfiles("test")
+@ExtendWith(AuthenticatedAsAdmin.class)
+class ApproximateCountServiceTest extends AbstractIntegrationTest {
+
+    @Autowired
+    ApproximateCountService approximateCountService;
+
+    @Autowired
+    Metadata metadata;
+
+    @Autowired
+    DataSource dataSource;
+
+    @BeforeEach
+    void analyzeUsers() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("analyze USER_");
+        }
+    }
+
+    @Test
+    void testUnfilteredCountIsTableEstimate() {
+        // Arrange
+        final LoadContext<User> loadContext = usersQuery("select e from User e order by e.username");
+
+        // Act
+        final RowCount count = approximateCountService.count(loadContext);
+
+        // Assert
+        assertThat(count.estimated()).isTrue();
+        assertThat(count.value()).isEqualTo(approximateCountService.tableEstimate("USER_"));
+    }
+
+    @Test
+    void testGenericFilterConditionIsEstimatedFromPlan() {
+        // Arrange
+        final LoadContext<User> loadContext = usersQuery("select e from User e");
+        loadContext.getQuery().setCondition(PropertyCondition.contains("username", "admin"));
+
+        // Act
+        final RowCount count = approximateCountService.count(loadContext);
+
+        // Assert
+        assertThat(count.estimated()).isTrue();
+        assertThat(count.value()).isPositive();
+    }
+
+    @Test
+    void testJpqlConditionIsCountedExactly() {
+        // Arrange
+        final LoadContext<User> loadContext = usersQuery("select e from User e");
+        loadContext.getQuery().setCondition(JpqlCondition.create("e.username = 'admin'", null));
+
+        // Act
+        final RowCount count = approximateCountService.count(loadContext);
+
+        // Assert
+        assertThat(count).isEqualTo(RowCount.exact(1));
+    }
+
+    private LoadContext<User> usersQuery(final String queryString) {
+        return new LoadContext<User>(metadata.getClass(User.class)).setQuery(new LoadContext.Query(queryString));
+    }
+}
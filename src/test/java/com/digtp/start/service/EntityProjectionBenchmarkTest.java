@@ -0,0 +1,134 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.digtp.start.entity.User;
+import com.digtp.start.testsupport.AbstractIntegrationTest;
+import com.digtp.start.testsupport.AuthenticatedAsAdmin;
+import com.digtp.start.testsupport.TestFixtures;
+import com.sun.management.ThreadMXBean;
+import io.jmix.core.DataManager;
+import io.jmix.core.FetchPlan;
+import io.jmix.core.FetchPlans;
+import io.jmix.core.LoadContext;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Allocation and latency benchmark of projection list loads against entity list loads.
+ *
+ * <p>Loads the same user list page with the {@code _base} fetch plan used by the list view
+ * and through {@link EntityProjectionService} with the displayed columns, and compares the
+ * bytes allocated by the loading thread and the mean page latency.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@ExtendWith(AuthenticatedAsAdmin.class)
+@Slf4j
+class EntityProjectionBenchmarkTest extends AbstractIntegrationTest {
+
+    private static final int USERS = 200;
+    private static final int PAGE_SIZE = 50;
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int ITERATIONS = 50;
+    private static final List<String> DISPLAYED =
+            List.of("username", "firstName", "lastName", "email", "timeZoneId", "active");
+
+    @Autowired
+    EntityProjectionService entityProjectionService;
+
+    @Autowired
+    DataManager dataManager;
+
+    @Autowired
+    FetchPlans fetchPlans;
+
+    final List<User> savedUsers = new ArrayList<>();
+
+    @BeforeEach
+    void beforeEach() {
+        final String prefix = TestFixtures.uniqueUsername();
+        final List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            final User user = dataManager.create(User.class);
+            user.setUsername(prefix + "-" + i);
+            user.setFirstName("First" + i);
+            user.setLastName("Last" + i);
+            user.setEmail(prefix + i + "@example.com");
+            user.setPassword(TestFixtures.DEFAULT_TEST_PASSWORD);
+            users.add(user);
+        }
+        savedUsers.addAll(dataManager.saveAll(users).getAll(User.class));
+    }
+
+    @Test
+    void testProjectionAllocatesLessPerPage() {
+        // Arrange
+        final FetchPlan basePlan = fetchPlans.builder(User.class).addFetchPlan(FetchPlan.BASE).build();
+        final Supplier<List<User>> entityPage = () -> dataManager.loadList(pageContext().setFetchPlan(basePlan));
+        final Supplier<List<User>> projectionPage = () -> entityProjectionService.loadList(pageContext(), DISPLAYED);
+
+        // Act
+        final Measurement entities = measure(entityPage);
+        final Measurement projections = measure(projectionPage);
+
+        // Assert
+        log.info(
+                "Page of {} users: entities {} KB/{} us, projections {} KB/{} us",
+                PAGE_SIZE,
+                entities.bytesPerPage() / 1024,
+                entities.microsPerPage(),
+                projections.bytesPerPage() / 1024,
+                projections.microsPerPage());
+        assertThat(projections.bytesPerPage()).isLessThan(entities.bytesPerPage());
+    }
+
+    @AfterEach
+    void afterEach() {
+        savedUsers.forEach(dataManager::remove);
+        savedUsers.clear();
+    }
+
+    private static LoadContext<User> pageContext() {
+        return LoadContext.create(User.class)
+                .setQuery(new LoadContext.Query("select e from User e order by e.username").setMaxResults(PAGE_SIZE));
+    }
+
+    private static Measurement measure(final Supplier<List<User>> page) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            assertThat(page.get()).hasSize(PAGE_SIZE);
+        }
+        final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long bytesBefore = threads.getCurrentThreadAllocatedBytes();
+        final long startNanos = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            page.get();
+        }
+        final long elapsedNanos = System.nanoTime() - startNanos;
+        final long bytes = threads.getCurrentThreadAllocatedBytes() - bytesBefore;
+        return new Measurement(bytes / ITERATIONS, TimeUnit.NANOSECONDS.toMicros(elapsedNanos) / ITERATIONS);
+    }
+
+    /**
+     * Mean cost of loading one page.
+     *
+     * @param bytesPerPage bytes allocated by the loading thread
+     * @param microsPerPage wall-clock latency in microseconds
+     */
+    record Measurement(long bytesPerPage, long microsPerPage) {}
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.digtp.start.entity.User;
+import com.digtp.start.testsupport.AbstractIntegrationTest;
+import com.digtp.start.testsupport.AuthenticatedAsAdmin;
+import com.digtp.start.testsupport.TestFixtures;
+import io.jmix.core.DataManager;
+import io.jmix.core.EntityStates;
+import io.jmix.core.LoadContext;
+import io.jmix.core.Sort;
+import io.jmix.core.querycondition.PropertyCondition;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Integration tests for EntityProjectionService.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@ExtendWith(AuthenticatedAsAdmin.class)
+class EntityProjectionServiceTest extends AbstractIntegrationTest {
+
+    private static final List<String> DISPLAYED = List.of("username", "firstName");
+
+    @Autowired
+    EntityProjectionService entityProjectionService;
+
+    @Autowired
+    DataManager dataManager;
+
+    @Autowired
+    EntityStates entityStates;
+
+    final List<User> savedUsers = new ArrayList<>();
+
+    @Test
+    void testProjectionLoadsOnlySelectedAttributes() {
+        // Arrange
+        final User saved = saveUser(TestFixtures.uniqueUsername(), "Projected");
+        final LoadContext<User> loadContext = listContext(PropertyCondition.equal("username", saved.getUsername()));
+
+        // Act
+        final List<User> users = entityProjectionService.loadList(loadContext, DISPLAYED);
+
+        // Assert
+        assertThat(users).hasSize(1);
+        final User user = users.get(0);
+        assertThat(user.getId()).isEqualTo(saved.getId());
+        assertThat(user.getVersion()).isEqualTo(saved.getVersion());
+        assertThat(user.getFirstName()).isEqualTo("Projected");
+        assertThat(entityStates.isNew(user)).isFalse();
+        assertThat(entityStates.isDetached(user)).isTrue();
+        assertThat(entityStates.isLoaded(user, "username")).isTrue();
+        assertThat(entityStates.isLoaded(user, "password")).isFalse();
+    }
+
+    @Test
+    void testConditionSortAndPagingAreApplied() {
+        // Arrange
+        final String prefix = TestFixtures.uniqueUsername();
+        saveUser(prefix + "-a", null);
+        final User middle = saveUser(prefix + "-b", null);
+        final User last = saveUser(prefix + "-c", null);
+        final LoadContext<User> loadContext = listContext(PropertyCondition.startsWith("username", prefix));
+        loadContext.getQuery().setSort(Sort.by(Sort.Direction.DESC, "username")).setMaxResults(2);
+
+        // Act
+        final List<User> users = entityProjectionService.loadList(loadContext, DISPLAYED);
+
+        // Assert
+        assertThat(users).extracting(User::getId).containsExactly(last.getId(), middle.getId());
+    }
+
+    @Test
+    void testUnprojectableQueryFallsBackToEntities() {
+        // Arrange
+        final User saved = saveUser(TestFixtures.uniqueUsername(), "Fallback");
+        final LoadContext<User> loadContext = LoadContext.create(User.class)
+                .setQuery(new LoadContext.Query("select e from User e where e.username = :username")
+                        .setParameter("username", saved.getUsername()));
+
+        // Act
+        final List<User> users = entityProjectionService.loadList(loadContext, DISPLAYED);
+
+        // Assert
+        assertThat(users).extracting(User::getFirstName).containsExactly("Fallback");
+        assertThat(entityStates.isLoaded(users.get(0), "password")).isFalse();
+    }
+
+    @AfterEach
+    void afterEach() {
+        savedUsers.forEach(dataManager::remove);
+        savedUsers.clear();
+    }
+
+    private static LoadContext<User> listContext(final PropertyCondition condition) {
+        return LoadContext.create(User.class)
+                .setQuery(new LoadContext.Query("select e from User e order by e.username").setCondition(condition));
+    }
+
+    private User saveUser(final String username, final String firstName) {
+        final User user = dataManager.create(User.class);
+        user.setUsername(username);
+        user.setFirstName(firstName);
+        user.setPassword(TestFixtures.DEFAULT_TEST_PASSWORD);
+        final User saved = dataManager.save(user);
+        savedUsers.add(saved);
+        return saved;
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.digtp.start.entity.User;
+import com.digtp.start.testsupport.AbstractIntegrationTest;
+import com.digtp.start.testsupport.AuthenticatedAsAdmin;
+import io.jmix.core.LoadContext;
+import io.jmix.core.Metadata;
+import io.jmix.core.Sort;
+import io.jmix.core.querycondition.Condition;
+import io.jmix.core.querycondition.LogicalCondition;
+import io.jmix.core.querycondition.PropertyCondition;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Integration tests for FilterIndexPolicy with a zero large-table threshold, so every
+ * unindexed load is limited.
+ */
+@SpringBootTest(properties = {"start.filter.large-table-rows=0", "start.filter.unindexed-row-limit=10"})
+@ActiveProfiles("test")
+@ExtendWith(AuthenticatedAsAdmin.class)
+class FilterIndexPolicyTest extends AbstractIntegrationTest {
+
+    @Autowired
+    FilterIndexPolicy filterIndexPolicy;
+
+    @Autowired
+    Metadata metadata;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    DataSource dataSource;
+
+    @BeforeEach
+    void analyzeUsers() throws SQLException {
+        // Never analyzed tables have no row estimate
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("analyze USER_");
+        }
+    }
+
+    @Test
+    void testPropertiesAreClassifiedByTheirIndexes() {
+        // Act
+        final Map<String, List<String>> classification =
+                filterIndexPolicy.classification(metadata.getClass(User.class));
+
+        // Assert
+        assertThat(classification.get("username"))
+                .contains(
+                        PropertyCondition.Operation.EQUAL,
+                        PropertyCondition.Operation.CONTAINS,
+                        FilterIndexPolicy.SORT);
+        assertThat(classification.get("email"))
+                .containsExactlyInAnyOrder(
+                        PropertyCondition.Operation.CONTAINS,
+                        PropertyCondition.Operation.STARTS_WITH,
+                        PropertyCondition.Operation.ENDS_WITH);
+        assertThat(classification).doesNotContainKey("timeZoneId");
+    }
+
+    @Test
+    void testIndexedConditionIsNotLimited() {
+        // Arrange
+        final LoadContext<User> loadContext = usersQuery(PropertyCondition.contains("email", "example"));
+        loadContext.getQuery().setSort(Sort.by("username")).setMaxResults(50);
+
+        // Act
+        final FilterIndexPolicy.Verdict verdict = filterIndexPolicy.apply(loadContext);
+
+        // Assert
+        assertThat(verdict.unindexed()).isEmpty();
+        assertThat(verdict.limited()).isFalse();
+        assertThat(loadContext.getQuery().getMaxResults()).isEqualTo(50);
+    }
+
+    @Test
+    void testUnindexedConditionIsLimitedAndRecorded() {
+        // Arrange
+        final double before = conditions("timeZoneId", PropertyCondition.Operation.CONTAINS, false);
+        final LoadContext<User> loadContext = usersQuery(LogicalCondition.or(
+                PropertyCondition.equal("username", "admin"), PropertyCondition.contains("timeZoneId", "Europe")));
+        loadContext.getQuery().setMaxResults(50);
+
+        // Act
+        final FilterIndexPolicy.Verdict verdict = filterIndexPolicy.apply(loadContext);
+
+        // Assert
+        assertThat(verdict.unindexed()).containsExactly("timeZoneId " + PropertyCondition.Operation.CONTAINS);
+        assertThat(verdict.limited()).isTrue();
+        assertThat(loadContext.getQuery().getMaxResults()).isEqualTo(10);
+        assertThat(conditions("timeZoneId", PropertyCondition.Operation.CONTAINS, false)).isEqualTo(before + 1);
+        assertThat(filterIndexPolicy.usage())
+                .anyMatch(usage -> "timeZoneId".equals(usage.property()) && !usage.indexed());
+    }
+
+    @Test
+    void testAndWithIndexedConditionIsServed() {
+        // Arrange
+        final LoadContext<User> loadContext = usersQuery(LogicalCondition.and(
+                PropertyCondition.equal("username", "admin"), PropertyCondition.contains("timeZoneId", "Europe")));
+        loadContext.getQuery().setMaxResults(50);
+
+        // Act
+        final FilterIndexPolicy.Verdict verdict = filterIndexPolicy.apply(loadContext);
+
+        // Assert
+        assertThat(verdict.unindexed()).isEmpty();
+        assertThat(verdict.limited()).isFalse();
+        assertThat(loadContext.getQuery().getMaxResults()).isEqualTo(50);
+    }
+
+    @Test
+    void testDefaultListFilterIsServedByPartialIndex() {
+        // Arrange: the active users configuration of the user list, combined like the generic filter does
+        final double before = conditions("active", PropertyCondition.Operation.EQUAL, true);
+        final PropertyCondition active =
+                PropertyCondition.createWithParameterName("active", PropertyCondition.Operation.EQUAL, "active");
+        active.setParameterValue(Boolean.TRUE);
+        final LoadContext<User> loadContext = usersQuery(LogicalCondition.and(LogicalCondition.and(active)));
+        loadContext.getQuery().setMaxResults(50);
+
+        // Act
+        final FilterIndexPolicy.Verdict verdict = filterIndexPolicy.apply(loadContext);
+
+        // Assert
+        assertThat(verdict.unindexed()).isEmpty();
+        assertThat(verdict.limited()).isFalse();
+        assertThat(loadContext.getQuery().getMaxResults()).isEqualTo(50);
+        assertThat(conditions("active", PropertyCondition.Operation.EQUAL, true)).isEqualTo(before + 1);
+    }
+
+    @Test
+    void testConditionOutsidePartialIndexPredicateIsLimited() {
+        // Arrange
+        final LoadContext<User> loadContext = usersQuery(PropertyCondition.equal("active", false));
+
+        // Act
+        final FilterIndexPolicy.Verdict verdict = filterIndexPolicy.apply(loadContext);
+
+        // Assert
+        assertThat(verdict.unindexed()).containsExactly("active " + PropertyCondition.Operation.EQUAL);
+        assertThat(verdict.limited()).isTrue();
+    }
+
+    @Test
+    void testUnindexedSortIsLimited() {
+        // Arrange
+        final LoadContext<User> loadContext = usersQuery(null);
+        loadContext.getQuery().setSort(Sort.by("email"));
+
+        // Act
+        final FilterIndexPolicy.Verdict verdict = filterIndexPolicy.enforce(loadContext);
+
+        // Assert
+        assertThat(verdict.unindexed()).containsExactly("email " + FilterIndexPolicy.SORT);
+        assertThat(loadContext.getQuery().getMaxResults()).isEqualTo(10);
+    }
+
+    @Test
+    void testPageBeyondRowLimitIsRejected() {
+        // Arrange
+        final LoadContext<User> loadContext = usersQuery(PropertyCondition.contains("timeZoneId", "Europe"));
+        loadContext.getQuery().setFirstResult(10).setMaxResults(10);
+
+        // Act & Assert
+        assertThatThrownBy(() -> filterIndexPolicy.enforce(loadContext))
+                .isInstanceOf(UnindexedFilterException.class)
+                .satisfies(exception -> assertThat(((UnindexedFilterException) exception).getConditions())
+                        .containsExactly("timeZoneId " + PropertyCondition.Operation.CONTAINS));
+    }
+
+    @Test
+    void testConditionWithoutValueIsIgnored() {
+        // Arrange
+        final LoadContext<User> loadContext = usersQuery(PropertyCondition.createWithParameterName(
+                "timeZoneId", PropertyCondition.Operation.CONTAINS, "timeZoneId"));
+
+        // Act
+        final FilterIndexPolicy.Verdict verdict = filterIndexPolicy.apply(loadContext);
+
+        // Assert
+        assertThat(verdict.unindexed()).isEmpty();
+        assertThat(verdict.limited()).isFalse();
+    }
+
+    private LoadContext<User> usersQuery(final Condition condition) {
+        final LoadContext.Query query = new LoadContext.Query("select e from User e").setCondition(condition);
+        return new LoadContext<User>(metadata.getClass(User.class)).setQuery(query);
+    }
+
+    private double conditions(final String property, final String operation, final boolean indexed) {
+        final Counter counter = meterRegistry
+                .find("start.filter.conditions")
+                .tag("entity", "User")
+                .tag("property", property)
+                .tag("operation", operation)
+                .tag("indexed", String.valueOf(indexed))
+                .counter();
+        return counter != null ? counter.count() : 0;
+    }
+}
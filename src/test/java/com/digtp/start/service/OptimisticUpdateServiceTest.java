@@ -0,0 +1,181 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import com.digtp.start.entity.User;
+import com.digtp.start.testsupport.AbstractIntegrationTest;
+import com.digtp.start.testsupport.AuthenticatedAsAdmin;
+import com.digtp.start.testsupport.TestFixtures;
+import io.jmix.core.DataManager;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Integration tests for OptimisticUpdateService.
+ */
+@SpringBootTest(properties = "start.optimistic-lock.retry.initial-backoff=1ms")
+@ActiveProfiles("test")
+@ExtendWith(AuthenticatedAsAdmin.class)
+class OptimisticUpdateServiceTest extends AbstractIntegrationTest {
+
+    private static final String CHANGE_FIRST_NAME_SQL =
+            "update USER_ set FIRST_NAME = ?, VERSION = VERSION + 1 where ID = ?";
+
+    @Autowired
+    OptimisticUpdateService optimisticUpdateService;
+
+    @SuppressWarnings("java:S5738") // @SpyBean is Spring Boot standard, still supported
+    @SpyBean
+    DataManager dataManager;
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    final List<User> savedUsers = new ArrayList<>();
+
+    @Test
+    void testConcurrentChangeOfOtherAttributeIsMerged() {
+        // Arrange
+        final User user = saveUser();
+        final double retriedBefore = conflicts("retried");
+
+        // Act
+        final User updated = optimisticUpdateService.update(User.class, user.getId(), (final User loaded) -> {
+            changeConcurrently(user, "Concurrent", null);
+            loaded.setLastName("Merged");
+        });
+
+        // Assert
+        final User reloaded = reload(user);
+        assertThat(reloaded.getFirstName()).isEqualTo("Concurrent");
+        assertThat(reloaded.getLastName()).isEqualTo("Merged");
+        assertThat(updated.getVersion()).isEqualTo(user.getVersion() + 2);
+        assertThat(conflicts("retried")).isEqualTo(retriedBefore + 1);
+    }
+
+    @Test
+    void testOverlappingConcurrentChangeIsRethrown() {
+        // Arrange
+        final User user = saveUser();
+        final double overlappingBefore = conflicts("overlapping");
+
+        // Act & Assert
+        assertThatThrownBy(() -> optimisticUpdateService.update(User.class, user.getId(), (final User loaded) -> {
+                    changeConcurrently(user, null, "Concurrent");
+                    loaded.setLastName("Mine");
+                }))
+                .matches(OptimisticUpdateService::isOptimisticLockFailure);
+        assertThat(reload(user).getLastName()).isEqualTo("Concurrent");
+        assertThat(conflicts("overlapping")).isEqualTo(overlappingBefore + 1);
+    }
+
+    @Test
+    void testUpdateWithoutConflictIsNotCounted() {
+        // Arrange
+        final User user = saveUser();
+        final double retriedBefore = conflicts("retried");
+
+        // Act
+        optimisticUpdateService.update(User.class, user.getId(), (final User loaded) -> loaded.setLastName("Plain"));
+
+        // Assert
+        assertThat(reload(user).getLastName()).isEqualTo("Plain");
+        assertThat(conflicts("retried")).isEqualTo(retriedBefore);
+    }
+
+    @Test
+    void testConflictOnEveryAttemptIsExhausted() {
+        // Arrange
+        final User user = saveUser();
+        final double retriedBefore = conflicts("retried");
+        final double exhaustedBefore = conflicts("exhausted");
+        doAnswer(invocation -> {
+                    changeFirstNameInDatabase(user, "Concurrent");
+                    return invocation.callRealMethod();
+                })
+                .when(dataManager)
+                .save(any(User.class));
+
+        // Act & Assert
+        assertThatThrownBy(() -> optimisticUpdateService.update(
+                        User.class, user.getId(), (final User loaded) -> loaded.setLastName("Mine")))
+                .matches(OptimisticUpdateService::isOptimisticLockFailure);
+        assertThat(reload(user).getLastName()).isNull();
+        assertThat(conflicts("retried")).isEqualTo(retriedBefore + 2);
+        assertThat(conflicts("exhausted")).isEqualTo(exhaustedBefore + 1);
+    }
+
+    @AfterEach
+    void afterEach() {
+        savedUsers.forEach(user -> dataManager.remove(reload(user)));
+        savedUsers.clear();
+    }
+
+    private void changeConcurrently(final User user, final String firstName, final String lastName) {
+        final User concurrent = reload(user);
+        if (firstName != null) {
+            concurrent.setFirstName(firstName);
+        }
+        if (lastName != null) {
+            concurrent.setLastName(lastName);
+        }
+        dataManager.save(concurrent);
+    }
+
+    /**
+     * Changes the row behind the ORM, committed right away, as a writer on another pod does.
+     */
+    private void changeFirstNameInDatabase(final User user, final String firstName) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(CHANGE_FIRST_NAME_SQL)) {
+            statement.setString(1, firstName);
+            statement.setObject(2, user.getId());
+            statement.executeUpdate();
+        }
+    }
+
+    private double conflicts(final String outcome) {
+        final Counter counter = meterRegistry
+                .find("start.optimistic-lock.conflicts")
+                .tag("entity", "User")
+                .tag("outcome", outcome)
+                .counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private User reload(final User user) {
+        return dataManager.load(User.class).id(user.getId()).one();
+    }
+
+    private User saveUser() {
+        final User user = dataManager.create(User.class);
+        user.setUsername(TestFixtures.uniqueUsername());
+        user.setPassword(TestFixtures.DEFAULT_TEST_PASSWORD);
+        final User saved = dataManager.save(user);
+        savedUsers.add(saved);
+        return saved;
+    }
+}
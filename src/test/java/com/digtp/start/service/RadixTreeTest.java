@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for RadixTree.
+ */
+class RadixTreeTest {
+
+    @Test
+    void testCollectReturnsShorterKeysFirstThenAlphabetically() {
+        // Arrange
+        final RadixTree<String> tree = new RadixTree<>();
+        tree.put("johnson", "johnson");
+        tree.put("john", "john");
+        tree.put("joanna", "joanna");
+        tree.put("jo", "jo");
+        tree.put("mary", "mary");
+
+        // Act
+        final List<String> result = collect(tree, "jo", 10);
+
+        // Assert
+        assertThat(result).containsExactly("jo", "joanna", "john", "johnson");
+    }
+
+    @Test
+    void testCollectMatchesPrefixInsideEdgeAndHonoursLimit() {
+        // Arrange
+        final RadixTree<String> tree = new RadixTree<>();
+        tree.put("alexander", "alexander");
+        tree.put("alexandra", "alexandra");
+        tree.put("alex", "alex");
+
+        // Act
+        final List<String> inEdge = collect(tree, "alexan", 10);
+        final List<String> limited = collect(tree, "al", 2);
+        final List<String> missing = collect(tree, "alexz", 10);
+
+        // Assert
+        assertThat(inEdge).containsExactly("alexander", "alexandra");
+        assertThat(limited).containsExactly("alex", "alexander");
+        assertThat(missing).isEmpty();
+    }
+
+    @Test
+    void testRemovePrunesAndMergesNodes() {
+        // Arrange
+        final RadixTree<String> tree = new RadixTree<>();
+        tree.put("anna", "anna");
+        tree.put("annabel", "annabel");
+        tree.put("annette", "annette");
+
+        // Act
+        tree.remove("anna", "anna");
+        tree.remove("annette", "annette");
+        tree.remove("unknown", "unknown");
+
+        // Assert
+        assertThat(tree.size()).isEqualTo(1);
+        assertThat(collect(tree, "ann", 10)).containsExactly("annabel");
+        assertThat(collect(tree, "annabel", 10)).containsExactly("annabel");
+    }
+
+    @Test
+    void testValuesUnderSeveralKeysAreCollectedOnce() {
+        // Arrange
+        final RadixTree<String> tree = new RadixTree<>();
+        tree.put("smith", "id-1");
+        tree.put("sam", "id-1");
+        tree.put("sara", "id-2");
+
+        // Act
+        final List<String> result = collect(tree, "s", 10);
+
+        // Assert
+        assertThat(result).containsExactly("id-1", "id-2");
+    }
+
+    private static List<String> collect(final RadixTree<String> tree, final String prefix, final int limit) {
+        final List<String> result = new ArrayList<>();
+        tree.collect(prefix, limit, result);
+        return result;
+    }
+}
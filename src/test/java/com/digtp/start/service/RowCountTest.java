@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Locale;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for RowCount formatting.
+ */
+class RowCountTest {
+
+    @Test
+    void testExactCountIsFormattedInFull() {
+        // Arrange
+        final RowCount count = RowCount.exact(1_234_567);
+
+        // Act
+        final String formatted = count.format(Locale.ENGLISH);
+
+        // Assert
+        assertThat(formatted).isEqualTo("1,234,567");
+    }
+
+    @Test
+    void testEstimateIsFormattedCompactWithTilde() {
+        // Arrange
+        final RowCount count = RowCount.estimate(1_234_567);
+
+        // Act
+        final String formatted = count.format(Locale.ENGLISH);
+
+        // Assert
+        assertThat(formatted).isEqualTo("~1.2M");
+    }
+
+    @Test
+    void testToIntSaturates() {
+        // Arrange
+        final RowCount count = RowCount.estimate(5_000_000_000L);
+
+        // Act
+        final int value = count.toInt();
+
+        // Assert
+        assertThat(value).isEqualTo(Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.digtp.start.entity.User;
+import com.digtp.start.testsupport.AbstractIntegrationTest;
+import com.digtp.start.testsupport.AuthenticatedAsAdmin;
+import io.jmix.core.DataManager;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.LongStream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Tests for SyntheticUserService and SyntheticUserGenerator.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@ExtendWith(AuthenticatedAsAdmin.class)
+class SyntheticUserServiceTest extends AbstractIntegrationTest {
+
+    private static final int COUNT = 300;
+    private static final long SEED = 7L;
+
+    @Autowired
+    SyntheticUserService syntheticUserService;
+
+    @Autowired
+    DataManager dataManager;
+
+    @Autowired
+    DataSource dataSource;
+
+    final List<String> generatedUsernames = new ArrayList<>();
+
+    @Test
+    void testSameSeedAndIndexGiveSameUser() {
+        // Arrange
+        final SyntheticUserGenerator first = new SyntheticUserGenerator(SEED, "{noop}x");
+        final SyntheticUserGenerator second = new SyntheticUserGenerator(SEED, "{noop}y");
+        final SyntheticUserGenerator otherSeed = new SyntheticUserGenerator(SEED + 1, "{noop}x");
+
+        // Act
+        final SyntheticUserGenerator.SyntheticUser user = first.user(1_000);
+
+        // Assert
+        assertThat(second.user(1_000)).isEqualTo(user);
+        assertThat(otherSeed.user(1_000)).isNotEqualTo(user);
+        assertThat(first.user(1_001).id()).isGreaterThan(user.id());
+        assertThat(user.id().version()).isEqualTo(7);
+    }
+
+    @Test
+    void testGeneratedValuesFollowDistribution() {
+        // Arrange
+        final SyntheticUserGenerator generator = new SyntheticUserGenerator(SEED, "{noop}x");
+
+        // Act
+        final List<SyntheticUserGenerator.SyntheticUser> users =
+                LongStream.range(0, 10_000).mapToObj(generator::user).toList();
+
+        // Assert
+        assertThat(users).extracting(SyntheticUserGenerator.SyntheticUser::username).doesNotHaveDuplicates();
+        assertThat(users.stream().filter(SyntheticUserGenerator.SyntheticUser::active).count())
+                .isBetween(9_000L, 9_400L);
+        assertThat(users.stream().filter(user -> "Europe/Moscow".equals(user.timeZoneId())).count())
+                .isBetween(5_200L, 5_800L);
+        assertThat(users).allMatch(user -> user.email().startsWith(user.username() + "@"));
+    }
+
+    @Test
+    void testGenerateWritesUsersAndRoleAssignments() {
+        // Arrange
+        final long firstIndex = ThreadLocalRandom.current().nextLong(1L << 40);
+        final SyntheticUserGenerator generator = new SyntheticUserGenerator(SEED, "{noop}x");
+        LongStream.range(firstIndex, firstIndex + COUNT)
+                .mapToObj(index -> generator.user(index).username())
+                .forEach(generatedUsernames::add);
+
+        // Act
+        final SyntheticUserGenerator.Result result = syntheticUserService.generate(COUNT, SEED, firstIndex);
+
+        // Assert
+        assertThat(result.users()).isEqualTo(COUNT);
+        assertThat(result.roleAssignments()).isEqualTo(COUNT);
+        final SyntheticUserGenerator.SyntheticUser expected = generator.user(firstIndex);
+        final User loaded = dataManager.load(User.class).id(expected.id()).one();
+        assertThat(loaded.getUsername()).isEqualTo(expected.username());
+        assertThat(loaded.getLastName()).isEqualTo(expected.lastName());
+        assertThat(loaded.getActive()).isEqualTo(expected.active());
+        assertThat(loaded.getTimeZoneId()).isEqualTo(expected.timeZoneId());
+    }
+
+    @AfterEach
+    void afterEach() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement roles =
+                        connection.prepareStatement("delete from SEC_ROLE_ASSIGNMENT where USERNAME = any(?)");
+                PreparedStatement users = connection.prepareStatement("delete from USER_ where USERNAME = any(?)")) {
+            final Object[] usernames = generatedUsernames.toArray();
+            roles.setArray(1, connection.createArrayOf("varchar", usernames));
+            roles.executeUpdate();
+            users.setArray(1, connection.createArrayOf("varchar", usernames));
+            users.executeUpdate();
+        }
+        generatedUsernames.clear();
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import com.digtp.start.cache.CacheInvalidationEvent;
+import com.digtp.start.cache.CacheRegion;
+import com.digtp.start.entity.User;
+import com.digtp.start.testsupport.AbstractIntegrationTest;
+import com.digtp.start.testsupport.AuthenticatedAsAdmin;
+import com.digtp.start.testsupport.TestFixtures;
+import io.jmix.core.DataManager;
+import io.jmix.core.FluentValuesLoader;
+import io.jmix.core.UnconstrainedDataManager;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@ExtendWith(AuthenticatedAsAdmin.class)
+class UserAutocompleteServiceTest extends AbstractIntegrationTest {
+
+    private static final long WAIT_SECONDS = 30;
+
+    @Autowired
+    UserAutocompleteService userAutocompleteService;
+
+    @Autowired
+    DataManager dataManager;
+
+    @SuppressWarnings("java:S5738") // @SpyBean is Spring Boot standard, still supported
+    @SpyBean
+    UnconstrainedDataManager unconstrainedDataManager;
+
+    User savedUser;
+
+    @Test
+    void testIndexContainsAdminAfterStartup() {
+        // Act
+        final List<UserSuggestion> suggestions = userAutocompleteService.suggest("ADM", 10);
+
+        // Assert
+        assertThat(suggestions).extracting(UserSuggestion::username).contains("admin");
+    }
+
+    @Test
+    void testSavedUserIsSuggestedByUsernameAndName() {
+        // Arrange
+        final String username = TestFixtures.uniqueUsername();
+        final User user = dataManager.create(User.class);
+        user.setUsername(username);
+        user.setFirstName("Autocomplete");
+        user.setLastName("Tester");
+        user.setPassword(TestFixtures.DEFAULT_TEST_PASSWORD);
+
+        // Act
+        savedUser = dataManager.save(user);
+
+        // Assert
+        assertThat(userAutocompleteService.suggest(username, 10))
+                .containsExactly(new UserSuggestion(savedUser.getId(), username, "Autocomplete Tester [" + username + "]"));
+        assertThat(userAutocompleteService.suggest("autocomplete te", 10))
+                .extracting(UserSuggestion::id)
+                .contains(savedUser.getId());
+    }
+
+    @Test
+    void testDeactivatedUserIsNoLongerSuggested() {
+        // Arrange
+        final String username = TestFixtures.uniqueUsername();
+        final User user = dataManager.create(User.class);
+        user.setUsername(username);
+        user.setPassword(TestFixtures.DEFAULT_TEST_PASSWORD);
+        savedUser = dataManager.save(user);
+        savedUser.setActive(false);
+
+        // Act
+        savedUser = dataManager.save(savedUser);
+
+        // Assert
+        assertThat(userAutocompleteService.suggest(username, 10)).isEmpty();
+    }
+
+    @Test
+    void testUserDeactivatedDuringRebuildIsNotSuggested() throws Exception {
+        // Arrange
+        final String username = TestFixtures.uniqueUsername();
+        final User user = dataManager.create(User.class);
+        user.setUsername(username);
+        user.setPassword(TestFixtures.DEFAULT_TEST_PASSWORD);
+        savedUser = dataManager.save(user);
+        final CountDownLatch batchRead = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        pauseRebuildAfterFirstBatch(batchRead, release);
+        final CompletableFuture<Void> rebuild = userAutocompleteService.rebuildAsync();
+        assertThat(batchRead.await(WAIT_SECONDS, TimeUnit.SECONDS)).isTrue();
+
+        // Act
+        savedUser.setActive(false);
+        savedUser = dataManager.save(savedUser);
+        release.countDown();
+        rebuild.get(WAIT_SECONDS, TimeUnit.SECONDS);
+
+        // Assert
+        assertThat(userAutocompleteService.suggest(username, 10)).isEmpty();
+    }
+
+    @Test
+    void testInvalidatedUsersAreReadInOneQuery() {
+        // Arrange
+        final Set<String> userIds =
+                Stream.generate(UUID::randomUUID).limit(20).map(UUID::toString).collect(Collectors.toSet());
+        clearInvocations(unconstrainedDataManager);
+
+        // Act
+        userAutocompleteService.onCacheInvalidation(
+                new CacheInvalidationEvent(Map.of(CacheRegion.USER, userIds), false));
+
+        // Assert
+        verify(unconstrainedDataManager).loadValues(anyString());
+    }
+
+    @Test
+    void testDeletedUsersAreRemovedWithoutQuery() {
+        // Arrange
+        final String username = TestFixtures.uniqueUsername();
+        final User user = dataManager.create(User.class);
+        user.setUsername(username);
+        user.setPassword(TestFixtures.DEFAULT_TEST_PASSWORD);
+        savedUser = dataManager.save(user);
+        final Set<String> userIds = Set.of(savedUser.getId().toString());
+        clearInvocations(unconstrainedDataManager);
+
+        // Act
+        userAutocompleteService.onCacheInvalidation(new CacheInvalidationEvent(
+                Map.of(CacheRegion.USER, userIds, CacheRegion.DELETED_USER, userIds), false));
+
+        // Assert
+        verify(unconstrainedDataManager, never()).loadValues(anyString());
+        assertThat(userAutocompleteService.suggest(username, 10)).isEmpty();
+    }
+
+    @AfterEach
+    void afterEach() {
+        if (savedUser != null) {
+            dataManager.remove(savedUser);
+            savedUser = null; // NOPMD - NullAssignment: prevents accidental reuse of removed entity
+        }
+    }
+
+    /**
+     * Holds the rebuild after it has read its first batch, so changes made meanwhile reach
+     * the old index only.
+     */
+    private void pauseRebuildAfterFirstBatch(final CountDownLatch batchRead, final CountDownLatch release) {
+        final AtomicBoolean paused = new AtomicBoolean();
+        doAnswer(invocation -> {
+                    final FluentValuesLoader loader = (FluentValuesLoader) invocation.callRealMethod();
+                    if (!Thread.currentThread().getName().startsWith("user-autocomplete-rebuild")
+                            || !paused.compareAndSet(false, true)) {
+                        return loader;
+                    }
+                    final FluentValuesLoader pausing = spy(loader);
+                    doAnswer(list -> {
+                                final Object rows = list.callRealMethod();
+                                batchRead.countDown();
+                                release.await(WAIT_SECONDS, TimeUnit.SECONDS);
+                                return rows;
+                            })
+                            .when(pausing)
+                            .list();
+                    return pausing;
+                })
+                .when(unconstrainedDataManager)
+                .loadValues(anyString());
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.digtp.start.entity.User;
+import com.digtp.start.security.UiMinimalRole;
+import com.digtp.start.testsupport.AbstractIntegrationTest;
+import com.digtp.start.testsupport.AuthenticatedAsAdmin;
+import com.digtp.start.testsupport.TestFixtures;
+import io.jmix.core.DataManager;
+import io.jmix.core.LoadContext;
+import io.jmix.core.querycondition.PropertyCondition;
+import io.jmix.core.security.SystemAuthenticator;
+import io.jmix.security.role.assignment.RoleAssignmentRoleType;
+import io.jmix.securitydata.entity.RoleAssignmentEntity;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Integration tests for UserBulkService.
+ */
+@SpringBootTest(properties = "start.bulk.chunk-size=2")
+@ActiveProfiles("test")
+@ExtendWith(AuthenticatedAsAdmin.class)
+class UserBulkServiceTest extends AbstractIntegrationTest {
+
+    @Autowired
+    UserBulkService userBulkService;
+
+    @Autowired
+    DataManager dataManager;
+
+    @Autowired
+    SystemAuthenticator systemAuthenticator;
+
+    final List<User> savedUsers = new ArrayList<>();
+
+    final List<RoleAssignmentEntity> savedAssignments = new ArrayList<>();
+
+    @Test
+    void testDeactivateSelectionSkipsConcurrentlyChangedUsers() {
+        // Arrange
+        final User first = saveUser(TestFixtures.uniqueUsername());
+        final User second = saveUser(TestFixtures.uniqueUsername());
+        final User stale = saveUser(TestFixtures.uniqueUsername());
+        final User concurrent = dataManager.load(User.class).id(stale.getId()).one();
+        concurrent.setFirstName("Changed");
+        dataManager.save(concurrent);
+
+        // Act
+        final UserBulkService.Result result =
+                userBulkService.apply(UserBulkOperation.DEACTIVATE, List.of(first, second, stale));
+
+        // Assert
+        assertThat(result).isEqualTo(new UserBulkService.Result(2, 1));
+        final User reloaded = reload(first);
+        assertThat(reloaded.getActive()).isFalse();
+        assertThat(reloaded.getVersion()).isEqualTo(first.getVersion() + 1);
+        assertThat(reload(stale).getActive()).isTrue();
+    }
+
+    @Test
+    void testDeleteByFilterProcessesAllChunks() {
+        // Arrange
+        final String prefix = TestFixtures.uniqueUsername();
+        for (int i = 0; i < 5; i++) {
+            saveUser(prefix + "-" + i);
+        }
+        final User other = saveUser(TestFixtures.uniqueUsername());
+        final LoadContext<User> loadContext = LoadContext.create(User.class)
+                .setQuery(new LoadContext.Query("select e from User e")
+                        .setCondition(PropertyCondition.startsWith("username", prefix)));
+
+        // Act
+        final UserBulkService.Result result = userBulkService.apply(UserBulkOperation.DELETE, loadContext);
+
+        // Assert
+        assertThat(result).isEqualTo(new UserBulkService.Result(5, 0));
+        assertThat(dataManager
+                        .load(User.class)
+                        .condition(PropertyCondition.startsWith("username", prefix))
+                        .list())
+                .isEmpty();
+        assertThat(dataManager.load(User.class).id(other.getId()).optional()).isPresent();
+        savedUsers.removeIf(user -> user.getUsername().startsWith(prefix));
+    }
+
+    @Test
+    void testDeleteRemovesRoleAssignmentsOfDeletedUsers() {
+        // Arrange
+        final User user = saveUser(TestFixtures.uniqueUsername());
+        final RoleAssignmentEntity assignment = dataManager.create(RoleAssignmentEntity.class);
+        assignment.setUsername(user.getUsername());
+        assignment.setRoleCode(UiMinimalRole.CODE);
+        assignment.setRoleType(RoleAssignmentRoleType.RESOURCE);
+        dataManager.save(assignment);
+
+        // Act
+        final UserBulkService.Result result = userBulkService.apply(UserBulkOperation.DELETE, List.of(user));
+
+        // Assert
+        assertThat(result).isEqualTo(new UserBulkService.Result(1, 0));
+        assertThat(dataManager
+                        .load(RoleAssignmentEntity.class)
+                        .condition(PropertyCondition.equal("username", user.getUsername()))
+                        .list())
+                .isEmpty();
+        savedUsers.remove(user);
+    }
+
+    @Test
+    void testActivateSkipsUsersAlreadyActive() {
+        // Arrange
+        final User user = saveUser(TestFixtures.uniqueUsername());
+
+        // Act
+        final UserBulkService.Result result = userBulkService.apply(UserBulkOperation.ACTIVATE, List.of(user));
+
+        // Assert
+        assertThat(result).isEqualTo(new UserBulkService.Result(0, 1));
+        assertThat(reload(user).getVersion()).isEqualTo(user.getVersion());
+    }
+
+    @Test
+    void testDeactivateSingleUserMergesConcurrentChange() {
+        // Arrange
+        final User user = saveUser(TestFixtures.uniqueUsername());
+        final User concurrent = reload(user);
+        concurrent.setFirstName("Changed");
+        dataManager.save(concurrent);
+
+        // Act
+        final UserBulkService.Result result = userBulkService.apply(UserBulkOperation.DEACTIVATE, List.of(user));
+
+        // Assert
+        assertThat(result).isEqualTo(new UserBulkService.Result(1, 0));
+        final User reloaded = reload(user);
+        assertThat(reloaded.getActive()).isFalse();
+        assertThat(reloaded.getFirstName()).isEqualTo("Changed");
+    }
+
+    @Test
+    void testOperationsAreNotPermittedWithoutUserRights() {
+        // Arrange
+        final User user = saveUser(TestFixtures.uniqueUsername());
+        final RoleAssignmentEntity assignment = dataManager.create(RoleAssignmentEntity.class);
+        assignment.setUsername(user.getUsername());
+        assignment.setRoleCode(UiMinimalRole.CODE);
+        assignment.setRoleType(RoleAssignmentRoleType.RESOURCE);
+        savedAssignments.add(dataManager.save(assignment));
+
+        // Act
+        final List<Boolean> permitted = systemAuthenticator.withUser(
+                user.getUsername(),
+                () -> List.of(
+                        userBulkService.isPermitted(UserBulkOperation.ACTIVATE),
+                        userBulkService.isPermitted(UserBulkOperation.DELETE)));
+
+        // Assert
+        assertThat(permitted).containsExactly(false, false);
+        assertThat(userBulkService.isPermitted(UserBulkOperation.DELETE)).isTrue();
+    }
+
+    @AfterEach
+    void afterEach() {
+        savedAssignments.forEach(dataManager::remove);
+        savedAssignments.clear();
+        savedUsers.forEach(user -> dataManager.remove(reload(user)));
+        savedUsers.clear();
+    }
+
+    private User reload(final User user) {
+        return dataManager.load(User.class).id(user.getId()).one();
+    }
+
+    private User saveUser(final String username) {
+        final User user = dataManager.create(User.class);
+        user.setUsername(username);
+        user.setPassword(TestFixtures.DEFAULT_TEST_PASSWORD);
+        final User saved = dataManager.save(user);
+        savedUsers.add(saved);
+        return saved;
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.digtp.start.entity.User;
+import com.digtp.start.testsupport.AbstractIntegrationTest;
+import com.digtp.start.testsupport.AuthenticatedAsAdmin;
+import com.digtp.start.testsupport.TestFixtures;
+import io.jmix.core.DataManager;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Integration tests for UserSearchService and its trigram indexes.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@ExtendWith(AuthenticatedAsAdmin.class)
+class UserSearchServiceTest extends AbstractIntegrationTest {
+
+    @Autowired
+    UserSearchService userSearchService;
+
+    @Autowired
+    DataManager dataManager;
+
+    @Autowired
+    DataSource dataSource;
+
+    final List<User> savedUsers = new ArrayList<>();
+
+    @Test
+    void testSearchRanksWholeWordMatchFirst() {
+        // Arrange
+        final String marker = "qk" + System.currentTimeMillis();
+        final User partialMatch = saveUser(TestFixtures.uniqueUsername() + "-partial", marker + "berry", null);
+        final User wordMatch = saveUser(TestFixtures.uniqueUsername() + "-word", null, marker);
+
+        // Act
+        final List<User> found = userSearchService.search(marker.toUpperCase(Locale.ROOT), 10);
+
+        // Assert
+        assertThat(found).containsExactly(wordMatch, partialMatch);
+    }
+
+    @Test
+    void testShortTextIsNotSearched() {
+        // Arrange
+        final String text = "ad";
+
+        // Act
+        final List<User> found = userSearchService.search(text, 10);
+
+        // Assert
+        assertThat(UserSearchService.isSearchable(text)).isFalse();
+        assertThat(found).isEmpty();
+    }
+
+    @Test
+    void testLikeWildcardsAreMatchedLiterally() {
+        // Arrange
+        final String text = "10%_off\\";
+
+        // Act
+        final String escaped = UserSearchService.escapeLike(text);
+
+        // Assert
+        assertThat(escaped).isEqualTo("10\\%\\_off\\\\");
+    }
+
+    @Test
+    void testSearchPlanUsesTrigramIndexes() throws SQLException {
+        // Arrange
+        final String pattern = "%adm%";
+        final List<String> plan = new ArrayList<>();
+
+        // Act
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                // The test table is tiny: make the planner pick indexes as it does on large tables
+                statement.execute("set enable_seqscan = off");
+            }
+            try (PreparedStatement statement =
+                    connection.prepareStatement("explain " + UserSearchService.SEARCH_SQL)) {
+                for (int index = 1; index <= 4; index++) {
+                    statement.setString(index, pattern);
+                }
+                for (int index = 5; index <= 8; index++) {
+                    statement.setString(index, "adm");
+                }
+                statement.setInt(9, 10);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        plan.add(resultSet.getString(1));
+                    }
+                }
+            } finally {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("reset enable_seqscan");
+                }
+            }
+        }
+
+        // Assert
+        assertThat(String.join("\n", plan))
+                .containsIgnoringCase("Bitmap Index Scan on idx_user__username_trgm")
+                .containsIgnoringCase("Bitmap Index Scan on idx_user__first_name_trgm")
+                .containsIgnoringCase("Bitmap Index Scan on idx_user__last_name_trgm")
+                .containsIgnoringCase("Bitmap Index Scan on idx_user__email_trgm")
+                .doesNotContainIgnoringCase("Seq Scan");
+    }
+
+    @AfterEach
+    void afterEach() {
+        savedUsers.forEach(dataManager::remove);
+        savedUsers.clear();
+    }
+
+    private User saveUser(final String username, final String firstName, final String lastName) {
+        final User user = dataManager.create(User.class);
+        user.setUsername(username);
+        user.setFirstName(firstName);
+        user.setLastName(lastName);
+        user.setPassword(TestFixtures.DEFAULT_TEST_PASSWORD);
+        final User saved = dataManager.save(user);
+        savedUsers.add(saved);
+        return saved;
+    }
+}
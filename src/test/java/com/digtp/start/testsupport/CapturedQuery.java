@@ -0,0 +1,15 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.testsupport;
+
+import java.util.List;
+
+/**
+ * SQL statement executed through the data source, with its bound parameters.
+ *
+ * @param sql SQL with {@code ?} placeholders
+ * @param parameters parameter values in placeholder order; null for SQL NULL
+ */
+public record CapturedQuery(String sql, List<Object> parameters) {}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.testsupport;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Records the SQL statements executed by the current thread.
+ *
+ * <p>Statements are recorded only when the data source is wrapped by
+ * {@link QueryCaptureConfig}. Usage:
+ * <pre>{@code
+ * List<CapturedQuery> queries = QueryCapture.capture(() -> dataManager.load(User.class).all().list());
+ * }</pre>
+ */
+public final class QueryCapture {
+
+    private static final ThreadLocal<List<CapturedQuery>> ACTIVE = new ThreadLocal<>();
+
+    private QueryCapture() {
+        // Utility class
+    }
+
+    /**
+     * Runs the action and returns the statements it executed on the current thread.
+     *
+     * @param action action to run
+     * @return executed statements in execution order
+     */
+    public static List<CapturedQuery> capture(final Runnable action) {
+        final List<CapturedQuery> queries = new ArrayList<>();
+        ACTIVE.set(queries);
+        try {
+            action.run();
+        } finally {
+            ACTIVE.remove();
+        }
+        return Collections.unmodifiableList(queries);
+    }
+
+    static void record(final String sql, final List<Object> parameters) {
+        final List<CapturedQuery> queries = ACTIVE.get();
+        if (queries != null) {
+            queries.add(new CapturedQuery(sql, Collections.unmodifiableList(new ArrayList<>(parameters))));
+        }
+    }
+}
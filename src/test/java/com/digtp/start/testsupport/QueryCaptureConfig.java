@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.testsupport;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Wraps the application data source so that {@link QueryCapture} sees executed statements.
+ *
+ * <p>Prepared statements remember their bound parameters and report SQL and parameters
+ * when executed. Import it into a Spring Boot test with {@code @Import(QueryCaptureConfig.class)}.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class QueryCaptureConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    /**
+     * Wraps the primary data source bean.
+     *
+     * @return post-processor wrapping the {@code dataSource} bean
+     */
+    @Bean
+    static BeanPostProcessor queryCaptureDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                return bean instanceof DataSource dataSource && DATA_SOURCE_BEAN.equals(beanName)
+                        ? new CapturingDataSource(dataSource)
+                        : bean;
+            }
+        };
+    }
+
+    private static Object invoke(final Object target, final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (final InvocationTargetException exception) {
+            throw exception.getCause();
+        }
+    }
+
+    /**
+     * Data source returning connections whose prepared statements report executions.
+     */
+    static final class CapturingDataSource extends DelegatingDataSource implements Closeable {
+
+        CapturingDataSource(final DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return capturing(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(final String username, final String password) throws SQLException {
+            return capturing(super.getConnection(username, password));
+        }
+
+        @Override
+        public void close() throws IOException {
+            // Keeps pool shutdown of the wrapped data source on context close
+            if (getTargetDataSource() instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+
+        private static Connection capturing(final Connection connection) {
+            return (Connection) Proxy.newProxyInstance(
+                    QueryCaptureConfig.class.getClassLoader(),
+                    new Class<?>[] {Connection.class},
+                    (proxy, method, args) -> {
+                        final Object result = invoke(connection, method, args);
+                        if ("prepareStatement".equals(method.getName())) {
+                            return capturing((PreparedStatement) result, (String) args[0]);
+                        }
+                        return result;
+                    });
+        }
+
+        private static PreparedStatement capturing(final PreparedStatement statement, final String sql) {
+            final Map<Integer, Object> parameters = new TreeMap<>();
+            return (PreparedStatement) Proxy.newProxyInstance(
+                    QueryCaptureConfig.class.getClassLoader(),
+                    new Class<?>[] {PreparedStatement.class},
+                    (proxy, method, args) -> {
+                        final String name = method.getName();
+                        final boolean noArgs = args == null || args.length == 0;
+                        if (name.startsWith("set") && !noArgs && args[0] instanceof Integer index && args.length >= 2) {
+                            parameters.put(index, "setNull".equals(name) ? null : args[1]);
+                        } else if ("clearParameters".equals(name)) {
+                            parameters.clear();
+                        } else if (("execute".equals(name) || "executeQuery".equals(name)) && noArgs) {
+                            QueryCapture.record(sql, new ArrayList<>(parameters.values()));
+                        }
+                        return invoke(statement, method, args);
+                    });
+        }
+    }
+}
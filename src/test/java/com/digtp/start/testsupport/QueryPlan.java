@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.testsupport;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * {@code EXPLAIN (ANALYZE, BUFFERS)} result of a captured statement.
+ *
+ * @param sql explained SQL
+ * @param root root plan node of the JSON plan
+ */
+public record QueryPlan(String sql, JsonNode root) {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    /**
+     * Executes the statement with {@code EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON)}.
+     *
+     * @param connection connection to explain on
+     * @param query statement and its parameters
+     * @return plan of the statement
+     * @throws SQLException if the statement fails
+     * @throws JsonProcessingException if the plan cannot be parsed
+     */
+    public static QueryPlan explain(final Connection connection, final CapturedQuery query)
+            throws SQLException, JsonProcessingException {
+        try (PreparedStatement statement =
+                connection.prepareStatement("explain (analyze, buffers, format json) " + query.sql())) {
+            final List<Object> parameters = query.parameters();
+            for (int index = 0; index < parameters.size(); index++) {
+                if (parameters.get(index) == null) {
+                    statement.setNull(index + 1, Types.NULL);
+                } else {
+                    statement.setObject(index + 1, parameters.get(index));
+                }
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return new QueryPlan(query.sql(), OBJECT_MAPPER.readTree(resultSet.getString(1)).get(0).get("Plan"));
+            }
+        }
+    }
+
+    /**
+     * Returns the relations read by sequential scans anywhere in the plan.
+     *
+     * @return lower-case relation names
+     */
+    public List<String> seqScannedRelations() {
+        final List<String> relations = new ArrayList<>();
+        collectSeqScans(root, relations);
+        return relations;
+    }
+
+    /**
+     * Returns the shared buffers the statement touched, including those of all child nodes.
+     *
+     * @return shared blocks hit plus shared blocks read
+     */
+    public long sharedBuffers() {
+        return root.path("Shared Hit Blocks").asLong() + root.path("Shared Read Blocks").asLong();
+    }
+
+    @Override
+    public String toString() {
+        return sql + "\n" + root.toPrettyString();
+    }
+
+    private static void collectSeqScans(final JsonNode node, final List<String> relations) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            relations.add(node.path("Relation Name").asText().toLowerCase(Locale.ROOT));
+        }
+        for (final JsonNode child : node.path("Plans")) {
+            collectSeqScans(child, relations);
+        }
+    }
+}
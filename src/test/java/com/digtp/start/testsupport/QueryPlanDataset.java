@@ -0,0 +1,195 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.testsupport;
+
+import com.digtp.start.service.SyntheticUserGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Synthetic large dataset for query plan tests.
+ *
+ * <p>Plans on the handful of rows in the test database say nothing about production: the
+ * planner reads small tables sequentially no matter which indexes exist. The dataset lives
+ * in the separate {@value #SCHEMA} schema, so other tests keep their small tables: the
+ * {@code USER_} table there has the structure and indexes of {@code public.USER_} and
+ * {@link #configuredUsers()} users of {@link SyntheticUserGenerator}, the standard dataset of
+ * performance tests. Statements captured against the
+ * application schema are explained against the dataset by putting {@value #SCHEMA} first on
+ * the {@code search_path}.
+ *
+ * <p>With container reuse the dataset survives test runs; it is regenerated when its size
+ * or the set of indexes on {@code public.USER_} changes.
+ */
+@Slf4j
+public final class QueryPlanDataset {
+
+    /**
+     * Schema holding the dataset.
+     */
+    public static final String SCHEMA = "plan_check";
+
+    /**
+     * Tables of the dataset.
+     */
+    public static final List<String> TABLES = List.of("user_");
+
+    /**
+     * Number of generated users unless {@code QUERY_PLAN_USERS} is set.
+     */
+    public static final int DEFAULT_USERS = 1_000_000;
+
+    private static final String INDEXES_SQL =
+            "select indexdef from pg_indexes where schemaname = ? and tablename = 'user_' order by indexname";
+
+    private static final long SEED = 42L;
+
+    private static final String PUBLIC_TABLE = " ON public.user_ ";
+    private static final String DATASET_TABLE = " ON " + SCHEMA + ".user_ ";
+
+    private static final SyntheticUserGenerator GENERATOR =
+            new SyntheticUserGenerator(SEED, "{noop}plan-check", false);
+
+    private QueryPlanDataset() {
+        // Utility class
+    }
+
+    /**
+     * Returns the dataset size.
+     *
+     * @return {@code QUERY_PLAN_USERS} environment variable, or {@value #DEFAULT_USERS}
+     */
+    public static int configuredUsers() {
+        final String users = System.getenv("QUERY_PLAN_USERS");
+        return users != null && !users.isBlank() ? Integer.parseInt(users.trim()) : DEFAULT_USERS;
+    }
+
+    /**
+     * Returns a user of the dataset.
+     *
+     * @param index user index, below the dataset size
+     * @return generated user values
+     */
+    public static SyntheticUserGenerator.SyntheticUser user(final long index) {
+        return GENERATOR.user(index);
+    }
+
+    /**
+     * Generates the dataset unless it is already present with the given size.
+     *
+     * @param dataSource data source of the test database
+     * @param users number of users to generate
+     * @throws SQLException if generation fails
+     */
+    public static synchronized void ensureSeeded(final DataSource dataSource, final int users) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            final List<String> indexes = indexDefinitions(connection, "public");
+            if (isSeeded(connection, users, indexes)) {
+                return;
+            }
+            log.info("Generating query plan dataset: users={}", users);
+            final long startNanos = System.nanoTime();
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("drop schema if exists " + SCHEMA + " cascade");
+                statement.execute("create schema " + SCHEMA);
+                statement.execute("create table " + SCHEMA + ".USER_ (like public.USER_ including defaults)");
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("set search_path to " + SCHEMA);
+            }
+            try {
+                GENERATOR.generate(connection, 0, users);
+            } finally {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("reset search_path");
+                }
+            }
+            try (Statement statement = connection.createStatement()) {
+                // Indexes are built after the insert, which is much faster than maintaining them row by row
+                for (final String indexDefinition : indexes) {
+                    statement.execute(indexDefinition.replace(PUBLIC_TABLE, DATASET_TABLE));
+                }
+                statement.execute("vacuum analyze " + SCHEMA + ".USER_");
+            }
+            log.info(
+                    "Query plan dataset generated in {}ms",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        }
+    }
+
+    /**
+     * Explains the captured statements that read dataset tables against the dataset.
+     *
+     * @param dataSource data source of the test database
+     * @param queries captured statements; other statements are skipped
+     * @return plans of the explained statements
+     * @throws SQLException if a statement fails
+     * @throws JsonProcessingException if a plan cannot be parsed
+     */
+    public static List<QueryPlan> explain(final DataSource dataSource, final List<CapturedQuery> queries)
+            throws SQLException, JsonProcessingException {
+        final List<QueryPlan> plans = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("set search_path to " + SCHEMA + ", public");
+            }
+            try {
+                for (final CapturedQuery query : queries) {
+                    if (readsDataset(query.sql())) {
+                        plans.add(QueryPlan.explain(connection, query));
+                    }
+                }
+            } finally {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("reset search_path");
+                }
+            }
+        }
+        return plans;
+    }
+
+    private static boolean readsDataset(final String sql) {
+        final String normalized = sql.trim().toLowerCase(Locale.ROOT);
+        return normalized.startsWith("select") && TABLES.stream().anyMatch(normalized::contains);
+    }
+
+    private static boolean isSeeded(final Connection connection, final int users, final List<String> indexes)
+            throws SQLException {
+        final List<String> datasetIndexes = indexDefinitions(connection, SCHEMA).stream()
+                .map(definition -> definition.replace(DATASET_TABLE, PUBLIC_TABLE))
+                .toList();
+        if (!datasetIndexes.equals(indexes)) {
+            return false;
+        }
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("select count(*) from " + SCHEMA + ".USER_")) {
+            return resultSet.next() && resultSet.getLong(1) == users;
+        }
+    }
+
+    private static List<String> indexDefinitions(final Connection connection, final String schema)
+            throws SQLException {
+        final List<String> definitions = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(INDEXES_SQL)) {
+            statement.setString(1, schema);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    definitions.add(resultSet.getString(1));
+                }
+            }
+        }
+        return definitions;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.testsupport;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Limits the SQL statements a test method may execute, e.g. for loading a view.
+ *
+ * <p>Statements of the test method body are counted by {@link StatementBudgetExtension};
+ * {@code @BeforeEach} methods are not counted, so data setup belongs there. The test fails
+ * when it executes more than {@link #value} statements or repeats a SELECT shape at least
+ * {@link #maxRepeats} times (an N+1 pattern).
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(StatementBudgetExtension.class)
+public @interface StatementBudget {
+
+    /**
+     * Maximum number of statements.
+     *
+     * @return statement budget
+     */
+    int value();
+
+    /**
+     * Number of executions of one SELECT shape that is reported as an N+1 pattern.
+     *
+     * @return minimum repeats that fail the test
+     */
+    int maxRepeats() default 5;
+}
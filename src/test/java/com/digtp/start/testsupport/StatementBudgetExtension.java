@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.testsupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.digtp.start.config.StatementScope;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+/**
+ * JUnit extension enforcing {@link StatementBudget} of test methods.
+ * Applied by the annotation itself; requires {@code start.db.n-plus-one.enabled}, which the
+ * test profile sets.
+ *
+ * <p>This class is not intended for extension. It implements JUnit extension callbacks
+ * and should be used as-is via the {@link StatementBudget} annotation.
+ */
+public final class StatementBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(StatementBudgetExtension.class);
+
+    /**
+     * Starts counting statements of the test method.
+     *
+     * @param context JUnit extension context
+     */
+    @Override
+    public void beforeTestExecution(final ExtensionContext context) {
+        context.getStore(NAMESPACE).put(StatementScope.class, StatementScope.open(context.getDisplayName()));
+    }
+
+    /**
+     * Stops counting and fails the test if it went over its budget.
+     *
+     * @param context JUnit extension context
+     */
+    @Override
+    public void afterTestExecution(final ExtensionContext context) {
+        final StatementScope scope = context.getStore(NAMESPACE).remove(StatementScope.class, StatementScope.class);
+        scope.close();
+        final StatementBudget budget = AnnotationSupport.findAnnotation(
+                        context.getRequiredTestMethod(), StatementBudget.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), StatementBudget.class))
+                .orElseThrow();
+        assertThat(scope.repeatedSelects(budget.maxRepeats()))
+                .as("SELECT shapes repeated at least %d times (N+1) in %s", budget.maxRepeats(), scope.name())
+                .isEmpty();
+        assertThat(scope.statements())
+                .as("SQL statements executed by %s", scope.name())
+                .isLessThanOrEqualTo(budget.value());
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.view;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.digtp.start.entity.User;
+import com.digtp.start.testsupport.AbstractIntegrationTest;
+import io.jmix.core.LoadContext;
+import io.jmix.core.Metadata;
+import io.jmix.core.querycondition.PropertyCondition;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ListPageCacheTest extends AbstractIntegrationTest {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    @Autowired
+    Metadata metadata;
+
+    @Test
+    void testKeysDifferByConditionValueAndPage() {
+        // Arrange
+        final String key = ListPageCache.key(pageContext("alice", 0), null);
+
+        // Act & Assert
+        assertThat(ListPageCache.key(pageContext("alice", 0), null)).isEqualTo(key);
+        assertThat(ListPageCache.key(pageContext("bob", 0), null)).isNotEqualTo(key);
+        assertThat(ListPageCache.key(pageContext("alice", 10), null)).isNotEqualTo(key);
+        assertThat(ListPageCache.key(pageContext("alice", 0), List.of("username"))).isNotEqualTo(key);
+    }
+
+    @Test
+    void testPageIsServedOnlyAtItsClock() {
+        // Arrange
+        final ListPageCache cache = new ListPageCache(10, TTL);
+        final String key = ListPageCache.key(pageContext("alice", 0), null);
+        cache.put(key, 1, List.of("row"));
+
+        // Act & Assert
+        assertThat(cache.<String>get(key, 1)).contains(List.of("row"));
+        assertThat(cache.<String>get(key, 2)).isEmpty();
+        assertThat(cache.<String>get(key, 1)).as("stale pages are dropped").isEmpty();
+    }
+
+    @Test
+    void testExpiredPageIsDropped() {
+        // Arrange
+        final ListPageCache cache = new ListPageCache(10, Duration.ZERO);
+        cache.put("page", 1, List.of("row"));
+
+        // Act & Assert
+        assertThat(cache.<String>get("page", 1)).isEmpty();
+    }
+
+    @Test
+    void testLeastRecentlyUsedPageIsEvicted() {
+        // Arrange
+        final ListPageCache cache = new ListPageCache(2, TTL);
+        cache.put("first", 0, List.of());
+        cache.put("second", 0, List.of());
+        cache.get("first", 0);
+
+        // Act
+        cache.put("third", 0, List.of());
+
+        // Assert
+        assertThat(cache.get("first", 0)).isPresent();
+        assertThat(cache.get("second", 0)).isEmpty();
+        assertThat(cache.get("third", 0)).isPresent();
+    }
+
+    private LoadContext<User> pageContext(final String username, final int firstResult) {
+        return new LoadContext<User>(metadata.getClass(User.class))
+                .setQuery(new LoadContext.Query("select e from User e order by e.username")
+                        .setCondition(PropertyCondition.equal("username", username))
+                        .setFirstResult(firstResult)
+                        .setMaxResults(10));
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.view;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+import com.digtp.start.config.DataSourceRouting;
+import com.vaadin.flow.server.VaadinSession;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Unit tests for SessionReadRouting.
+ */
+@ExtendWith(MockitoExtension.class)
+class SessionReadRoutingTest {
+
+    @Mock
+    VaadinSession session;
+
+    final Map<String, Object> attributes = new HashMap<>();
+
+    final SessionReadRouting sessionReadRouting = new SessionReadRouting();
+
+    @BeforeEach
+    void beforeEach() {
+        ReflectionTestUtils.setField(sessionReadRouting, "primaryReadsAfterWrite", Duration.ofMinutes(1));
+        when(session.getAttribute(anyString())).thenAnswer(invocation -> attributes.get(invocation.getArgument(0)));
+        VaadinSession.setCurrent(session);
+    }
+
+    @Test
+    void testReadsRunOnReplicaWithoutSessionWrite() {
+        // Act
+        final boolean readOnly = sessionReadRouting.read(DataSourceRouting::isReadOnly);
+
+        // Assert
+        assertThat(readOnly).isTrue();
+    }
+
+    @Test
+    void testReadsRunOnPrimaryAfterSessionWrite() {
+        // Arrange
+        when(session.hasLock()).thenReturn(true);
+        doAnswer(invocation -> attributes.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(session)
+                .setAttribute(anyString(), any());
+        final Supplier<Boolean> routedBeforeWrite = sessionReadRouting.route(DataSourceRouting::isReadOnly);
+
+        // Act
+        sessionReadRouting.recordWrite();
+
+        // Assert
+        assertThat(sessionReadRouting.read(DataSourceRouting::isReadOnly)).isFalse();
+        assertThat(routedBeforeWrite.get()).as("decided before the write").isTrue();
+    }
+
+    @AfterEach
+    void afterEach() {
+        VaadinSession.setCurrent(null);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.view.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.digtp.start.entity.User;
+import com.digtp.start.testsupport.AbstractIntegrationTest;
+import com.digtp.start.testsupport.AuthenticatedAsAdmin;
+import com.digtp.start.testsupport.TestFixtures;
+import io.jmix.core.DataManager;
+import io.jmix.core.LoadContext;
+import io.jmix.core.Metadata;
+import io.jmix.core.querycondition.PropertyCondition;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@ExtendWith(AuthenticatedAsAdmin.class)
+class UserKeysetPagerTest extends AbstractIntegrationTest {
+
+    private static final int USER_COUNT = 25;
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private DataManager dataManager;
+
+    @Autowired
+    private Metadata metadata;
+
+    private final List<User> savedUsers = new ArrayList<>();
+
+    private String prefix;
+
+    @BeforeEach
+    void beforeEach() {
+        prefix = TestFixtures.uniqueUsername() + "-";
+        for (int index = 0; index < USER_COUNT; index++) {
+            final User user = dataManager.create(User.class);
+            user.setUsername(prefix + String.format("%02d", index));
+            user.setPassword(TestFixtures.DEFAULT_TEST_PASSWORD);
+            savedUsers.add(dataManager.save(user));
+        }
+    }
+
+    @Test
+    void testKeysetPagesMatchOffsetPages() {
+        // Arrange
+        final UserKeysetPager pager = new UserKeysetPager();
+
+        // Act
+        final List<User> firstPage = pager.load(pageContext(0), dataManager);
+        final LoadContext<User> secondPageContext = pageContext(PAGE_SIZE);
+        final List<User> secondPage = pager.load(secondPageContext, dataManager);
+        final List<User> thirdPage = pager.load(pageContext(2 * PAGE_SIZE), dataManager);
+
+        // Assert
+        assertThat(secondPageContext.getQuery().getFirstResult()).isZero();
+        assertThat(firstPage).containsExactlyElementsOf(dataManager.loadList(pageContext(0)));
+        assertThat(secondPage).containsExactlyElementsOf(dataManager.loadList(pageContext(PAGE_SIZE)));
+        assertThat(thirdPage).containsExactlyElementsOf(dataManager.loadList(pageContext(2 * PAGE_SIZE)));
+        assertThat(thirdPage).hasSize(USER_COUNT - 2 * PAGE_SIZE);
+    }
+
+    @Test
+    void testCursorRestoredFromUrlValue() {
+        // Arrange
+        final UserKeysetPager browsingPager = new UserKeysetPager();
+        browsingPager.load(pageContext(0), dataManager);
+        browsingPager.load(pageContext(PAGE_SIZE), dataManager);
+        final String urlValue = browsingPager.toUrlValue(PAGE_SIZE).orElseThrow();
+        final UserKeysetPager restoredPager = new UserKeysetPager();
+
+        // Act
+        restoredPager.restoreFromUrlValue(urlValue);
+        final LoadContext<User> restoredContext = pageContext(PAGE_SIZE);
+        final List<User> restoredPage = restoredPager.load(restoredContext, dataManager);
+
+        // Assert
+        assertThat(restoredContext.getQuery().getFirstResult()).isZero();
+        assertThat(restoredPage).containsExactlyElementsOf(dataManager.loadList(pageContext(PAGE_SIZE)));
+    }
+
+    @Test
+    void testMalformedUrlValueFallsBackToOffset() {
+        // Arrange
+        final UserKeysetPager pager = new UserKeysetPager();
+        pager.restoreFromUrlValue("not-a-cursor");
+
+        // Act
+        final LoadContext<User> context = pageContext(PAGE_SIZE);
+        final List<User> page = pager.load(context, dataManager);
+
+        // Assert
+        assertThat(context.getQuery().getFirstResult()).isEqualTo(PAGE_SIZE);
+        assertThat(page).containsExactlyElementsOf(dataManager.loadList(pageContext(PAGE_SIZE)));
+    }
+
+    @Test
+    void testServedPageProvidesCursorForSeek() {
+        // Arrange
+        final UserKeysetPager pager = new UserKeysetPager();
+        pager.served(pageContext(0), dataManager.loadList(pageContext(0)));
+        final LoadContext<User> nextPageContext = pageContext(PAGE_SIZE);
+
+        // Act
+        pager.seek(nextPageContext);
+
+        // Assert
+        assertThat(nextPageContext.getQuery().getFirstResult()).isZero();
+        assertThat(dataManager.loadList(nextPageContext))
+                .containsExactlyElementsOf(dataManager.loadList(pageContext(PAGE_SIZE)));
+    }
+
+    @AfterEach
+    void afterEach() {
+        savedUsers.forEach(dataManager::remove);
+        savedUsers.clear();
+    }
+
+    private LoadContext<User> pageContext(final int firstResult) {
+        return new LoadContext<User>(metadata.getClass(User.class))
+                .setQuery(new LoadContext.Query("select e from User e order by e.username")
+                        .setCondition(PropertyCondition.startsWith("username", prefix))
+                        .setFirstResult(firstResult)
+                        .setMaxResults(PAGE_SIZE));
+    }
+}
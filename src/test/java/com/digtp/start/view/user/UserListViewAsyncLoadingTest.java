@@ -0,0 +1,196 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.view.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import com.digtp.start.StartApplication;
+import com.digtp.start.config.UiQueryCancellation;
+import com.digtp.start.entity.User;
+import com.digtp.start.testsupport.AbstractIntegrationTest;
+import com.digtp.start.testsupport.AuthenticatedAsAdmin;
+import com.digtp.start.view.login.LoginView;
+import com.vaadin.flow.component.html.Div;
+import com.vaadin.flow.server.VaadinSession;
+import io.jmix.core.DataManager;
+import io.jmix.core.LoadContext;
+import io.jmix.flowui.ViewNavigators;
+import io.jmix.flowui.component.grid.DataGrid;
+import io.jmix.flowui.model.CollectionContainer;
+import io.jmix.flowui.testassist.FlowuiTestAssistConfiguration;
+import io.jmix.flowui.testassist.UiTest;
+import io.jmix.flowui.testassist.UiTestUtils;
+import io.jmix.flowui.view.View;
+import io.jmix.flowui.view.ViewControllerUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+
+@UiTest
+@SpringBootTest(
+        classes = {StartApplication.class, FlowuiTestAssistConfiguration.class},
+        properties = {"ui.users.asyncLoading=true", "ui.users.pageCacheSize=0"})
+@ActiveProfiles("test")
+@ExtendWith(AuthenticatedAsAdmin.class)
+class UserListViewAsyncLoadingTest extends AbstractIntegrationTest {
+
+    private static final Duration WAIT_TIMEOUT = Duration.ofSeconds(30);
+    private static final long POLL_INTERVAL_MS = 50;
+
+    private static final long SETTLE_MS = 500;
+
+    @Autowired
+    private ViewNavigators viewNavigators;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // DeprecatedForRemovalApiUsage disabled in build.gradle (Error Prone)
+    @SuppressWarnings("java:S5738") // @SpyBean is Spring Boot standard, still supported
+    @SpyBean
+    private DataManager dataManager;
+
+    private final CountDownLatch loadStarted = new CountDownLatch(1);
+
+    private final CountDownLatch loadRelease = new CountDownLatch(1);
+
+    @Test
+    void testPageIsAppliedAfterBackgroundLoad() throws InterruptedException {
+        // Act
+        viewNavigators.view(UiTestUtils.getCurrentView(), UserListView.class).navigate();
+        final View<?> view = getCurrentViewAsView();
+        final CollectionContainer<User> usersDc =
+                ViewControllerUtils.getViewData(view).getContainer("usersDc");
+        awaitItems(usersDc);
+
+        // Assert
+        final DataGrid<User> usersDataGrid = UiTestUtils.getComponent(view, "usersDataGrid");
+        final Div usersGridSkeleton = UiTestUtils.getComponent(view, "usersGridSkeleton");
+        assertThat(usersDc.getItems()).isNotEmpty();
+        assertThat(usersDataGrid.isVisible()).isTrue();
+        assertThat(usersGridSkeleton.isVisible()).isFalse();
+    }
+
+    @Test
+    void testSkeletonIsShownWhileBackgroundLoadRuns() throws InterruptedException {
+        // Arrange
+        blockBackgroundLoads();
+        viewNavigators.view(UiTestUtils.getCurrentView(), UserListView.class).navigate();
+        final View<?> view = getCurrentViewAsView();
+        final CollectionContainer<User> usersDc =
+                ViewControllerUtils.getViewData(view).getContainer("usersDc");
+        final DataGrid<User> usersDataGrid = UiTestUtils.getComponent(view, "usersDataGrid");
+        final Div usersGridSkeleton = UiTestUtils.getComponent(view, "usersGridSkeleton");
+
+        // Act
+        final boolean started = loadStarted.await(WAIT_TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+        final boolean skeletonWhileLoading = usersGridSkeleton.isVisible();
+        final boolean gridWhileLoading = usersDataGrid.isVisible();
+        loadRelease.countDown();
+        awaitItems(usersDc);
+
+        // Assert
+        assertThat(started).isTrue();
+        assertThat(skeletonWhileLoading).isTrue();
+        assertThat(gridWhileLoading).isFalse();
+        assertThat(usersDc.getItems()).isNotEmpty();
+        assertThat(usersGridSkeleton.isVisible()).isFalse();
+        assertThat(usersDataGrid.isVisible()).isTrue();
+    }
+
+    @Test
+    void testNavigationCancelsBackgroundLoad() throws InterruptedException {
+        // Arrange
+        blockBackgroundLoads();
+        final double cancelledBefore = cancelled(UiQueryCancellation.REASON_NAVIGATION);
+        viewNavigators.view(UiTestUtils.getCurrentView(), UserListView.class).navigate();
+        final CollectionContainer<User> usersDc =
+                ViewControllerUtils.getViewData(getCurrentViewAsView()).getContainer("usersDc");
+        final boolean started = loadStarted.await(WAIT_TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+
+        // Act
+        viewNavigators.view(UiTestUtils.getCurrentView(), LoginView.class).navigate();
+        loadRelease.countDown();
+        awaitCancelled(cancelledBefore);
+
+        // Assert
+        assertThat(started).isTrue();
+        assertThat(cancelled(UiQueryCancellation.REASON_NAVIGATION)).isEqualTo(cancelledBefore + 1);
+        assertThat(usersDc.getItems()).isEmpty();
+    }
+
+    @AfterEach
+    void afterEach() {
+        loadRelease.countDown();
+    }
+
+    /**
+     * Holds page loads of the load executor until {@link #loadRelease} is released. The load
+     * is registered with its cancellation handle at that point, but has not queried yet.
+     */
+    @SuppressWarnings("unchecked")
+    private void blockBackgroundLoads() {
+        doAnswer(invocation -> {
+                    if (Thread.currentThread().getName().startsWith("ui-load-")) {
+                        loadStarted.countDown();
+                        loadRelease.await(WAIT_TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+                    }
+                    return invocation.callRealMethod();
+                })
+                .when(dataManager)
+                .loadList(any(LoadContext.class));
+    }
+
+    private double cancelled(final String reason) {
+        return meterRegistry.find("start.db.query.cancelled").tag("reason", reason).counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+
+    /**
+     * Waits until a load is counted as cancelled, then runs the {@code UI.access} tasks the
+     * failed load queued for a while.
+     */
+    private void awaitCancelled(final double cancelledBefore) throws InterruptedException {
+        final VaadinSession session = VaadinSession.getCurrent();
+        final long deadline = System.nanoTime() + WAIT_TIMEOUT.toNanos();
+        while (cancelled(UiQueryCancellation.REASON_NAVIGATION) <= cancelledBefore && System.nanoTime() < deadline) {
+            Thread.sleep(POLL_INTERVAL_MS);
+        }
+        final long settleDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SETTLE_MS);
+        while (System.nanoTime() < settleDeadline) {
+            if (session.hasLock()) {
+                session.getService().runPendingAccessTasks(session);
+            }
+            Thread.sleep(POLL_INTERVAL_MS);
+        }
+    }
+
+    /**
+     * Waits for the background load, running its {@code UI.access} task if the test holds
+     * the session lock.
+     */
+    private static void awaitItems(final CollectionContainer<User> usersDc) throws InterruptedException {
+        final VaadinSession session = VaadinSession.getCurrent();
+        final long deadline = System.nanoTime() + WAIT_TIMEOUT.toNanos();
+        while (usersDc.getItems().isEmpty() && System.nanoTime() < deadline) {
+            if (session.hasLock()) {
+                session.getService().runPendingAccessTasks(session);
+            }
+            Thread.sleep(POLL_INTERVAL_MS);
+        }
+    }
+}
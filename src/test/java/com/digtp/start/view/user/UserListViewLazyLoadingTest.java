@@ -0,0 +1,145 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.view.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.digtp.start.StartApplication;
+import com.digtp.start.entity.User;
+import com.digtp.start.testsupport.AbstractIntegrationTest;
+import com.digtp.start.testsupport.AuthenticatedAsAdmin;
+import com.digtp.start.testsupport.TestFixtures;
+import io.jmix.core.DataManager;
+import io.jmix.core.EntityStates;
+import io.jmix.flowui.ViewNavigators;
+import io.jmix.flowui.action.list.RemoveAction;
+import io.jmix.flowui.component.grid.DataGrid;
+import io.jmix.flowui.component.textfield.TypedTextField;
+import io.jmix.flowui.kit.component.button.JmixButton;
+import io.jmix.flowui.model.CollectionContainer;
+import io.jmix.flowui.testassist.FlowuiTestAssistConfiguration;
+import io.jmix.flowui.testassist.UiTest;
+import io.jmix.flowui.testassist.UiTestUtils;
+import io.jmix.flowui.view.View;
+import io.jmix.flowui.view.ViewControllerUtils;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@UiTest
+@SpringBootTest(
+        classes = {StartApplication.class, FlowuiTestAssistConfiguration.class},
+        properties = "ui.users.lazyLoading=true")
+@ActiveProfiles("test")
+@ExtendWith(AuthenticatedAsAdmin.class)
+class UserListViewLazyLoadingTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private ViewNavigators viewNavigators;
+
+    @Autowired
+    private DataManager dataManager;
+
+    @Autowired
+    private EntityStates entityStates;
+
+    private User savedUser;
+
+    @Test
+    void testGridFetchesDisplayedColumnsWithoutContainerItems() {
+        // Arrange
+        savedUser = saveUser();
+
+        // Act
+        viewNavigators.view(UiTestUtils.getCurrentView(), UserListView.class).navigate();
+        final View<?> view = getCurrentViewAsView();
+        final DataGrid<User> usersDataGrid = UiTestUtils.getComponent(view, "usersDataGrid");
+        final CollectionContainer<User> usersDc =
+                ViewControllerUtils.getViewData(view).getContainer("usersDc");
+        final User fetched = findFetched(usersDataGrid).orElseThrow();
+
+        // Assert
+        assertThat(usersDc.getItems()).isEmpty();
+        assertThat(fetched).isEqualTo(savedUser);
+        assertThat(entityStates.isLoaded(fetched, "email")).isTrue();
+        assertThat(entityStates.isLoaded(fetched, "password")).isFalse();
+    }
+
+    @Test
+    void testEditActionSavesFetchedUser() {
+        // Arrange
+        savedUser = saveUser();
+        viewNavigators.view(UiTestUtils.getCurrentView(), UserListView.class).navigate();
+        final DataGrid<User> usersDataGrid = UiTestUtils.getComponent(getCurrentViewAsView(), "usersDataGrid");
+        usersDataGrid.select(findFetched(usersDataGrid).orElseThrow());
+
+        // Act
+        usersDataGrid.getAction("editAction").actionPerform(usersDataGrid);
+        final View<?> detailView = getCurrentViewAsView();
+        final TypedTextField<String> firstNameField = UiTestUtils.getComponent(detailView, "firstNameField");
+        firstNameField.setValue("Edited");
+        final JmixButton saveButton = UiTestUtils.getComponent(detailView, "saveAndCloseButton");
+        saveButton.click();
+
+        // Assert
+        assertThat(detailView).isInstanceOf(UserDetailView.class);
+        assertThat(dataManager.load(User.class).id(savedUser.getId()).one().getFirstName())
+                .isEqualTo("Edited");
+        final View<?> listView = getCurrentViewAsView();
+        assertThat(listView).isInstanceOf(UserListView.class);
+        assertThat(findFetched(UiTestUtils.getComponent(listView, "usersDataGrid")))
+                .map(User::getFirstName)
+                .contains("Edited");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRemoveActionDeletesFetchedUserAndRefreshesGrid() {
+        // Arrange
+        savedUser = saveUser();
+        viewNavigators.view(UiTestUtils.getCurrentView(), UserListView.class).navigate();
+        final DataGrid<User> usersDataGrid = UiTestUtils.getComponent(getCurrentViewAsView(), "usersDataGrid");
+        final RemoveAction<User> removeAction = (RemoveAction<User>) usersDataGrid.getAction("removeAction");
+        removeAction.setConfirmation(false);
+        usersDataGrid.select(findFetched(usersDataGrid).orElseThrow());
+
+        // Act
+        removeAction.actionPerform(usersDataGrid);
+
+        // Assert
+        assertThat(dataManager.load(User.class).id(savedUser.getId()).optional())
+                .isEmpty();
+        assertThat(findFetched(usersDataGrid)).isEmpty();
+        savedUser = null; // NOPMD - NullAssignment: removed by the test
+    }
+
+    private User saveUser() {
+        final User user = dataManager.create(User.class);
+        user.setUsername(TestFixtures.uniqueUsername());
+        user.setPassword(TestFixtures.DEFAULT_TEST_PASSWORD);
+        return dataManager.save(user);
+    }
+
+    private Optional<User> findFetched(final DataGrid<User> usersDataGrid) {
+        return usersDataGrid
+                .getLazyDataView()
+                .getItems()
+                .filter(item -> savedUser.getUsername().equals(item.getUsername()))
+                .findFirst();
+    }
+
+    @AfterEach
+    void afterEach() {
+        if (savedUser != null) {
+            // Reloaded: the edit test saves a newer version
+            dataManager.load(User.class).id(savedUser.getId()).optional().ifPresent(dataManager::remove);
+            savedUser = null; // NOPMD - NullAssignment: prevents accidental reuse of removed entity
+        }
+    }
+}
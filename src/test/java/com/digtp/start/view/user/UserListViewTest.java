@@ -7,13 +7,28 @@ package com.digtp.start.view.user;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.digtp.start.StartApplication;
+import com.digtp.start.config.StatementScope;
+import com.digtp.start.entity.User;
+import com.digtp.start.service.FilterIndexPolicy;
 import com.digtp.start.testsupport.AbstractIntegrationTest;
 import com.digtp.start.testsupport.AuthenticatedAsAdmin;
+import com.digtp.start.testsupport.StatementBudget;
+import com.digtp.start.testsupport.TestFixtures;
+import com.vaadin.flow.component.grid.GridMultiSelectionModel;
+import com.vaadin.flow.component.grid.GridSingleSelectionModel;
+import io.jmix.core.DataManager;
+import io.jmix.flowui.DialogWindows;
 import io.jmix.flowui.ViewNavigators;
+import io.jmix.flowui.component.grid.DataGrid;
 import io.jmix.flowui.testassist.FlowuiTestAssistConfiguration;
 import io.jmix.flowui.testassist.UiTest;
 import io.jmix.flowui.testassist.UiTestUtils;
+import io.jmix.flowui.view.DialogWindow;
 import io.jmix.flowui.view.View;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -26,9 +41,30 @@ import org.springframework.test.context.ActiveProfiles;
 @ExtendWith(AuthenticatedAsAdmin.class)
 class UserListViewTest extends AbstractIntegrationTest {
 
+    /**
+     * Active users seeded for each test, enough to show an N+1 pattern on the first page.
+     */
+    private static final int SEEDED_USERS = 20;
+
     @Autowired
     private ViewNavigators viewNavigators;
 
+    @Autowired
+    private DataManager dataManager;
+
+    @Autowired
+    private DialogWindows dialogWindows;
+
+    @Autowired
+    private FilterIndexPolicy filterIndexPolicy;
+
+    private final List<User> savedUsers = new ArrayList<>();
+
+    @BeforeEach
+    void beforeEach() {
+        seedUsers();
+    }
+
     @Test
     void testUserListViewInit() {
         viewNavigators.view(UiTestUtils.getCurrentView(), UserListView.class).navigate();
@@ -37,4 +73,96 @@ class UserListViewTest extends AbstractIntegrationTest {
 
         assertThat(view).isNotNull();
     }
+
+    @Test
+    void testDefaultFilterIsIndexServed() {
+        // Arrange
+        filterIndexPolicy.resetUsage();
+
+        // Act
+        viewNavigators.view(UiTestUtils.getCurrentView(), UserListView.class).navigate();
+
+        // Assert: the active users configuration is served by the partial active-user indexes
+        assertThat(filterIndexPolicy.usage())
+                .filteredOn(usage -> "active".equals(usage.property()))
+                .isNotEmpty()
+                .allMatch(FilterIndexPolicy.UsageRecord::indexed);
+    }
+
+    @Test
+    void testGridSelectsMultipleUsersWhenNotLookup() {
+        // Act
+        viewNavigators.view(UiTestUtils.getCurrentView(), UserListView.class).navigate();
+        final DataGrid<User> usersDataGrid = UiTestUtils.getComponent(getCurrentViewAsView(), "usersDataGrid");
+
+        // Assert
+        assertThat(usersDataGrid.getSelectionModel()).isInstanceOf(GridMultiSelectionModel.class);
+    }
+
+    @Test
+    void testLookupKeepsSingleSelection() {
+        // Arrange
+        viewNavigators.view(UiTestUtils.getCurrentView(), UserListView.class).navigate();
+
+        // Act
+        final DialogWindow<UserListView> lookup = dialogWindows
+                .lookup(getCurrentViewAsView(), User.class)
+                .withViewClass(UserListView.class)
+                .withSelectHandler(_users -> {})
+                .build();
+        lookup.open();
+        final DataGrid<User> usersDataGrid = UiTestUtils.getComponent(lookup.getView(), "usersDataGrid");
+
+        // Assert
+        assertThat(usersDataGrid.getSelectionModel()).isInstanceOf(GridSingleSelectionModel.class);
+    }
+
+    /**
+     * Filter configurations, the page of users and its count; repeated loads of the default
+     * filter are served by the page cache.
+     */
+    @Test
+    @StatementBudget(8)
+    void testUserListViewLoadStaysWithinStatementBudget() {
+        // Act
+        viewNavigators.view(UiTestUtils.getCurrentView(), UserListView.class).navigate();
+
+        // Assert
+        assertThat(getCurrentViewAsView()).isInstanceOf(UserListView.class);
+    }
+
+    @Test
+    void testUserListViewLoadStatementsDoNotGrowWithUsers() {
+        // Arrange
+        final int statementsBefore = navigateCountingStatements();
+        seedUsers();
+
+        // Act
+        final int statementsAfter = navigateCountingStatements();
+
+        // Assert
+        assertThat(statementsAfter).isLessThanOrEqualTo(statementsBefore);
+    }
+
+    @AfterEach
+    void afterEach() {
+        savedUsers.forEach(dataManager::remove);
+        savedUsers.clear();
+    }
+
+    private int navigateCountingStatements() {
+        try (StatementScope scope = StatementScope.open("UserListView navigation")) {
+            viewNavigators.view(UiTestUtils.getCurrentView(), UserListView.class).navigate();
+            return scope.statements();
+        }
+    }
+
+    private void seedUsers() {
+        for (int i = 0; i < SEEDED_USERS; i++) {
+            final User user = dataManager.create(User.class);
+            user.setUsername(TestFixtures.uniqueUsername());
+            user.setPassword(TestFixtures.DEFAULT_TEST_PASSWORD);
+            savedUsers.add(dataManager.save(user));
+        }
+    }
 }
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2025 Digital Technologies and Platforms LLC
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.digtp.start.view.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import com.digtp.start.entity.User;
+import com.digtp.start.testsupport.AbstractIntegrationTest;
+import com.digtp.start.testsupport.AuthenticatedAsAdmin;
+import com.digtp.start.testsupport.CapturedQuery;
+import com.digtp.start.testsupport.QueryCapture;
+import com.digtp.start.testsupport.QueryCaptureConfig;
+import com.digtp.start.testsupport.QueryPlan;
+import com.digtp.start.testsupport.QueryPlanDataset;
+import io.jmix.core.DataManager;
+import io.jmix.core.LoadContext;
+import io.jmix.core.Sort;
+import io.jmix.core.querycondition.Condition;
+import io.jmix.core.querycondition.JpqlCondition;
+import io.jmix.core.querycondition.PropertyCondition;
+import io.jmix.core.security.UserRepository;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Query plan regression suite for the user queries of the application.
+ *
+ * <p>Each test runs an application code path (list loader, login lookup, list filters),
+ * captures the SQL it issues and explains every captured {@code USER_} statement with
+ * {@code EXPLAIN (ANALYZE, BUFFERS)} against the {@link QueryPlanDataset} of
+ * {@code QUERY_PLAN_USERS} users (1M by default). A test fails when a plan reads
+ * {@code USER_} sequentially or touches more shared buffers than its budget. Budgets leave
+ * headroom over the plans at 1M users; a plan that walks the table blows them by orders
+ * of magnitude.
+ *
+ * <p>Tagged {@code query-plan}: excluded from {@code test} and run by {@code queryPlanTest}.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@ExtendWith(AuthenticatedAsAdmin.class)
+@Import(QueryCaptureConfig.class)
+@Tag("query-plan")
+@Slf4j
+class UserQueryPlanRegressionTest extends AbstractIntegrationTest {
+
+    private static final String LIST_QUERY = "select e from User e order by e.username";
+    private static final int PAGE_SIZE = 50;
+    private static final long DATASET_USER_INDEX = 12_345;
+
+    /**
+     * Index pages plus a page of heap rows.
+     */
+    private static final long PAGE_BUFFER_BUDGET = 200;
+
+    private static final long LOOKUP_BUFFER_BUDGET = 20;
+
+    /**
+     * Trigram posting lists plus the heap pages of the matches.
+     */
+    private static final long SEARCH_BUFFER_BUDGET = 1_000;
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    DataManager dataManager;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @BeforeEach
+    void beforeEach() throws SQLException {
+        QueryPlanDataset.ensureSeeded(dataSource, QueryPlanDataset.configuredUsers());
+    }
+
+    @Test
+    void testListFirstPage() throws SQLException, IOException {
+        // Arrange
+        final UserKeysetPager pager = new UserKeysetPager();
+
+        // Act
+        final List<CapturedQuery> queries =
+                QueryCapture.capture(() -> pager.load(pageContext(0, null), dataManager));
+
+        // Assert
+        assertPlans(queries, PAGE_BUFFER_BUDGET);
+    }
+
+    @Test
+    void testListKeysetPage() throws SQLException, IOException {
+        // Arrange
+        final UserKeysetPager pager = new UserKeysetPager();
+        final int nextOffset = pager.load(pageContext(0, null), dataManager).size();
+
+        // Act
+        final List<CapturedQuery> queries =
+                QueryCapture.capture(() -> pager.load(pageContext(nextOffset, null), dataManager));
+
+        // Assert
+        assertThat(queries).anyMatch(query -> query.sql().contains(">="));
+        assertPlans(queries, PAGE_BUFFER_BUDGET);
+    }
+
+    @Test
+    void testLoginLookup() throws SQLException, IOException {
+        // Arrange: typed in upper case, as the lookup is case-insensitive
+        final String username = QueryPlanDataset.user(DATASET_USER_INDEX).username().toUpperCase(Locale.ROOT);
+
+        // Act: the user exists in the dataset only, so the lookup itself fails
+        final List<CapturedQuery> queries =
+                QueryCapture.capture(() -> catchThrowable(() -> userRepository.loadUserByUsername(username)));
+
+        // Assert
+        assertPlans(queries, LOOKUP_BUFFER_BUDGET);
+    }
+
+    @Test
+    void testActiveUsersFilter() throws SQLException, IOException {
+        // Arrange
+        final Condition condition = PropertyCondition.equal("active", true);
+
+        // Act
+        final List<CapturedQuery> queries =
+                QueryCapture.capture(() -> dataManager.loadList(pageContext(0, condition)));
+
+        // Assert
+        assertPlans(queries, PAGE_BUFFER_BUDGET);
+    }
+
+    @Test
+    void testUsernameContainsFilter() throws SQLException, IOException {
+        // Arrange: case-insensitive "contains" of the unique username suffix, as typed into the username filter
+        final String username = QueryPlanDataset.user(DATASET_USER_INDEX).username();
+        final String search = "%" + username.substring(username.lastIndexOf('.')) + "%";
+        final Condition condition = JpqlCondition.createWithParameters(
+                "lower(e.username) like :usernameSearch", null, Map.of("usernameSearch", search));
+
+        // Act
+        final List<CapturedQuery> queries =
+                QueryCapture.capture(() -> dataManager.loadList(pageContext(0, condition)));
+
+        // Assert
+        assertPlans(queries, SEARCH_BUFFER_BUDGET);
+    }
+
+    private LoadContext<User> pageContext(final int firstResult, final Condition condition) {
+        final LoadContext.Query query = new LoadContext.Query(LIST_QUERY)
+                .setSort(Sort.by("username"))
+                .setFirstResult(firstResult)
+                .setMaxResults(PAGE_SIZE);
+        if (condition != null) {
+            query.setCondition(condition);
+        }
+        return LoadContext.create(User.class).setQuery(query);
+    }
+
+    private void assertPlans(final List<CapturedQuery> queries, final long bufferBudget)
+            throws SQLException, IOException {
+        final List<QueryPlan> plans = QueryPlanDataset.explain(dataSource, queries);
+        assertThat(plans).as("explained USER_ statements").isNotEmpty();
+        for (final QueryPlan plan : plans) {
+            log.info("Query plan: buffers={}, sql={}", plan.sharedBuffers(), plan.sql());
+            assertThat(plan.seqScannedRelations()).as("sequential scans of %s", plan).doesNotContain("user_");
+            assertThat(plan.sharedBuffers()).as("shared buffers of %s", plan).isLessThanOrEqualTo(bufferBudget);
+        }
+    }
+}